@@ -0,0 +1,27 @@
+package dbus.result.benchmarks;
+
+import dbus.result.Result;
+import dbus.result.void_.VoidResult;
+
+/**
+ * the branch a benchmark runs on, used as a JMH parameter so that every operator is measured on both sides.
+ */
+public enum Branch {
+    SUCCESS,
+    FAILURE;
+
+    static final String SUCCESS_VALUE = "success";
+    static final Integer FAILURE_VALUE = 42;
+
+    Result<String, Integer> result() {
+        return this == SUCCESS ? Result.success(SUCCESS_VALUE) : Result.failure(FAILURE_VALUE);
+    }
+
+    VoidResult<Integer> voidResult() {
+        return this == SUCCESS ? VoidResult.success() : VoidResult.failure(FAILURE_VALUE);
+    }
+
+    String input() {
+        return this == SUCCESS ? SUCCESS_VALUE : "";
+    }
+}
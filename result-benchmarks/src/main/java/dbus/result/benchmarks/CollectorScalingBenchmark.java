@@ -0,0 +1,74 @@
+package dbus.result.benchmarks;
+
+import dbus.result.Result;
+import dbus.result.Results;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * scaling of the result stream collectors on a parallel stream, from 1 to N threads.
+ * <p>
+ * The parallel stream runs in a dedicated {@link ForkJoinPool} sized by {@link #parallelism}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CollectorScalingBenchmark {
+
+    public enum Kind {
+        ORDERED(Result::collector),
+        UNORDERED(Result::unorderedCollector),
+        CONCURRENT(Result::concurrentCollector);
+
+        private final Function<Function<Results<Integer, Integer>, Result<Collection<Integer>, Collection<Integer>>>,
+                Collector<Result<Integer, Integer>, ?, Result<Collection<Integer>, Collection<Integer>>>> factory;
+
+        Kind(Function<Function<Results<Integer, Integer>, Result<Collection<Integer>, Collection<Integer>>>,
+                Collector<Result<Integer, Integer>, ?, Result<Collection<Integer>, Collection<Integer>>>> factory) {
+            this.factory = factory;
+        }
+    }
+
+    @Param({"1", "2", "4", "8"})
+    public int parallelism;
+
+    @Param
+    public Kind kind;
+
+    @Param({"1000000"})
+    public int size;
+
+    private List<Result<Integer, Integer>> results;
+    private ForkJoinPool pool;
+    private Collector<Result<Integer, Integer>, ?, Result<Collection<Integer>, Collection<Integer>>> collector;
+
+    @Setup
+    public void setup() {
+        results = IntStream.range(0, size)
+                .mapToObj(i -> i % 10 == 0 ? Result.<Integer, Integer>failure(i) : Result.<Integer, Integer>success(i))
+                .collect(Collectors.toList());
+        pool = new ForkJoinPool(parallelism);
+        collector = kind.factory.apply(Results.successIf(Results.anySuccess()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public Result<Collection<Integer>, Collection<Integer>> collect() {
+        return pool.submit(() -> results.parallelStream().collect(collector)).join();
+    }
+}
@@ -0,0 +1,71 @@
+package dbus.result.benchmarks;
+
+import dbus.result.Result;
+import dbus.result.void_.VoidResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * allocation of flatMap-heavy chains.
+ * <p>
+ * The bound functions return preallocated results, so any allocation reported by {@code gc.alloc.rate.norm} for
+ * {@link #flatMapConstant()}, {@link #tryRecoveringConstant()} and {@link #voidFlatMapConstant()} is made by the
+ * library itself. {@link #flatMapAllocating()} shows the expected cost of one new success per step.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlatMapChainBenchmark {
+
+    private static final Result<Integer, Integer> CONSTANT_SUCCESS = Result.success(1);
+    private static final Result<Integer, Integer> CONSTANT_FAILURE = Result.failure(1);
+    private static final Function<Integer, Result<Integer, Integer>> TO_CONSTANT = i -> CONSTANT_SUCCESS;
+    private static final Function<Integer, Result<Integer, Integer>> TO_NEW = i -> Result.success(i + 1);
+    private static final Function<Integer, Result<Integer, Integer>> RECOVER_TO_CONSTANT = i -> CONSTANT_FAILURE;
+    private static final Supplier<VoidResult<Integer>> TO_VOID = VoidResult::success;
+
+    @Param({"1", "8", "32"})
+    public int depth;
+
+    @Benchmark
+    public Result<Integer, Integer> flatMapConstant() {
+        Result<Integer, Integer> current = CONSTANT_SUCCESS;
+        for (int i = 0; i < depth; i++) {
+            current = current.flatMap(TO_CONSTANT);
+        }
+        return current;
+    }
+
+    @Benchmark
+    public Result<Integer, Integer> flatMapAllocating() {
+        Result<Integer, Integer> current = CONSTANT_SUCCESS;
+        for (int i = 0; i < depth; i++) {
+            current = current.flatMap(TO_NEW);
+        }
+        return current;
+    }
+
+    @Benchmark
+    public Result<Integer, Integer> tryRecoveringConstant() {
+        Result<Integer, Integer> current = CONSTANT_FAILURE;
+        for (int i = 0; i < depth; i++) {
+            current = current.tryRecovering(RECOVER_TO_CONSTANT);
+        }
+        return current;
+    }
+
+    @Benchmark
+    public VoidResult<Integer> voidFlatMapConstant() {
+        VoidResult<Integer> current = VoidResult.success();
+        for (int i = 0; i < depth; i++) {
+            current = current.flatMap(TO_VOID);
+        }
+        return current;
+    }
+}
@@ -0,0 +1,74 @@
+package dbus.result.benchmarks;
+
+import dbus.result.Result;
+import dbus.result.ResultFunction;
+import dbus.result.ResultPipeline;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * cost of {@link ResultFunction} chains of increasing depth, composed by the composition methods, compiled by
+ * {@link ResultPipeline#compile(ResultFunction)} or nested by hand.
+ * <p>
+ * Each stage alternates between {@link ResultFunction#map(Function)} and {@link ResultFunction#flatMap(Function)}.
+ * Chains are built once at setup : only their application is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FusionBenchmark {
+
+    @Param({"1", "4", "16", "32", "64"})
+    public int depth;
+
+    @Param
+    public Branch branch;
+
+    private String input;
+
+    private ResultFunction<String, Integer, Integer> composed;
+    private ResultFunction<String, Integer, Integer> compiled;
+    private Function<String, Result<Integer, Integer>> nested;
+
+    @Setup
+    public void setup() {
+        input = branch.input();
+
+        ResultFunction<String, Integer, Integer> parse =
+                s -> s.isEmpty() ? Result.failure(Branch.FAILURE_VALUE) : Result.success(s.length());
+
+        composed = parse;
+        nested = parse;
+        for (int i = 0; i < depth; i++) {
+            Function<String, Result<Integer, Integer>> previous = nested;
+            if (i % 2 == 0) {
+                composed = composed.map(n -> n + 1);
+                nested = s -> previous.apply(s).map(n -> n + 1);
+            } else {
+                composed = composed.flatMap(n -> Result.success(n * 2));
+                nested = s -> previous.apply(s).flatMap(n -> Result.success(n * 2));
+            }
+        }
+        compiled = ResultPipeline.compile(composed);
+    }
+
+    @Benchmark
+    public Result<Integer, Integer> composed() {
+        return composed.apply(input);
+    }
+
+    @Benchmark
+    public Result<Integer, Integer> compiled() {
+        return compiled.apply(input);
+    }
+
+    @Benchmark
+    public Result<Integer, Integer> nested() {
+        return nested.apply(input);
+    }
+}
@@ -0,0 +1,84 @@
+package dbus.result.benchmarks;
+
+import dbus.result.Result;
+import dbus.result.batch.DoubleResultBatch;
+import dbus.result.batch.IntResultBatch;
+import dbus.result.primitive.IntResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * per-element {@code Result<Integer, F>} and {@link IntResult} lists against {@link IntResultBatch} on a
+ * map-validate-sum pricing pipeline, and the same pipeline on {@link DoubleResultBatch}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveBatchBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private List<Result<Integer, String>> boxed;
+    private List<IntResult<String>> primitive;
+    private IntResultBatch<String> intBatch;
+    private DoubleResultBatch<String> doubleBatch;
+
+    @Setup
+    public void setup() {
+        int[] quantities = IntStream.range(0, size)
+                .map(i -> ThreadLocalRandom.current().nextInt(-10, 1000))
+                .toArray();
+        boxed = IntStream.of(quantities).<Result<Integer, String>>mapToObj(Result::success).toList();
+        primitive = IntStream.of(quantities).mapToObj(IntResult::<String>success).toList();
+        intBatch = IntResultBatch.successes(quantities);
+        doubleBatch = DoubleResultBatch.successes(IntStream.of(quantities).asDoubleStream().toArray());
+    }
+
+    @Benchmark
+    public long boxedResults() {
+        long sum = 0;
+        for (Result<Integer, String> result : boxed) {
+            sum += result
+                    .map(q -> q * 3)
+                    .flatMap(q -> q >= 0 ? Result.success(q) : Result.failure("negative"))
+                    .recover(f -> 0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long primitiveResults() {
+        long sum = 0;
+        for (IntResult<String> result : primitive) {
+            sum += result
+                    .map(q -> q * 3)
+                    .flatMap(q -> q >= 0 ? IntResult.success(q) : IntResult.failure("negative"))
+                    .recover(f -> 0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long intBatch() {
+        return intBatch
+                .map(q -> q * 3)
+                .successIf(q -> q >= 0, "negative")
+                .sum();
+    }
+
+    @Benchmark
+    public double doubleBatch() {
+        return doubleBatch
+                .map(q -> q * 3)
+                .successIf(q -> q >= 0, "negative")
+                .sum();
+    }
+}
@@ -0,0 +1,62 @@
+package dbus.result.benchmarks;
+
+import dbus.result.Result;
+import dbus.result.primitive.IntResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * boxed {@code Result<Integer, F>} against {@link IntResult} on a small parse-and-score pipeline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveResultBenchmark {
+
+    @Param
+    public Branch branch;
+
+    private String input;
+
+    @Setup
+    public void setup() {
+        input = branch == Branch.SUCCESS ? "123456" : "not a number";
+    }
+
+    private static Result<Integer, String> parseBoxed(String s) {
+        return isDigits(s) ? Result.success(Integer.parseInt(s)) : Result.failure("not a number");
+    }
+
+    private static IntResult<String> parseInt(String s) {
+        return isDigits(s) ? IntResult.success(Integer.parseInt(s)) : IntResult.failure("not a number");
+    }
+
+    private static boolean isDigits(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (!Character.isDigit(s.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Benchmark
+    public int boxed() {
+        return parseBoxed(input)
+                .map(i -> i * 3)
+                .map(i -> i + 7)
+                .recover(f -> -1);
+    }
+
+    @Benchmark
+    public int primitive() {
+        return parseInt(input)
+                .map(i -> i * 3)
+                .map(i -> i + 7)
+                .recover(f -> -1);
+    }
+}
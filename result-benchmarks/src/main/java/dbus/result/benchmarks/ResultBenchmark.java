@@ -0,0 +1,138 @@
+package dbus.result.benchmarks;
+
+import dbus.result.Result;
+import dbus.result.void_.VoidResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * cost of each {@link Result} operator, on both the success and the failure branch.
+ * <p>
+ * All functions are non-capturing constants so that the measured allocation is the one of the operator itself.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultBenchmark {
+
+    private static final Function<String, Integer> LENGTH = String::length;
+    private static final Supplier<Integer> ZERO = () -> 0;
+    private static final Consumer<String> IGNORE = s -> {
+    };
+    private static final Function<Integer, String> DESCRIBE = i -> "failure";
+    private static final Supplier<String> DEFAULT_FAILURE = () -> "failure";
+    private static final Consumer<Integer> IGNORE_FAILURE = i -> {
+    };
+    private static final Result<Integer, Integer> BOUND_SUCCESS = Result.success(0);
+    private static final Function<String, Result<Integer, Integer>> BOUND = s -> BOUND_SUCCESS;
+    private static final Supplier<Result<Integer, Integer>> BOUND_SUPPLIER = () -> BOUND_SUCCESS;
+    private static final Function<String, VoidResult<Integer>> BOUND_VOID = s -> VoidResult.success();
+    private static final Function<Integer, String> RECOVER = i -> "recovered";
+    private static final Supplier<String> RECOVER_SUPPLIER = () -> "recovered";
+    private static final Result<String, Integer> RECOVERED = Result.success("recovered");
+    private static final Function<Integer, Result<String, Integer>> TRY_RECOVER = i -> RECOVERED;
+    private static final Supplier<Result<String, Integer>> TRY_RECOVER_SUPPLIER = () -> RECOVERED;
+
+    @Param
+    public Branch branch;
+
+    private Result<String, Integer> result;
+
+    @Setup
+    public void setup() {
+        result = branch.result();
+    }
+
+    @Benchmark
+    public Integer match() {
+        return result.match(LENGTH, i -> i);
+    }
+
+    @Benchmark
+    public int matchInt() {
+        return result.matchInt(String::length, i -> i);
+    }
+
+    @Benchmark
+    public boolean matchBoolean() {
+        return result.matchBoolean(String::isEmpty, i -> false);
+    }
+
+    @Benchmark
+    public int accessors() {
+        return result.isSuccess() ? result.successValue().length() : result.failureValue();
+    }
+
+    @Benchmark
+    public Result<Integer, Integer> map() {
+        return result.map(LENGTH);
+    }
+
+    @Benchmark
+    public Result<Integer, Integer> mapSupplier() {
+        return result.map(ZERO);
+    }
+
+    @Benchmark
+    public VoidResult<Integer> mapConsumer() {
+        return result.map(IGNORE);
+    }
+
+    @Benchmark
+    public Result<String, String> mapFailure() {
+        return result.mapFailure(DESCRIBE);
+    }
+
+    @Benchmark
+    public Result<String, String> mapFailureSupplier() {
+        return result.mapFailure(DEFAULT_FAILURE);
+    }
+
+    @Benchmark
+    public Optional<String> mapFailureConsumer() {
+        return result.mapFailure(IGNORE_FAILURE);
+    }
+
+    @Benchmark
+    public Result<Integer, Integer> flatMap() {
+        return result.flatMap(BOUND);
+    }
+
+    @Benchmark
+    public Result<Integer, Integer> flatMapSupplier() {
+        return result.flatMap(BOUND_SUPPLIER);
+    }
+
+    @Benchmark
+    public VoidResult<Integer> flatMapToVoid() {
+        return result.flatMapToVoid(BOUND_VOID);
+    }
+
+    @Benchmark
+    public String recover() {
+        return result.recover(RECOVER);
+    }
+
+    @Benchmark
+    public String recoverSupplier() {
+        return result.recover(RECOVER_SUPPLIER);
+    }
+
+    @Benchmark
+    public Result<String, Integer> tryRecovering() {
+        return result.tryRecovering(TRY_RECOVER);
+    }
+
+    @Benchmark
+    public Result<String, Integer> tryRecoveringSupplier() {
+        return result.tryRecovering(TRY_RECOVER_SUPPLIER);
+    }
+}
@@ -0,0 +1,66 @@
+package dbus.result.benchmarks;
+
+import dbus.result.Result;
+import dbus.result.io.PayloadCodec;
+import dbus.result.io.ResultCodec;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * {@link ResultCodec} against a naive textual serialization, one line per result, on a round trip of a list of
+ * results where one result out of ten is a failure.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultCodecBenchmark {
+
+    @Param({"1000"})
+    public int size;
+
+    private final ResultCodec<Long, String> codec = ResultCodec.of(PayloadCodec.longs(), PayloadCodec.utf8());
+    private List<Result<Long, String>> results;
+    private ByteBuffer buffer;
+
+    @Setup
+    public void setup() {
+        results = IntStream.range(0, size)
+                .<Result<Long, String>>mapToObj(i -> i % 10 == 0 ?
+                        Result.failure("customer " + i + " not found") :
+                        Result.success(i * 1_000_003L))
+                .toList();
+        buffer = ByteBuffer.allocate(codec.encodedSize(results));
+    }
+
+    @Benchmark
+    public List<Result<Long, String>> codec() {
+        codec.encodeAll(results, buffer.clear());
+        return codec.decodeAll(buffer.flip());
+    }
+
+    @Benchmark
+    public List<Result<Long, String>> naive() {
+        StringBuilder text = new StringBuilder();
+        for (Result<Long, String> result : results) {
+            text.append(result.isSuccess() ? "S:" + result.successValue() : "F:" + result.failureValue()).append('\n');
+        }
+        byte[] bytes = text.toString().getBytes(StandardCharsets.UTF_8);
+
+        List<Result<Long, String>> decoded = new ArrayList<>(size);
+        for (String line : new String(bytes, StandardCharsets.UTF_8).split("\n")) {
+            decoded.add(line.startsWith("S:") ?
+                    Result.success(Long.parseLong(line.substring(2))) :
+                    Result.failure(line.substring(2)));
+        }
+        return decoded;
+    }
+}
@@ -0,0 +1,83 @@
+package dbus.result.benchmarks;
+
+import dbus.result.Result;
+import dbus.result.ResultFunction;
+import dbus.result.void_.VoidResult;
+import dbus.result.void_.VoidResultFunction;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * cost of composed {@link ResultFunction} and {@link VoidResultFunction} chains, on both the success and the failure
+ * branch.
+ * <p>
+ * Chains are built once at setup : only their application is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultFunctionBenchmark {
+
+    @Param
+    public Branch branch;
+
+    private String input;
+
+    private ResultFunction<String, String, Integer> asResultFunction;
+    private ResultFunction<String, Integer, String> resultChain;
+    private VoidResultFunction<String, String> voidResultChain;
+    private ResultFunction<String, Integer, Integer> bridgeChain;
+
+    @Setup
+    public void setup() {
+        input = branch.input();
+
+        Function<String, Result<String, Integer>> parse =
+                s -> s.isEmpty() ? Result.failure(Branch.FAILURE_VALUE) : Result.success(s);
+        asResultFunction = ResultFunction.asResultFunction(parse);
+
+        resultChain = asResultFunction
+                .map(String::length)
+                .flatMap(i -> Result.success(i + 1))
+                .map(i -> i * 2)
+                .thenTryRecovering(f -> Result.failure(f + 1))
+                .mapFailure(Object::toString);
+
+        voidResultChain = VoidResultFunction.<String, Integer>successIf(s -> !s.isEmpty(), Branch.FAILURE_VALUE)
+                .map(() -> {
+                })
+                .flatMap(VoidResult::success)
+                .thenTryRecovering(f -> VoidResult.failure(f + 1))
+                .mapFailure(Object::toString);
+
+        bridgeChain = asResultFunction
+                .flatMapToVoid(s -> VoidResult.success())
+                .flatMapToResult(() -> Result.success(1))
+                .map(i -> i + 1);
+    }
+
+    @Benchmark
+    public Result<String, Integer> asResultFunction() {
+        return asResultFunction.apply(input);
+    }
+
+    @Benchmark
+    public Result<Integer, String> resultChain() {
+        return resultChain.apply(input);
+    }
+
+    @Benchmark
+    public VoidResult<String> voidResultChain() {
+        return voidResultChain.apply(input);
+    }
+
+    @Benchmark
+    public Result<Integer, Integer> bridgeChain() {
+        return bridgeChain.apply(input);
+    }
+}
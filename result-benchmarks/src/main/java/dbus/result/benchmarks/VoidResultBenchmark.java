@@ -0,0 +1,95 @@
+package dbus.result.benchmarks;
+
+import dbus.result.Result;
+import dbus.result.void_.VoidResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * cost of each {@link VoidResult} operator, on both the success and the failure branch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VoidResultBenchmark {
+
+    private static final Runnable NOTHING = () -> {
+    };
+    private static final Supplier<String> VALUE = () -> "value";
+    private static final Function<Integer, String> DESCRIBE = i -> "failure";
+    private static final Supplier<String> DEFAULT_FAILURE = () -> "failure";
+    private static final Consumer<Integer> IGNORE_FAILURE = i -> {
+    };
+    private static final Supplier<VoidResult<Integer>> BOUND = VoidResult::success;
+    private static final Result<String, Integer> BOUND_RESULT = Result.success("value");
+    private static final Supplier<Result<String, Integer>> BOUND_TO_RESULT = () -> BOUND_RESULT;
+    private static final Function<Integer, VoidResult<Integer>> TRY_RECOVER = i -> VoidResult.success();
+    private static final Supplier<VoidResult<Integer>> TRY_RECOVER_SUPPLIER = VoidResult::success;
+
+    @Param
+    public Branch branch;
+
+    private VoidResult<Integer> result;
+
+    @Setup
+    public void setup() {
+        result = branch.voidResult();
+    }
+
+    @Benchmark
+    public String match() {
+        return result.match(VALUE, DESCRIBE);
+    }
+
+    @Benchmark
+    public VoidResult<Integer> mapRunnable() {
+        return result.map(NOTHING);
+    }
+
+    @Benchmark
+    public Result<String, Integer> mapSupplier() {
+        return result.map(VALUE);
+    }
+
+    @Benchmark
+    public VoidResult<String> mapFailure() {
+        return result.mapFailure(DESCRIBE);
+    }
+
+    @Benchmark
+    public VoidResult<String> mapFailureSupplier() {
+        return result.mapFailure(DEFAULT_FAILURE);
+    }
+
+    @Benchmark
+    public void mapFailureConsumer() {
+        result.mapFailure(IGNORE_FAILURE);
+    }
+
+    @Benchmark
+    public VoidResult<Integer> flatMap() {
+        return result.flatMap(BOUND);
+    }
+
+    @Benchmark
+    public Result<String, Integer> flatMapToResult() {
+        return result.flatMapToResult(BOUND_TO_RESULT);
+    }
+
+    @Benchmark
+    public VoidResult<Integer> tryRecovering() {
+        return result.tryRecovering(TRY_RECOVER);
+    }
+
+    @Benchmark
+    public VoidResult<Integer> tryRecoveringSupplier() {
+        return result.tryRecovering(TRY_RECOVER_SUPPLIER);
+    }
+}
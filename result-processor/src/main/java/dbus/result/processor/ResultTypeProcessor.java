@@ -0,0 +1,103 @@
+package dbus.result.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * generates a dedicated result type for each failure type annotated with {@code dbus.result.ResultType}.
+ *
+ * @see ResultTypeSource
+ */
+@SupportedAnnotationTypes(ResultTypeProcessor.RESULT_TYPE)
+public final class ResultTypeProcessor extends AbstractProcessor {
+
+    static final String RESULT_TYPE = "dbus.result.ResultType";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                process((TypeElement) element);
+            }
+        }
+        return true;
+    }
+
+    private void process(TypeElement failureType) {
+        if (!failureType.getTypeParameters().isEmpty()) {
+            error(failureType, "@ResultType failure type must not be generic");
+            return;
+        }
+        if (failureType.getKind() == ElementKind.ENUM) {
+            List<String> constants = failureType.getEnclosedElements().stream()
+                    .filter(element -> element.getKind() == ElementKind.ENUM_CONSTANT)
+                    .map(element -> element.getSimpleName().toString())
+                    .toList();
+            write(failureType, ResultTypeSource.ofEnum(packageOf(failureType), nameOf(failureType),
+                    failureType.getQualifiedName().toString(), constants));
+        } else if (failureType.getModifiers().contains(Modifier.SEALED)) {
+            List<String> subtypes = failureType.getPermittedSubclasses().stream()
+                    .map(this::erasedName)
+                    .toList();
+            write(failureType, ResultTypeSource.ofSealed(packageOf(failureType), nameOf(failureType),
+                    failureType.getQualifiedName().toString(), subtypes));
+        } else {
+            error(failureType, "@ResultType failure type must be an enum or a sealed type");
+        }
+    }
+
+    private String packageOf(TypeElement failureType) {
+        PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(failureType);
+        return packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+    }
+
+    private String nameOf(TypeElement failureType) {
+        return failureType.getAnnotationMirrors().stream()
+                .filter(mirror -> ((TypeElement) mirror.getAnnotationType().asElement())
+                        .getQualifiedName().contentEquals(RESULT_TYPE))
+                .flatMap(mirror -> mirror.getElementValues().entrySet().stream())
+                .filter(entry -> entry.getKey().getSimpleName().contentEquals("name"))
+                .map(entry -> (String) entry.getValue().getValue())
+                .filter(name -> !name.isEmpty())
+                .findFirst()
+                .orElse(failureType.getSimpleName() + "Result");
+    }
+
+    private String erasedName(TypeMirror type) {
+        TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+        return element.getQualifiedName().toString();
+    }
+
+    private void write(TypeElement failureType, ResultTypeSource source) {
+        try (Writer writer = processingEnv.getFiler()
+                .createSourceFile(source.qualifiedName(), failureType)
+                .openWriter()) {
+            writer.write(source.content());
+        } catch (IOException e) {
+            error(failureType, "unable to write " + source.qualifiedName() + " : " + e.getMessage());
+        }
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
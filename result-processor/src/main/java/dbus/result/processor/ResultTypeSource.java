@@ -0,0 +1,426 @@
+package dbus.result.processor;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * source code of a result type generated for a failure type.
+ * <p>
+ * The generated class is a sealed {@code Success | Failure} union, like {@code dbus.result.Result}, with the failure
+ * type fixed. For an enum failure type, each constant has a single, preallocated failure instance, and the failure
+ * branch of the per constant {@code match} is an enum switch. For a sealed failure type, the per subtype
+ * {@code match} tests each permitted subtype in turn.
+ */
+final class ResultTypeSource {
+
+    private final String packageName;
+    private final String simpleName;
+    private final String failureType;
+    private final boolean enumFailure;
+    private final List<String> cases;
+    private final List<String> parameters;
+
+    private ResultTypeSource(String packageName, String simpleName, String failureType, boolean enumFailure,
+                             List<String> cases) {
+        this.packageName = packageName;
+        this.simpleName = simpleName;
+        this.failureType = failureType;
+        this.enumFailure = enumFailure;
+        this.cases = cases;
+        this.parameters = parameterNames(cases);
+    }
+
+    /**
+     * @param packageName the package of the generated class, empty for the unnamed package
+     * @param simpleName  the simple name of the generated class
+     * @param failureType the qualified name of the failure enum
+     * @param constants   the names of the enum constants
+     * @return the source of the result type
+     */
+    static ResultTypeSource ofEnum(String packageName, String simpleName, String failureType, List<String> constants) {
+        return new ResultTypeSource(packageName, simpleName, failureType, true, constants);
+    }
+
+    /**
+     * @param packageName the package of the generated class, empty for the unnamed package
+     * @param simpleName  the simple name of the generated class
+     * @param failureType the qualified name of the sealed failure type
+     * @param subtypes    the qualified names of the permitted subtypes
+     * @return the source of the result type
+     */
+    static ResultTypeSource ofSealed(String packageName, String simpleName, String failureType, List<String> subtypes) {
+        return new ResultTypeSource(packageName, simpleName, failureType, false, subtypes);
+    }
+
+    String qualifiedName() {
+        return packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+    }
+
+    private static List<String> parameterNames(List<String> cases) {
+        List<String> names = new ArrayList<>();
+        Set<String> used = new HashSet<>();
+        for (int i = 0; i < cases.size(); i++) {
+            String name = "on" + camelCase(simpleNameOf(cases.get(i)));
+            names.add(used.add(name) ? name : name + i);
+        }
+        return names;
+    }
+
+    private static String simpleNameOf(String name) {
+        return name.substring(name.lastIndexOf('.') + 1);
+    }
+
+    private static String camelCase(String name) {
+        if (!name.equals(name.toUpperCase(Locale.ROOT))) {
+            return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        }
+        StringBuilder camelCase = new StringBuilder();
+        for (String part : name.split("_")) {
+            if (!part.isEmpty()) {
+                camelCase.append(part.charAt(0)).append(part.substring(1).toLowerCase(Locale.ROOT));
+            }
+        }
+        return camelCase.length() == 0 ? "Value" : camelCase.toString();
+    }
+
+    /**
+     * the per case match is only generated when it cannot clash with the two functions match.
+     */
+    private boolean hasCaseMatch() {
+        return enumFailure ? !cases.isEmpty() : cases.size() > 1;
+    }
+
+    String content() {
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("""
+                import dbus.result.Result;
+
+                import javax.annotation.processing.Generated;
+                import java.util.NoSuchElementException;
+                import java.util.function.Function;
+                import java.util.function.Supplier;
+
+                import static java.util.Objects.requireNonNull;
+
+                /**
+                 * result of a computation which may fail with a {@link $F}.
+                 * <p>
+                 * Generated from {@link $F} by the {@code @ResultType} annotation processor.
+                 *
+                 * @param <S> the success type
+                 */
+                @Generated("dbus.result.processor.ResultTypeProcessor")
+                public abstract sealed class $N<S> permits $N.Success, $N.Failure {
+                """);
+        if (enumFailure) {
+            source.append("""
+
+                        private static final Failure<?>[] FAILURES;
+
+                        static {
+                            $F[] values = $F.values();
+                            FAILURES = new Failure<?>[values.length];
+                            for ($F value : values) {
+                                FAILURES[value.ordinal()] = new Failure<>(value);
+                            }
+                        }
+                    """);
+        }
+        source.append("""
+
+                    private $N() {
+                    }
+
+                    public static <S> $N<S> success(S value) {
+                        return new Success<>(value);
+                    }
+
+                """);
+        if (enumFailure) {
+            source.append("""
+                        /**
+                         * @param value the failure value
+                         * @param <S>   the success type
+                         * @return the preallocated failure instance of the provided constant
+                         */
+                        @SuppressWarnings("unchecked")
+                        public static <S> $N<S> failure($F value) {
+                            return ($N<S>) FAILURES[value.ordinal()];
+                        }
+                    """);
+        } else {
+            source.append("""
+                        public static <S> $N<S> failure($F value) {
+                            return new Failure<>(value);
+                        }
+                    """);
+        }
+        source.append("""
+
+                    /**
+                     * converts a {@link Result} failing with a {@link $F}.
+                     *
+                     * @param result the result to convert
+                     * @param <S>    the success type
+                     * @return an equivalent result
+                     */
+                    public static <S> $N<S> narrow(Result<? extends S, ? extends $F> result) {
+                        requireNonNull(result);
+                        return result.isSuccess() ? success(result.successValue()) : failure(result.failureValue());
+                    }
+
+                    public abstract boolean isSuccess();
+
+                    public final boolean isFailure() {
+                        return !isSuccess();
+                    }
+
+                    public abstract S successValue();
+
+                    public abstract $F failureValue();
+
+                    /**
+                     * @return an equivalent {@link Result}
+                     */
+                    public abstract Result<S, $F> toResult();
+
+                    public abstract <R> R match(Function<? super S, ? extends R> success, Function<? super $F, ? extends R> failure);
+                """);
+        if (hasCaseMatch()) {
+            source.append("""
+
+                        /**
+                         * matches the success, or the failure by its %s.
+                         */
+                        public abstract <R> R match(
+                                Function<? super S, ? extends R> success,
+                    %s
+                        );
+                    """.formatted(enumFailure ? "constant" : "type", caseParameters(12)));
+        }
+        source.append("""
+
+                    public abstract <R> $N<R> map(Function<? super S, ? extends R> mapper);
+
+                    public abstract <R> $N<R> flatMap(Function<? super S, ? extends $N<? extends R>> bound);
+
+                    public abstract S recover(Function<? super $F, ? extends S> recoveringFunction);
+
+                    public static final class Success<S> extends $N<S> {
+
+                        private final S value;
+
+                        private Success(S value) {
+                            this.value = requireNonNull(value);
+                        }
+
+                        @Override
+                        public boolean isSuccess() {
+                            return true;
+                        }
+
+                        @Override
+                        public S successValue() {
+                            return value;
+                        }
+
+                        @Override
+                        public $F failureValue() {
+                            throw new NoSuchElementException("no failure value in " + this);
+                        }
+
+                        @Override
+                        public Result<S, $F> toResult() {
+                            return Result.success(value);
+                        }
+
+                        @Override
+                        public <R> R match(Function<? super S, ? extends R> success, Function<? super $F, ? extends R> failure) {
+                            requireNonNull(failure);
+                            return success.apply(value);
+                        }
+                """);
+        if (hasCaseMatch()) {
+            source.append("""
+
+                            @Override
+                            public <R> R match(
+                                    Function<? super S, ? extends R> success,
+                    %s
+                            ) {
+                    %s
+                                return success.apply(value);
+                            }
+                    """.formatted(caseParameters(16), nullChecks(12)));
+        }
+        source.append("""
+
+                        @Override
+                        public <R> $N<R> map(Function<? super S, ? extends R> mapper) {
+                            return new Success<>(mapper.apply(value));
+                        }
+
+                        @Override
+                        @SuppressWarnings("unchecked")
+                        public <R> $N<R> flatMap(Function<? super S, ? extends $N<? extends R>> bound) {
+                            return requireNonNull(($N<R>) bound.apply(value));
+                        }
+
+                        @Override
+                        public S recover(Function<? super $F, ? extends S> recoveringFunction) {
+                            requireNonNull(recoveringFunction);
+                            return value;
+                        }
+
+                        @Override
+                        public boolean equals(Object o) {
+                            return this == o || o instanceof Success<?> other && value.equals(other.value);
+                        }
+
+                        @Override
+                        public int hashCode() {
+                            return value.hashCode();
+                        }
+
+                        @Override
+                        public String toString() {
+                            return "Success(value=" + value + ")";
+                        }
+                    }
+
+                    public static final class Failure<S> extends $N<S> {
+
+                        private final $F value;
+
+                        private Failure($F value) {
+                            this.value = requireNonNull(value);
+                        }
+
+                        @Override
+                        public boolean isSuccess() {
+                            return false;
+                        }
+
+                        @Override
+                        public S successValue() {
+                            throw new NoSuchElementException("no success value in " + this);
+                        }
+
+                        @Override
+                        public $F failureValue() {
+                            return value;
+                        }
+
+                        @Override
+                        public Result<S, $F> toResult() {
+                            return Result.failure(value);
+                        }
+
+                        @Override
+                        public <R> R match(Function<? super S, ? extends R> success, Function<? super $F, ? extends R> failure) {
+                            requireNonNull(success);
+                            return failure.apply(value);
+                        }
+                """);
+        if (hasCaseMatch()) {
+            source.append("""
+
+                            @Override
+                            public <R> R match(
+                                    Function<? super S, ? extends R> success,
+                    %s
+                            ) {
+                                requireNonNull(success);
+                    %s
+                    %s
+                            }
+                    """.formatted(caseParameters(16), nullChecks(12), caseBody(12)));
+        }
+        source.append("""
+
+                        @Override
+                        @SuppressWarnings("unchecked")
+                        public <R> $N<R> map(Function<? super S, ? extends R> mapper) {
+                            requireNonNull(mapper);
+                            return ($N<R>) this;
+                        }
+
+                        @Override
+                        @SuppressWarnings("unchecked")
+                        public <R> $N<R> flatMap(Function<? super S, ? extends $N<? extends R>> bound) {
+                            requireNonNull(bound);
+                            return ($N<R>) this;
+                        }
+
+                        @Override
+                        public S recover(Function<? super $F, ? extends S> recoveringFunction) {
+                            return requireNonNull(recoveringFunction.apply(value));
+                        }
+
+                        @Override
+                        public boolean equals(Object o) {
+                            return this == o || o instanceof Failure<?> other && value.equals(other.value);
+                        }
+
+                        @Override
+                        public int hashCode() {
+                            return value.hashCode();
+                        }
+
+                        @Override
+                        public String toString() {
+                            return "Failure(value=" + value + ")";
+                        }
+                    }
+                }
+                """);
+        return source.toString()
+                .replace("$N", simpleName)
+                .replace("$F", failureType);
+    }
+
+    private String caseParameters(int indent) {
+        List<String> declarations = new ArrayList<>();
+        for (int i = 0; i < cases.size(); i++) {
+            String type = enumFailure
+                    ? "Supplier<? extends R>"
+                    : "Function<? super " + cases.get(i) + ", ? extends R>";
+            declarations.add(" ".repeat(indent) + type + " " + parameters.get(i));
+        }
+        return String.join(",\n", declarations);
+    }
+
+    private String nullChecks(int indent) {
+        List<String> checks = new ArrayList<>();
+        for (String parameter : parameters) {
+            checks.add(" ".repeat(indent) + "requireNonNull(" + parameter + ");");
+        }
+        return String.join("\n", checks);
+    }
+
+    private String caseBody(int indent) {
+        String margin = " ".repeat(indent);
+        List<String> lines = new ArrayList<>();
+        if (enumFailure) {
+            lines.add(margin + "return switch (value) {");
+            for (int i = 0; i < cases.size(); i++) {
+                lines.add(margin + "    case " + cases.get(i) + " -> " + parameters.get(i) + ".get();");
+            }
+            lines.add(margin + "};");
+        } else {
+            for (int i = 0; i < cases.size(); i++) {
+                lines.add(margin + "if (value instanceof " + cases.get(i) + " failure) {");
+                lines.add(margin + "    return " + parameters.get(i) + ".apply(failure);");
+                lines.add(margin + "}");
+            }
+            lines.add(margin + "throw new IllegalStateException(\"unexpected failure \" + value);");
+        }
+        return String.join("\n", lines);
+    }
+}
@@ -0,0 +1,10 @@
+package dbus.result.processor;
+
+import dbus.result.ResultType;
+
+@ResultType
+enum ParsingError {
+    EMPTY,
+    INVALID_FORMAT,
+    TOO_LONG
+}
@@ -0,0 +1,13 @@
+package dbus.result.processor;
+
+import dbus.result.ResultType;
+
+@ResultType(name = "PaymentResult")
+sealed interface PaymentError {
+
+    record Declined(String reason) implements PaymentError {
+    }
+
+    record Expired() implements PaymentError {
+    }
+}
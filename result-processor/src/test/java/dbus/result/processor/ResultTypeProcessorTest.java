@@ -0,0 +1,226 @@
+package dbus.result.processor;
+
+import dbus.result.Result;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ResultTypeProcessorTest {
+
+    @Nested
+    class EnumFailure {
+
+        @Test
+        public void failure_should_return_a_preallocated_instance_per_constant() {
+            // when
+            ParsingErrorResult<Integer> first = ParsingErrorResult.failure(ParsingError.EMPTY);
+            ParsingErrorResult<String> second = ParsingErrorResult.failure(ParsingError.EMPTY);
+
+            // then
+            assertThat((Object) first).isSameAs(second);
+            assertThat(first.failureValue()).isEqualTo(ParsingError.EMPTY);
+            assertThat(first.isFailure()).isTrue();
+        }
+
+        @Test
+        public void failure_should_not_accept_null_value() {
+            assertThrows(NullPointerException.class, () -> ParsingErrorResult.failure(null));
+        }
+
+        @Test
+        public void success_should_hold_its_value() {
+            // when
+            ParsingErrorResult<Integer> success = ParsingErrorResult.success(12);
+
+            // then
+            assertThat(success.isSuccess()).isTrue();
+            assertThat(success.successValue()).isEqualTo(12);
+            assertThrows(NoSuchElementException.class, success::failureValue);
+            assertThat(success).isEqualTo(ParsingErrorResult.success(12)).hasToString("Success(value=12)");
+        }
+
+        @Test
+        public void match_should_switch_over_the_failure_constant() {
+            // given
+            ParsingErrorResult<Integer> failure = ParsingErrorResult.failure(ParsingError.INVALID_FORMAT);
+
+            // when
+            String matched = failure.match(i -> "success", () -> "empty", () -> "invalid", () -> "too long");
+
+            // then
+            assertThat(matched).isEqualTo("invalid");
+        }
+
+        @Test
+        public void match_should_apply_success_function_on_success() {
+            // given
+            ParsingErrorResult<Integer> success = ParsingErrorResult.success(12);
+
+            // when
+            String matched = success.match(i -> "success " + i, () -> "empty", () -> "invalid", () -> "too long");
+
+            // then
+            assertThat(matched).isEqualTo("success 12");
+            assertThat(success.<String>match(i -> "success", f -> "failure")).isEqualTo("success");
+        }
+
+        @Test
+        public void map_and_flatMap_should_return_failure_unchanged() {
+            // given
+            ParsingErrorResult<String> failure = ParsingErrorResult.failure(ParsingError.TOO_LONG);
+
+            // when
+            ParsingErrorResult<Integer> mapped = failure.map(String::length);
+            ParsingErrorResult<Integer> bound = failure.flatMap(s -> ParsingErrorResult.success(s.length()));
+
+            // then
+            assertThat((Object) mapped).isSameAs(failure);
+            assertThat((Object) bound).isSameAs(failure);
+            assertThat(failure.recover(f -> f.name())).isEqualTo("TOO_LONG");
+        }
+
+        @Test
+        public void map_and_flatMap_should_apply_function_to_success() {
+            // given
+            ParsingErrorResult<String> success = ParsingErrorResult.success("four");
+
+            // when // then
+            assertThat(success.map(String::length)).isEqualTo(ParsingErrorResult.success(4));
+            assertThat(success.flatMap(s -> ParsingErrorResult.<Integer>failure(ParsingError.EMPTY)))
+                    .isEqualTo(ParsingErrorResult.failure(ParsingError.EMPTY));
+            assertThat(success.recover(f -> "recovered")).isEqualTo("four");
+        }
+
+        @Test
+        public void narrow_and_toResult_should_convert_from_and_to_result() {
+            // given
+            Result<Integer, ParsingError> success = Result.success(3);
+            Result<Integer, ParsingError> failure = Result.failure(ParsingError.EMPTY);
+
+            // when
+            ParsingErrorResult<Integer> narrowedSuccess = ParsingErrorResult.narrow(success);
+            ParsingErrorResult<Integer> narrowedFailure = ParsingErrorResult.narrow(failure);
+
+            // then
+            assertThat(narrowedSuccess).isEqualTo(ParsingErrorResult.success(3));
+            assertThat((Object) narrowedFailure).isSameAs(ParsingErrorResult.failure(ParsingError.EMPTY));
+            assertThat(narrowedSuccess.toResult()).isEqualTo(success);
+            assertThat(narrowedFailure.toResult()).isEqualTo(failure);
+        }
+    }
+
+    @Nested
+    class SealedFailure {
+
+        @Test
+        public void annotation_name_should_name_the_generated_class() {
+            assertThat(PaymentResult.class.getPackageName()).isEqualTo(PaymentError.class.getPackageName());
+        }
+
+        @Test
+        public void match_should_dispatch_over_the_permitted_subtypes() {
+            // given
+            PaymentResult<Integer> declined = PaymentResult.failure(new PaymentError.Declined("limit"));
+            PaymentResult<Integer> expired = PaymentResult.failure(new PaymentError.Expired());
+
+            // when // then
+            assertThat(declined.<String>match(i -> "paid", d -> "declined: " + d.reason(), e -> "expired"))
+                    .isEqualTo("declined: limit");
+            assertThat(expired.<String>match(i -> "paid", d -> "declined: " + d.reason(), e -> "expired"))
+                    .isEqualTo("expired");
+        }
+
+        @Test
+        public void failures_should_be_equal_by_value() {
+            assertThat(PaymentResult.failure(new PaymentError.Declined("limit")))
+                    .isEqualTo(PaymentResult.failure(new PaymentError.Declined("limit")))
+                    .hasToString("Failure(value=Declined[reason=limit])");
+        }
+    }
+
+    @Nested
+    class Diagnostics {
+
+        @TempDir
+        Path output;
+
+        @Test
+        public void processor_should_reject_a_failure_type_which_is_neither_an_enum_nor_sealed() throws Exception {
+            // given
+            String source = """
+                    package sample;
+
+                    @dbus.result.ResultType
+                    final class Plain {
+                    }
+                    """;
+
+            // when
+            List<Diagnostic<? extends JavaFileObject>> errors = compile("sample.Plain", source);
+
+            // then
+            assertThat(errors).extracting(error -> error.getMessage(Locale.ROOT))
+                    .containsExactly("@ResultType failure type must be an enum or a sealed type");
+        }
+
+        @Test
+        public void processor_should_reject_a_generic_failure_type() throws Exception {
+            // given
+            String source = """
+                    package sample;
+
+                    @dbus.result.ResultType
+                    sealed interface Generic<T> permits Generic.Only {
+                        record Only<T>(T value) implements Generic<T> {
+                        }
+                    }
+                    """;
+
+            // when
+            List<Diagnostic<? extends JavaFileObject>> errors = compile("sample.Generic", source);
+
+            // then
+            assertThat(errors).extracting(error -> error.getMessage(Locale.ROOT))
+                    .containsExactly("@ResultType failure type must not be generic");
+        }
+
+        private List<Diagnostic<? extends JavaFileObject>> compile(String className, String source) throws Exception {
+            JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+            DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+            try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, Locale.ROOT, null)) {
+                JavaFileObject file = new SimpleJavaFileObject(
+                        URI.create("string:///" + className.replace('.', '/') + ".java"), JavaFileObject.Kind.SOURCE) {
+                    @Override
+                    public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                        return source;
+                    }
+                };
+                JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+                        List.of("-proc:only", "-d", output.toString(), "-s", output.toString(),
+                                "-classpath", System.getProperty("java.class.path")),
+                        null, List.of(file));
+                task.setProcessors(List.of(new ResultTypeProcessor()));
+                task.call();
+            }
+            return diagnostics.getDiagnostics().stream()
+                    .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                    .toList();
+        }
+    }
+}
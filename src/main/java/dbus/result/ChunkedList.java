@@ -0,0 +1,115 @@
+package dbus.result;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * append only list made of linked chunks, used as the storage of {@link Results}.
+ * <p>
+ * Appending a whole other list only links its chunks after the last one, whatever their size, so that combining
+ * partial results of a parallel stream never copies any element. Chunks are flattened into a single array the first
+ * time the list is read by index.
+ *
+ * @param <E> the element type
+ */
+final class ChunkedList<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final int MIN_CHUNK_CAPACITY = 16;
+    private static final int MAX_CHUNK_CAPACITY = 1 << 14;
+
+    private static final class Chunk {
+        private final Object[] elements;
+        private int size;
+        private Chunk next;
+
+        private Chunk(Object[] elements, int size) {
+            this.elements = elements;
+            this.size = size;
+        }
+    }
+
+    private Chunk first;
+    private Chunk last;
+    private int size;
+
+    @Override
+    public boolean add(E element) {
+        if (last == null || last.size == last.elements.length) {
+            link(new Chunk(new Object[Math.max(MIN_CHUNK_CAPACITY, Math.min(size, MAX_CHUNK_CAPACITY))], 0));
+        }
+        last.elements[last.size++] = element;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * moves all the elements of the provided list at the end of this one, in constant time.
+     * <p>
+     * The provided list is left empty.
+     *
+     * @param other the list whose elements are moved
+     * @return this list
+     */
+    ChunkedList<E> append(ChunkedList<E> other) {
+        if (other == this || other.first == null) {
+            return this;
+        }
+        link(other.first);
+        last = other.last;
+        size += other.size;
+        modCount++;
+        other.first = null;
+        other.last = null;
+        other.size = 0;
+        other.modCount++;
+        return this;
+    }
+
+    private void link(Chunk chunk) {
+        if (first == null) {
+            first = chunk;
+        } else {
+            last.next = chunk;
+        }
+        last = chunk;
+    }
+
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        flatten();
+        //noinspection unchecked
+        return (E) first.elements[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Object[] toArray() {
+        if (first == null) {
+            return new Object[0];
+        }
+        flatten();
+        return Arrays.copyOf(first.elements, size);
+    }
+
+    private void flatten() {
+        if (first == last) {
+            return;
+        }
+        Object[] elements = new Object[size];
+        int offset = 0;
+        for (Chunk chunk = first; chunk != null; chunk = chunk.next) {
+            System.arraycopy(chunk.elements, 0, elements, offset, chunk.size);
+            offset += chunk.size;
+        }
+        first = new Chunk(elements, size);
+        last = first;
+    }
+}
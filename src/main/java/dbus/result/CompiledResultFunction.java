@@ -0,0 +1,30 @@
+package dbus.result;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+
+/**
+ * template of the hidden classes defined by {@link PipelineCompiler} for {@link ResultFunction}.
+ * <p>
+ * Each compiled pipeline is a hidden copy of this class, holding its own composition as a constant method handle :
+ * the JIT compiler specializes {@link #apply(Object)} for this composition only.
+ *
+ * @param <T> the input type
+ * @param <S> the success type
+ * @param <F> the failure type
+ */
+final class CompiledResultFunction<T, S, F> implements ResultFunction<T, S, F> {
+
+    private static final MethodHandle PIPELINE = PipelineCompiler.pipelineOf(MethodHandles.lookup());
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Result<S, F> apply(T input) {
+        try {
+            Object result = PIPELINE.invokeExact((Object) input);
+            return (Result<S, F>) result;
+        } catch (Throwable throwable) {
+            throw PipelineCompiler.rethrow(throwable);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package dbus.result;
+
+import dbus.result.void_.VoidResult;
+import dbus.result.void_.VoidResultFunction;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+
+/**
+ * template of the hidden classes defined by {@link PipelineCompiler} for {@link VoidResultFunction}.
+ *
+ * @param <T> the input type
+ * @param <F> the failure type
+ * @see CompiledResultFunction
+ */
+final class CompiledVoidResultFunction<T, F> implements VoidResultFunction<T, F> {
+
+    private static final MethodHandle PIPELINE = PipelineCompiler.pipelineOf(MethodHandles.lookup());
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public VoidResult<F> apply(T input) {
+        try {
+            Object result = PIPELINE.invokeExact((Object) input);
+            return (VoidResult<F>) result;
+        } catch (Throwable throwable) {
+            throw PipelineCompiler.rethrow(throwable);
+        }
+    }
+}
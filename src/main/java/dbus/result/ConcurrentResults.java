@@ -0,0 +1,62 @@
+package dbus.result;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+/**
+ * container of {@link Result#concurrentCollector(java.util.function.Function)}.
+ * <p>
+ * Each accumulating thread gets its own {@link Results} stripe, so that accumulation does not need any
+ * synchronization. Stripes are merged once, when the stream has been fully consumed.
+ * <p>
+ * Stripes are keyed by thread in a map owned by this container, rather than in a {@link ThreadLocal}, so that pool
+ * threads do not keep them reachable once the collection is over.
+ *
+ * @param <S> the success type
+ * @param <F> the failure type
+ */
+final class ConcurrentResults<S, F> {
+
+    private final Supplier<Results<S, F>> resultsSupplier;
+    private final Queue<Results<S, F>> stripes = new ConcurrentLinkedQueue<>();
+    private final Map<Thread, Results<S, F>> stripeByThread = new ConcurrentHashMap<>();
+
+    ConcurrentResults(Supplier<Results<S, F>> resultsSupplier) {
+        this.resultsSupplier = resultsSupplier;
+    }
+
+    private Results<S, F> newStripe(Thread thread) {
+        Results<S, F> results = resultsSupplier.get();
+        stripes.add(results);
+        return results;
+    }
+
+    void add(Result<S, F> result) {
+        Thread thread = Thread.currentThread();
+        Results<S, F> stripe = stripeByThread.get(thread);
+        if (stripe == null) {
+            stripe = stripeByThread.computeIfAbsent(thread, this::newStripe);
+        }
+        stripe.add(result);
+    }
+
+    ConcurrentResults<S, F> addAll(ConcurrentResults<S, F> other) {
+        stripes.addAll(other.stripes);
+        return this;
+    }
+
+    /**
+     * merges all the stripes, without copying any of their elements.
+     * <p>
+     * Must only be called once accumulation is over.
+     */
+    Results<S, F> merge() {
+        stripeByThread.clear();
+        Results<S, F> merged = resultsSupplier.get();
+        stripes.forEach(merged::addAll);
+        return merged;
+    }
+}
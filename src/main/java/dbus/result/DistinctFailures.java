@@ -0,0 +1,119 @@
+package dbus.result;
+
+/**
+ * approximate number of distinct failure values of multiple results, computed in fixed memory.
+ * <p>
+ * It relies on the HyperLogLog algorithm : failures are hashed into {@code 2^precision} one byte registers, each
+ * keeping the longest run of leading zeros observed. The relative standard error of the estimation is about
+ * {@code 1.04 / sqrt(2^precision)}, that is 1.6% for the default precision of 12 which uses 4 KB.
+ * <p>
+ * Failures are hashed from their {@link Object#hashCode()}, so failures that are equal must have equal hash codes,
+ * and failures with colliding hash codes are counted once.
+ * <p>
+ * Estimations are built by {@link Results#distinctFailures()} and {@link Results#distinctFailures(int)}, and merge
+ * across parallel stream segments without any loss of accuracy.
+ */
+public final class DistinctFailures {
+
+    static final int MIN_PRECISION = 4;
+    static final int MAX_PRECISION = 16;
+    static final int DEFAULT_PRECISION = 12;
+
+    private final int precision;
+    private final byte[] registers;
+    private long failureCount;
+
+    DistinctFailures(int precision) {
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    void add(Result<?, ?> result) {
+        if (result.isFailure()) {
+            addFailure(result.failureValue());
+        }
+    }
+
+    private void addFailure(Object failure) {
+        failureCount++;
+        long hash = mix(failure.hashCode());
+        int index = (int) (hash >>> (Long.SIZE - precision));
+        // a sentinel bit bounds the rank when all remaining bits are zeros
+        int rank = Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1;
+        if (rank > registers[index]) {
+            registers[index] = (byte) rank;
+        }
+    }
+
+    /**
+     * spreads the 32 bits of a hash code over 64 bits, using the finalizer of MurmurHash3.
+     */
+    private static long mix(int hashCode) {
+        long hash = hashCode;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    DistinctFailures addAll(DistinctFailures other) {
+        for (int i = 0; i < registers.length; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+        failureCount += other.failureCount;
+        return this;
+    }
+
+    /**
+     * @return the number of failures, distinct or not
+     */
+    public long failureCount() {
+        return failureCount;
+    }
+
+    /**
+     * @return the number of registers used is {@code 2^precision}
+     */
+    public int precision() {
+        return precision;
+    }
+
+    /**
+     * @return the estimated number of distinct failures, never greater than {@link DistinctFailures#failureCount()}
+     */
+    public long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int emptyRegisters = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                emptyRegisters++;
+            }
+        }
+        double estimate = alpha(m) * m * m / sum;
+        if (estimate <= 2.5 * m && emptyRegisters > 0) {
+            // linear counting is more accurate for small cardinalities
+            estimate = m * Math.log((double) m / emptyRegisters);
+        }
+        return Math.min(Math.round(estimate), failureCount);
+    }
+
+    private static double alpha(int m) {
+        return switch (m) {
+            case 16 -> 0.673;
+            case 32 -> 0.697;
+            case 64 -> 0.709;
+            default -> 0.7213 / (1 + 1.079 / m);
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "DistinctFailures(failures=" + failureCount + ", estimate=" + estimate() + ")";
+    }
+}
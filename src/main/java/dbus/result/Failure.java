@@ -1,31 +1,92 @@
 package dbus.result;
 
+import dbus.result.primitive.DoubleResult;
+import dbus.result.primitive.IntResult;
+import dbus.result.primitive.LongResult;
 import dbus.result.void_.VoidResult;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 
+import java.util.NoSuchElementException;
 import java.util.Optional;
-import java.util.function.Consumer;
-import java.util.function.Function;
-import java.util.function.Supplier;
+import java.util.function.*;
 
 import static dbus.result.Result.narrow;
 import static java.util.Objects.requireNonNull;
 
 @EqualsAndHashCode
 @ToString
-final class Failure<S, F> implements Result<S, F> {
+public final class Failure<S, F> implements Result<S, F> {
 
     private final F value;
 
+    /**
+     * the preallocated failures of each enum type, indexed by ordinal.
+     */
+    private static final ClassValue<Failure<?, ?>[]> ENUM_FAILURES = new ClassValue<>() {
+        @Override
+        protected Failure<?, ?>[] computeValue(Class<?> type) {
+            Object[] constants = type.getEnumConstants();
+            Failure<?, ?>[] failures = new Failure<?, ?>[constants.length];
+            for (int i = 0; i < constants.length; i++) {
+                failures[i] = new Failure<>(constants[i]);
+            }
+            return failures;
+        }
+    };
+
     private Failure(F value) {
         this.value = requireNonNull(value);
     }
 
+    /**
+     * creates a failure holding the provided value.
+     * <p>
+     * Failures holding an enum constant are preallocated : the same instance is returned for each constant, whatever
+     * the success type.
+     *
+     * @param value the failure value
+     * @param <S>   the success type
+     * @param <F>   the failure type
+     * @return a failure holding the provided value
+     */
+    @SuppressWarnings("unchecked")
     public static <S, F> Failure<S, F> failure(F value) {
+        if (value instanceof Enum<?> constant) {
+            return (Failure<S, F>) ENUM_FAILURES.get(constant.getDeclaringClass())[constant.ordinal()];
+        }
         return new Failure<>(value);
     }
 
+    /**
+     * accessor of the failure value, intended to be used with pattern matching on {@link Result}.
+     *
+     * @return the failure value
+     */
+    public F value() {
+        return value;
+    }
+
+    @Override
+    public boolean isSuccess() {
+        return false;
+    }
+
+    @Override
+    public boolean isFailure() {
+        return true;
+    }
+
+    @Override
+    public F failureValue() {
+        return value;
+    }
+
+    @Override
+    public S successValue() {
+        throw new NoSuchElementException("no success value in " + this);
+    }
+
     @Override
     public <R> R match(
             Function<? super S, ? extends R> success,
@@ -35,6 +96,30 @@ final class Failure<S, F> implements Result<S, F> {
         return failure.apply(value);
     }
 
+    @Override
+    public int matchInt(ToIntFunction<? super S> success, ToIntFunction<? super F> failure) {
+        requireNonNull(success);
+        return failure.applyAsInt(value);
+    }
+
+    @Override
+    public long matchLong(ToLongFunction<? super S> success, ToLongFunction<? super F> failure) {
+        requireNonNull(success);
+        return failure.applyAsLong(value);
+    }
+
+    @Override
+    public double matchDouble(ToDoubleFunction<? super S> success, ToDoubleFunction<? super F> failure) {
+        requireNonNull(success);
+        return failure.applyAsDouble(value);
+    }
+
+    @Override
+    public boolean matchBoolean(Predicate<? super S> success, Predicate<? super F> failure) {
+        requireNonNull(success);
+        return failure.test(value);
+    }
+
     private <ANY> Result<ANY, F> cast() {
         //noinspection unchecked
         return (Result<ANY, F>) this;
@@ -58,14 +143,32 @@ final class Failure<S, F> implements Result<S, F> {
         return VoidResult.failure(value);
     }
 
+    @Override
+    public IntResult<F> mapToInt(ToIntFunction<? super S> mapper) {
+        requireNonNull(mapper);
+        return IntResult.failure(value);
+    }
+
+    @Override
+    public LongResult<F> mapToLong(ToLongFunction<? super S> mapper) {
+        requireNonNull(mapper);
+        return LongResult.failure(value);
+    }
+
+    @Override
+    public DoubleResult<F> mapToDouble(ToDoubleFunction<? super S> mapper) {
+        requireNonNull(mapper);
+        return DoubleResult.failure(value);
+    }
+
     @Override
     public <G> Result<S, G> mapFailure(Function<? super F, ? extends G> mapper) {
-        return new Failure<>(mapper.apply(value));
+        return failure(mapper.apply(value));
     }
 
     @Override
     public <G> Result<S, G> mapFailure(Supplier<? extends G> mapper) {
-        return new Failure<>(mapper.get());
+        return failure(mapper.get());
     }
 
     @Override
@@ -0,0 +1,204 @@
+package dbus.result;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * storage of the failures of {@link Results}, that may retain only part of them while keeping their exact count.
+ *
+ * @param <F> the failure type
+ */
+abstract class FailureRetention<F> {
+
+    /**
+     * @return a retention keeping every failure
+     */
+    static <F> FailureRetention<F> all() {
+        return new All<>();
+    }
+
+    /**
+     * @param limit the maximum number of retained failures
+     * @return a retention keeping only the first failures
+     */
+    static <F> FailureRetention<F> first(int limit) {
+        return new First<>(checkLimit(limit));
+    }
+
+    /**
+     * @param limit the maximum number of retained failures
+     * @return a retention keeping a uniform random sample of the failures
+     */
+    static <F> FailureRetention<F> sample(int limit) {
+        return new Sample<>(checkLimit(limit));
+    }
+
+    static int checkLimit(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("failure retention limit must not be negative, got " + limit);
+        }
+        return limit;
+    }
+
+    abstract void add(F failure);
+
+    /**
+     * moves the failures of the provided retention, of the same kind, after the ones of this retention.
+     * <p>
+     * The provided retention is left empty.
+     */
+    abstract void addAll(FailureRetention<F> other);
+
+    abstract List<F> retained();
+
+    abstract long count();
+
+    private static final class All<F> extends FailureRetention<F> {
+
+        private final ChunkedList<F> failures = new ChunkedList<>();
+
+        @Override
+        void add(F failure) {
+            failures.add(failure);
+        }
+
+        @Override
+        void addAll(FailureRetention<F> other) {
+            failures.append(((All<F>) other).failures);
+        }
+
+        @Override
+        List<F> retained() {
+            return failures;
+        }
+
+        @Override
+        long count() {
+            return failures.size();
+        }
+    }
+
+    private static final class First<F> extends FailureRetention<F> {
+
+        private final int limit;
+        private final List<F> failures = new ArrayList<>();
+        private long count;
+
+        private First(int limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        void add(F failure) {
+            if (failures.size() < limit) {
+                failures.add(failure);
+            }
+            count++;
+        }
+
+        @Override
+        void addAll(FailureRetention<F> other) {
+            First<F> right = (First<F>) other;
+            int remaining = Math.min(limit - failures.size(), right.failures.size());
+            failures.addAll(right.failures.subList(0, remaining));
+            count += right.count;
+            right.failures.clear();
+            right.count = 0;
+        }
+
+        @Override
+        List<F> retained() {
+            return failures;
+        }
+
+        @Override
+        long count() {
+            return count;
+        }
+    }
+
+    /**
+     * reservoir sampling : every failure has the same probability to be retained.
+     */
+    private static final class Sample<F> extends FailureRetention<F> {
+
+        private final int limit;
+        private List<F> reservoir = new ArrayList<>();
+        private long count;
+
+        private Sample(int limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        void add(F failure) {
+            count++;
+            if (reservoir.size() < limit) {
+                reservoir.add(failure);
+            } else if (limit > 0) {
+                long slot = ThreadLocalRandom.current().nextLong(count);
+                if (slot < limit) {
+                    reservoir.set((int) slot, failure);
+                }
+            }
+        }
+
+        /**
+         * each retained failure is drawn from the left reservoir with a probability proportional to the number of
+         * failures the left side still represents, which keeps the merged sample uniform over both sides.
+         */
+        @Override
+        void addAll(FailureRetention<F> other) {
+            Sample<F> right = (Sample<F>) other;
+            if (right.count == 0) {
+                return;
+            }
+            if (count == 0) {
+                reservoir = right.reservoir;
+                count = right.count;
+                right.clear();
+                return;
+            }
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            List<F> left = new ArrayList<>(reservoir);
+            List<F> rightReservoir = new ArrayList<>(right.reservoir);
+            Collections.shuffle(left, random);
+            Collections.shuffle(rightReservoir, random);
+            long leftRemaining = count;
+            long rightRemaining = right.count;
+            int size = (int) Math.min(limit, leftRemaining + rightRemaining);
+            List<F> merged = new ArrayList<>(size);
+            int leftIndex = 0;
+            int rightIndex = 0;
+            while (merged.size() < size) {
+                if (random.nextLong(leftRemaining + rightRemaining) < leftRemaining) {
+                    merged.add(left.get(leftIndex++));
+                    leftRemaining--;
+                } else {
+                    merged.add(rightReservoir.get(rightIndex++));
+                    rightRemaining--;
+                }
+            }
+            reservoir = merged;
+            count += right.count;
+            right.clear();
+        }
+
+        private void clear() {
+            reservoir = new ArrayList<>();
+            count = 0;
+        }
+
+        @Override
+        List<F> retained() {
+            return reservoir;
+        }
+
+        @Override
+        long count() {
+            return count;
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package dbus.result;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * approximate summary of the most frequent failures of multiple results, computed in fixed memory.
+ * <p>
+ * It relies on the Space-Saving algorithm : at most {@code capacity} failure values are monitored at once. When an
+ * unmonitored failure occurs while all counters are taken, it replaces the least frequent monitored failure and
+ * inherits its count. Any failure occurring more than {@code failureCount() / capacity} times is guaranteed to be
+ * monitored, and every reported count overestimates the real one by at most its {@link FailureCount#error()}.
+ * <p>
+ * Summaries are built by {@link Results#topFailures(int)}, and merge across parallel stream segments without loss
+ * of these guarantees.
+ *
+ * @param <F> the failure type
+ */
+public final class FailureSummary<F> {
+
+    private final int capacity;
+    private final Map<F, Counter<F>> counters = new HashMap<>();
+    /**
+     * min-heap of the monitored counters, ordered by count, so that the least frequent one is found in O(1).
+     */
+    private final List<Counter<F>> heap = new ArrayList<>();
+    private long failureCount;
+
+    FailureSummary(int capacity) {
+        this.capacity = capacity;
+    }
+
+    void add(Result<?, F> result) {
+        if (result.isFailure()) {
+            addFailure(result.failureValue());
+        }
+    }
+
+    private void addFailure(F failure) {
+        failureCount++;
+        Counter<F> counter = counters.get(failure);
+        if (counter != null) {
+            counter.count++;
+            siftDown(counter.index);
+        } else if (heap.size() < capacity) {
+            push(new Counter<>(failure, 1, 0));
+        } else {
+            Counter<F> least = heap.get(0);
+            counters.remove(least.value);
+            least.error = least.count;
+            least.count++;
+            least.value = failure;
+            counters.put(failure, least);
+            siftDown(0);
+        }
+    }
+
+    /**
+     * merges both summaries : a failure that is not monitored by one side may have occurred up to the least count of
+     * that side, which is added to its count and error before only keeping the most frequent failures.
+     */
+    FailureSummary<F> addAll(FailureSummary<F> other) {
+        long leastCount = leastCount();
+        long otherLeastCount = other.leastCount();
+        List<Counter<F>> merged = new ArrayList<>(counters.size() + other.counters.size());
+        for (Counter<F> counter : heap) {
+            Counter<F> otherCounter = other.counters.get(counter.value);
+            merged.add(otherCounter == null ?
+                    new Counter<>(counter.value, counter.count + otherLeastCount, counter.error + otherLeastCount) :
+                    new Counter<>(counter.value, counter.count + otherCounter.count, counter.error + otherCounter.error));
+        }
+        for (Counter<F> otherCounter : other.heap) {
+            if (!counters.containsKey(otherCounter.value)) {
+                merged.add(new Counter<>(otherCounter.value, otherCounter.count + leastCount, otherCounter.error + leastCount));
+            }
+        }
+        merged.sort(Comparator.comparingLong((Counter<F> counter) -> counter.count).reversed());
+
+        counters.clear();
+        heap.clear();
+        merged.stream().limit(capacity).forEach(this::push);
+        failureCount += other.failureCount;
+        return this;
+    }
+
+    /**
+     * @return the least monitored count if all counters are taken, 0 otherwise
+     */
+    private long leastCount() {
+        return heap.size() < capacity ? 0 : heap.get(0).count;
+    }
+
+    /**
+     * @return the number of summarized failures
+     */
+    public long failureCount() {
+        return failureCount;
+    }
+
+    /**
+     * @return the maximum number of monitored failure values
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return every monitored failure, most frequent first
+     */
+    public List<FailureCount<F>> topFailures() {
+        return topFailures(capacity);
+    }
+
+    /**
+     * @param k the number of failures to return
+     * @return the {@code k} most frequent monitored failures, most frequent first
+     * @throws IllegalArgumentException if provided k is negative
+     */
+    public List<FailureCount<F>> topFailures(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("number of top failures must not be negative, got " + k);
+        }
+        return heap.stream()
+                .sorted(Comparator.comparingLong((Counter<F> counter) -> counter.count).reversed())
+                .limit(k)
+                .map(counter -> new FailureCount<>(counter.value, counter.count, counter.error))
+                .toList();
+    }
+
+    private void push(Counter<F> counter) {
+        counter.index = heap.size();
+        heap.add(counter);
+        counters.put(counter.value, counter);
+        siftUp(counter.index);
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (heap.get(parent).count <= heap.get(index).count) {
+                return;
+            }
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int smallest = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < heap.size() && heap.get(left).count < heap.get(smallest).count) {
+                smallest = left;
+            }
+            if (right < heap.size() && heap.get(right).count < heap.get(smallest).count) {
+                smallest = right;
+            }
+            if (smallest == index) {
+                return;
+            }
+            swap(index, smallest);
+            index = smallest;
+        }
+    }
+
+    private void swap(int i, int j) {
+        Counter<F> first = heap.get(i);
+        Counter<F> second = heap.get(j);
+        heap.set(i, second);
+        heap.set(j, first);
+        first.index = j;
+        second.index = i;
+    }
+
+    @Override
+    public String toString() {
+        return "FailureSummary(failures=" + failureCount + ", top=" + topFailures() + ")";
+    }
+
+    private static final class Counter<F> {
+        private F value;
+        private long count;
+        private long error;
+        private int index;
+
+        private Counter(F value, long count, long error) {
+            this.value = value;
+            this.count = count;
+            this.error = error;
+        }
+    }
+
+    /**
+     * approximate number of occurrences of a failure value.
+     * <p>
+     * The real number of occurrences is between {@code count() - error()} and {@code count()}.
+     *
+     * @param <F> the failure type
+     */
+    @EqualsAndHashCode
+    @ToString
+    public static final class FailureCount<F> {
+
+        private final F value;
+        private final long count;
+        private final long error;
+
+        FailureCount(F value, long count, long error) {
+            this.value = value;
+            this.count = count;
+            this.error = error;
+        }
+
+        /**
+         * @return the failure value
+         */
+        public F value() {
+            return value;
+        }
+
+        /**
+         * @return the estimated number of occurrences, never lower than the real one
+         */
+        public long count() {
+            return count;
+        }
+
+        /**
+         * @return the maximum overestimation of the count
+         */
+        public long error() {
+            return error;
+        }
+
+        /**
+         * @return the guaranteed number of occurrences
+         */
+        public long guaranteedCount() {
+            return count - error;
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package dbus.result;
+
+import dbus.result.void_.VoidResult;
+import dbus.result.void_.VoidResultFunction;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * composition of a source function with a list of stages, applied in a single loop.
+ * <p>
+ * Up to {@link #NESTING_LIMIT} stages, the composition is still applied as nested functions, which the JIT compiler
+ * can inline entirely. Beyond, nesting exceeds the inlining depth and every level costs a call and an intermediate
+ * result : the stages are applied in a single loop instead.
+ * <p>
+ * The outcome of each stage is kept in a mutable success flag and value, instead of creating an intermediate
+ * {@link Result} or {@link VoidResult} per stage. A result is only created at the end, unless the last result
+ * returned by the source or by a binding stage is still the outcome, in which case it is returned as is.
+ * <p>
+ * Composing a fused function copies its stage list, so that the previous function stays unchanged and the
+ * composition never nests.
+ *
+ * @param <T> the input type
+ * @see ResultPipeline
+ */
+abstract class FusedFunction<T> {
+
+    /**
+     * the maximum depth applied as nested functions.
+     */
+    static final int NESTING_LIMIT = 16;
+
+    enum Kind {
+        /**
+         * applies a function to a success value.
+         */
+        MAP,
+        /**
+         * applies a function to a success value, and forgets the value.
+         */
+        RUN,
+        /**
+         * applies a function to a failure value.
+         */
+        MAP_FAILURE,
+        /**
+         * binds a success value to a result.
+         */
+        FLAT_MAP,
+        /**
+         * binds a success value to a void result.
+         */
+        FLAT_MAP_VOID,
+        /**
+         * binds a failure value to a result.
+         */
+        TRY_RECOVERING,
+        /**
+         * binds a failure value to a void result.
+         */
+        TRY_RECOVERING_VOID
+    }
+
+    static final class Stage {
+        static final int MAPPING = 0;
+        static final int RUNNING = 1;
+        static final int BINDING = 2;
+        static final int VOID_BINDING = 3;
+
+        final Kind kind;
+        final Function<Object, Object> function;
+        final boolean onSuccess;
+        final int outcome;
+
+        @SuppressWarnings("unchecked")
+        Stage(Kind kind, Function<?, ?> function) {
+            this.kind = kind;
+            this.function = (Function<Object, Object>) function;
+            this.onSuccess = kind == Kind.MAP || kind == Kind.RUN || kind == Kind.FLAT_MAP || kind == Kind.FLAT_MAP_VOID;
+            this.outcome = switch (kind) {
+                case MAP, MAP_FAILURE -> MAPPING;
+                case RUN -> RUNNING;
+                case FLAT_MAP, TRY_RECOVERING -> BINDING;
+                case FLAT_MAP_VOID, TRY_RECOVERING_VOID -> VOID_BINDING;
+            };
+        }
+    }
+
+    final Function<? super T, ?> source;
+    final boolean voidSource;
+    final Stage[] stages;
+    final Function<? super T, ?> nested;
+
+    private FusedFunction(Function<? super T, ?> source, boolean voidSource, Stage[] stages, Function<? super T, ?> nested) {
+        this.source = source;
+        this.voidSource = voidSource;
+        this.stages = stages;
+        this.nested = stages.length <= NESTING_LIMIT ? nested : null;
+    }
+
+    /**
+     * composes the provided function, fused or not, with one more stage.
+     *
+     * @param function   the function to compose
+     * @param voidResult true if the provided function returns void results
+     * @param stage      the stage to add
+     * @param nested     the same composition, as a function applying the stage to the result of the provided function
+     * @param <T>        the input type
+     * @return a fused function returning results
+     */
+    static <T, S, F> FusedResultFunction<T, S, F> thenResult(
+            Function<? super T, ?> function,
+            boolean voidResult,
+            Stage stage,
+            Function<? super T, ?> nested
+    ) {
+        if (function instanceof FusedFunction<?> fused) {
+            @SuppressWarnings("unchecked")
+            FusedFunction<T> typed = (FusedFunction<T>) fused;
+            return new FusedResultFunction<>(typed.source, typed.voidSource, append(typed.stages, stage), nested);
+        }
+        return new FusedResultFunction<>(function, voidResult, new Stage[]{stage}, nested);
+    }
+
+    /**
+     * @see FusedFunction#thenResult(Function, boolean, Stage, Function)
+     */
+    static <T, F> FusedVoidResultFunction<T, F> thenVoid(
+            Function<? super T, ?> function,
+            boolean voidResult,
+            Stage stage,
+            Function<? super T, ?> nested
+    ) {
+        if (function instanceof FusedFunction<?> fused) {
+            @SuppressWarnings("unchecked")
+            FusedFunction<T> typed = (FusedFunction<T>) fused;
+            return new FusedVoidResultFunction<>(typed.source, typed.voidSource, append(typed.stages, stage), nested);
+        }
+        return new FusedVoidResultFunction<>(function, voidResult, new Stage[]{stage}, nested);
+    }
+
+    /**
+     * unwraps a fused function still applied as nested functions, so that composing it does not add a level.
+     *
+     * @param function the function to unwrap
+     * @param <T>      the input type
+     * @param <R>      the result type
+     * @return the nested functions applied by the provided function, or the function itself
+     */
+    @SuppressWarnings("unchecked")
+    static <T, R> Function<T, R> nestedOf(Function<T, R> function) {
+        if (function instanceof FusedFunction<?> fused && fused.nested != null) {
+            return (Function<T, R>) fused.nested;
+        }
+        return function;
+    }
+
+    private static Stage[] append(Stage[] stages, Stage stage) {
+        Stage[] appended = Arrays.copyOf(stages, stages.length + 1);
+        appended[stages.length] = stage;
+        return appended;
+    }
+
+    /**
+     * @return the number of fused stages
+     */
+    int depth() {
+        return stages.length;
+    }
+
+    /**
+     * applies the source and every stage to the provided input.
+     *
+     * @param input      the input
+     * @param voidResult true to return a void result, false to return a result
+     * @return a {@link VoidResult} or a {@link Result}
+     */
+    final Object applyStages(T input, boolean voidResult) {
+        Object last = source.apply(input);
+        boolean lastIsVoid = voidSource;
+        boolean success = isSuccess(last, lastIsVoid);
+        Object value = valueOf(last, lastIsVoid, success);
+
+        for (Stage stage : stages) {
+            if (stage.onSuccess != success) {
+                continue;
+            }
+            Object outcome = stage.function.apply(value);
+            if (stage.outcome == Stage.MAPPING) {
+                value = requireNonNull(outcome);
+                last = null;
+            } else if (stage.outcome == Stage.RUNNING) {
+                value = null;
+                last = null;
+            } else {
+                lastIsVoid = stage.outcome == Stage.VOID_BINDING;
+                success = isSuccess(outcome, lastIsVoid);
+                value = valueOf(outcome, lastIsVoid, success);
+                last = outcome;
+            }
+        }
+
+        if (last != null && lastIsVoid == voidResult) {
+            return last;
+        }
+        return materialize(success, value, voidResult);
+    }
+
+    private static boolean isSuccess(Object result, boolean voidResult) {
+        return voidResult ? ((VoidResult<?>) result).isSuccess() : ((Result<?, ?>) result).isSuccess();
+    }
+
+    private static Object valueOf(Object result, boolean voidResult, boolean success) {
+        if (voidResult) {
+            return success ? null : ((VoidResult<?>) result).failureValue();
+        }
+        Result<?, ?> typed = (Result<?, ?>) result;
+        return success ? typed.successValue() : typed.failureValue();
+    }
+
+    private static Object materialize(boolean success, Object value, boolean voidResult) {
+        if (voidResult) {
+            return success ? VoidResult.success() : VoidResult.failure(value);
+        }
+        return success ? Result.success(value) : Result.failure(value);
+    }
+
+    static final class FusedResultFunction<T, S, F> extends FusedFunction<T> implements ResultFunction<T, S, F> {
+
+        private FusedResultFunction(
+                Function<? super T, ?> source,
+                boolean voidSource,
+                Stage[] stages,
+                Function<? super T, ?> nested
+        ) {
+            super(source, voidSource, stages, nested);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Result<S, F> apply(T input) {
+            return (Result<S, F>) (nested != null ? nested.apply(input) : applyStages(input, false));
+        }
+    }
+
+    static final class FusedVoidResultFunction<T, F> extends FusedFunction<T> implements VoidResultFunction<T, F> {
+
+        private FusedVoidResultFunction(
+                Function<? super T, ?> source,
+                boolean voidSource,
+                Stage[] stages,
+                Function<? super T, ?> nested
+        ) {
+            super(source, voidSource, stages, nested);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public VoidResult<F> apply(T input) {
+            return (VoidResult<F>) (nested != null ? nested.apply(input) : applyStages(input, true));
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package dbus.result;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * class that represents multiple results, remembering the input that produced each of them.
+ * <p>
+ * Inputs and outcomes are stored side by side in append-only columns, one for the successful inputs and their
+ * successes, one for the failed inputs and their failures, so that no entry object is created per result.
+ * <p>
+ * {@link KeyedResults#retryFailures(Function)} only applies a function again to the failed inputs, instead of
+ * reprocessing every input.
+ * <p>
+ * This class is not thread safe.
+ *
+ * @param <K> the input type
+ * @param <S> the success type
+ * @param <F> the failure type
+ */
+public final class KeyedResults<K, S, F> {
+
+    private final ChunkedList<K> successKeys = new ChunkedList<>();
+    private final ChunkedList<S> successes = new ChunkedList<>();
+    private ChunkedList<K> failedKeys = new ChunkedList<>();
+    private ChunkedList<F> failures = new ChunkedList<>();
+
+    KeyedResults() {
+    }
+
+    /**
+     * creates a collector that applies the provided function to every input of a stream, keeping each input along
+     * with its outcome.
+     * <p>
+     * Inputs keep their encounter order among successes and among failures.
+     *
+     * @param function the function to apply to every input
+     * @param <K>      the input type
+     * @param <S>      the success type
+     * @param <F>      the failure type
+     * @return a collector returning the keyed results
+     * @throws NullPointerException if provided function is null
+     */
+    public static <K, S, F> Collector<K, ?, KeyedResults<K, S, F>> collector(
+            Function<? super K, ? extends Result<? extends S, ? extends F>> function
+    ) {
+        requireNonNull(function);
+        return Collector.of(
+                KeyedResults<K, S, F>::new,
+                (keyedResults, key) -> keyedResults.add(key, function.apply(key)),
+                KeyedResults::addAll,
+                Collector.Characteristics.IDENTITY_FINISH
+        );
+    }
+
+    void add(K key, Result<? extends S, ? extends F> result) {
+        if (result.isSuccess()) {
+            successKeys.add(key);
+            successes.add(result.successValue());
+        } else {
+            failedKeys.add(key);
+            failures.add(result.failureValue());
+        }
+    }
+
+    KeyedResults<K, S, F> addAll(KeyedResults<K, S, F> other) {
+        successKeys.append(other.successKeys);
+        successes.append(other.successes);
+        failedKeys.append(other.failedKeys);
+        failures.append(other.failures);
+        return this;
+    }
+
+    /**
+     * applies the provided function again to every failed input, in place.
+     * <p>
+     * Inputs that now succeed are moved after the current successes, and inputs that still fail keep their new
+     * failure. Successful inputs are never reprocessed.
+     * <p>
+     * If the function throws, these keyed results are left unchanged.
+     *
+     * @param function the function to apply to the failed inputs
+     * @return these keyed results
+     * @throws NullPointerException if provided function is null
+     */
+    public KeyedResults<K, S, F> retryFailures(Function<? super K, ? extends Result<? extends S, ? extends F>> function) {
+        requireNonNull(function);
+        KeyedResults<K, S, F> retried = new KeyedResults<>();
+        for (K key : failedKeys) {
+            retried.add(key, function.apply(key));
+        }
+        successKeys.append(retried.successKeys);
+        successes.append(retried.successes);
+        failedKeys = retried.failedKeys;
+        failures = retried.failures;
+        return this;
+    }
+
+    /**
+     * @return unmodifiable view of the successful inputs, in the same order as {@link KeyedResults#successes()}
+     */
+    public List<K> successKeys() {
+        return Collections.unmodifiableList(successKeys);
+    }
+
+    /**
+     * @return unmodifiable view of the successes
+     */
+    public List<S> successes() {
+        return Collections.unmodifiableList(successes);
+    }
+
+    /**
+     * @return unmodifiable view of the failed inputs, in the same order as {@link KeyedResults#failures()}
+     */
+    public List<K> failedKeys() {
+        return Collections.unmodifiableList(failedKeys);
+    }
+
+    /**
+     * @return unmodifiable view of the failures
+     */
+    public List<F> failures() {
+        return Collections.unmodifiableList(failures);
+    }
+
+    /**
+     * @return the failure of every failed input, in failure order
+     */
+    public Map<K, F> failuresByKey() {
+        Map<K, F> failuresByKey = new LinkedHashMap<>();
+        for (int i = 0; i < failedKeys.size(); i++) {
+            failuresByKey.put(failedKeys.get(i), failures.get(i));
+        }
+        return failuresByKey;
+    }
+
+    /**
+     * @return the number of successful inputs
+     */
+    public long successCount() {
+        return successes.size();
+    }
+
+    /**
+     * @return the number of failed inputs
+     */
+    public long failureCount() {
+        return failures.size();
+    }
+
+    /**
+     * forgets the inputs, so that reduction strategies of {@link Result#collector(Function)} can be applied.
+     *
+     * @return the successes and failures, without their inputs
+     */
+    public Results<S, F> toResults() {
+        Results<S, F> results = new Results<>();
+        successes.forEach(success -> results.add(Result.success(success)));
+        failures.forEach(failure -> results.add(Result.failure(failure)));
+        return results;
+    }
+
+    @Override
+    public String toString() {
+        return "KeyedResults(successes=" + successCount() + ", failures=" + failureCount() + ")";
+    }
+}
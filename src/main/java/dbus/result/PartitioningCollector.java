@@ -0,0 +1,115 @@
+package dbus.result;
+
+import java.util.Set;
+import java.util.function.*;
+import java.util.stream.Collector;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * collector behind {@link Result#partitioning(Collector, Collector, BiFunction)}.
+ * <p>
+ * Successes and failures are streamed directly into their downstream collector, nothing else is retained but the
+ * number of failures.
+ *
+ * @param <S>  the result stream success type
+ * @param <F>  the result stream failure type
+ * @param <SA> the success downstream accumulation type
+ * @param <FA> the failure downstream accumulation type
+ * @param <A>  the success downstream result type
+ * @param <B>  the failure downstream result type
+ * @param <R>  the collected type
+ */
+final class PartitioningCollector<S, F, SA, FA, A, B, R>
+        implements Collector<Result<S, F>, PartitioningCollector.Partition<SA, FA>, R> {
+
+    static final class Partition<SA, FA> {
+        private SA successes;
+        private FA failures;
+        private long failureCount;
+
+        private Partition(SA successes, FA failures) {
+            this.successes = successes;
+            this.failures = failures;
+        }
+    }
+
+    @FunctionalInterface
+    interface Merger<A, B, R> {
+        R merge(A successes, B failures, long failureCount);
+    }
+
+    private final Collector<? super S, SA, A> successDownstream;
+    private final Collector<? super F, FA, B> failureDownstream;
+    private final Merger<? super A, ? super B, ? extends R> merger;
+
+    private PartitioningCollector(
+            Collector<? super S, SA, A> successDownstream,
+            Collector<? super F, FA, B> failureDownstream,
+            Merger<? super A, ? super B, ? extends R> merger
+    ) {
+        this.successDownstream = requireNonNull(successDownstream);
+        this.failureDownstream = requireNonNull(failureDownstream);
+        this.merger = requireNonNull(merger);
+    }
+
+    static <S, F, SA, FA, A, B, R> Collector<Result<S, F>, ?, R> of(
+            Collector<? super S, SA, A> successDownstream,
+            Collector<? super F, FA, B> failureDownstream,
+            Merger<? super A, ? super B, ? extends R> merger
+    ) {
+        return new PartitioningCollector<>(successDownstream, failureDownstream, merger);
+    }
+
+    @Override
+    public Supplier<Partition<SA, FA>> supplier() {
+        Supplier<SA> successSupplier = successDownstream.supplier();
+        Supplier<FA> failureSupplier = failureDownstream.supplier();
+        return () -> new Partition<>(successSupplier.get(), failureSupplier.get());
+    }
+
+    @Override
+    public BiConsumer<Partition<SA, FA>, Result<S, F>> accumulator() {
+        BiConsumer<SA, ? super S> successAccumulator = successDownstream.accumulator();
+        BiConsumer<FA, ? super F> failureAccumulator = failureDownstream.accumulator();
+        return (partition, result) -> {
+            if (result.isSuccess()) {
+                successAccumulator.accept(partition.successes, result.successValue());
+            } else {
+                failureAccumulator.accept(partition.failures, result.failureValue());
+                partition.failureCount++;
+            }
+        };
+    }
+
+    @Override
+    public BinaryOperator<Partition<SA, FA>> combiner() {
+        BinaryOperator<SA> successCombiner = successDownstream.combiner();
+        BinaryOperator<FA> failureCombiner = failureDownstream.combiner();
+        return (left, right) -> {
+            left.successes = successCombiner.apply(left.successes, right.successes);
+            left.failures = failureCombiner.apply(left.failures, right.failures);
+            left.failureCount += right.failureCount;
+            return left;
+        };
+    }
+
+    @Override
+    public Function<Partition<SA, FA>, R> finisher() {
+        Function<SA, A> successFinisher = successDownstream.finisher();
+        Function<FA, B> failureFinisher = failureDownstream.finisher();
+        return partition -> merger.merge(
+                successFinisher.apply(partition.successes),
+                failureFinisher.apply(partition.failures),
+                partition.failureCount
+        );
+    }
+
+    @Override
+    public Set<Characteristics> characteristics() {
+        return successDownstream.characteristics().contains(Characteristics.UNORDERED)
+                && failureDownstream.characteristics().contains(Characteristics.UNORDERED) ?
+                Set.of(Characteristics.UNORDERED) :
+                Set.of();
+    }
+}
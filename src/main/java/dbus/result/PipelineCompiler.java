@@ -0,0 +1,282 @@
+package dbus.result;
+
+import dbus.result.FusedFunction.Stage;
+import dbus.result.void_.VoidResult;
+import dbus.result.void_.VoidResultFunction;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.constant.ConstantDescs;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * compiles fused functions to dedicated hidden classes.
+ * <p>
+ * The source and the stages of a fused function are composed into a single method handle, every stage function
+ * being bound as a constant. A hidden copy of {@link CompiledResultFunction} or {@link CompiledVoidResultFunction}
+ * is then defined with this method handle as class data, which it stores in a static final field. The JIT compiler
+ * thus sees a monomorphic call to a constant method handle, and can inline the whole pipeline, specialized for its
+ * own functions, as straight-line code.
+ *
+ * @see ResultPipeline#compile(ResultFunction)
+ */
+final class PipelineCompiler {
+
+    /**
+     * the maximum number of stages compiled in one class.
+     * <p>
+     * Longer pipelines are compiled as a chain of classes, each one small enough for the JIT compiler to inline
+     * entirely and quickly.
+     */
+    static final int SEGMENT_LENGTH = 16;
+
+    private static final Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType STEP = MethodType.methodType(Object.class, Function.class, Object.class);
+
+    private PipelineCompiler() {
+    }
+
+    private static final class Templates {
+        private static final byte[] RESULT_FUNCTION = bytesOf(CompiledResultFunction.class);
+        private static final byte[] VOID_RESULT_FUNCTION = bytesOf(CompiledVoidResultFunction.class);
+
+        private static byte[] bytesOf(Class<?> template) {
+            String name = template.getSimpleName() + ".class";
+            try (InputStream stream = template.getResourceAsStream(name)) {
+                if (stream == null) {
+                    throw new IllegalStateException("missing pipeline template " + name);
+                }
+                return stream.readAllBytes();
+            } catch (IOException e) {
+                throw new IllegalStateException("unreadable pipeline template " + name, e);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T, S, F> ResultFunction<T, S, F> compile(FusedFunction<T> function) {
+        return (ResultFunction<T, S, F>) compileSegments(function, false);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T, F> VoidResultFunction<T, F> compileVoid(FusedFunction<T> function) {
+        return (VoidResultFunction<T, F>) compileSegments(function, true);
+    }
+
+    /**
+     * compiles the stages by segments, each segment being the source of the next one.
+     */
+    private static Object compileSegments(FusedFunction<?> function, boolean voidResult) {
+        Object source = function.source;
+        boolean voidSource = function.voidSource;
+        Stage[] stages = function.stages;
+        for (int from = 0; ; from += SEGMENT_LENGTH) {
+            int to = Math.min(from + SEGMENT_LENGTH, stages.length);
+            boolean voidSegment = voidResultAfter(stages, from, to, voidSource);
+            if (to == stages.length) {
+                assert voidSegment == voidResult;
+                return define(voidSegment ? Templates.VOID_RESULT_FUNCTION : Templates.RESULT_FUNCTION,
+                        pipeline(source, voidSource, stages, from, to));
+            }
+            source = define(voidSegment ? Templates.VOID_RESULT_FUNCTION : Templates.RESULT_FUNCTION,
+                    pipeline(source, voidSource, stages, from, to));
+            voidSource = voidSegment;
+        }
+    }
+
+    private static boolean voidResultAfter(Stage[] stages, int from, int to, boolean voidSource) {
+        boolean voidResult = voidSource;
+        for (int i = from; i < to; i++) {
+            voidResult = switch (stages[i].kind) {
+                case MAP, FLAT_MAP, TRY_RECOVERING -> false;
+                case RUN, FLAT_MAP_VOID, TRY_RECOVERING_VOID -> true;
+                case MAP_FAILURE -> voidResult;
+            };
+        }
+        return voidResult;
+    }
+
+    private static Object define(byte[] template, MethodHandle pipeline) {
+        try {
+            Lookup hidden = LOOKUP.defineHiddenClassWithClassData(template, pipeline, true);
+            return hidden.findConstructor(hidden.lookupClass(), MethodType.methodType(void.class)).invoke();
+        } catch (Throwable throwable) {
+            throw new IllegalStateException("unable to compile pipeline", throwable);
+        }
+    }
+
+    /**
+     * called by the compiled templates to retrieve their pipeline.
+     *
+     * @param lookup the lookup of a compiled template
+     * @return its pipeline, or null for the template itself
+     */
+    static MethodHandle pipelineOf(Lookup lookup) {
+        try {
+            return MethodHandles.classData(lookup, ConstantDescs.DEFAULT_NAME, MethodHandle.class);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static RuntimeException rethrow(Throwable throwable) {
+        if (throwable instanceof RuntimeException exception) {
+            return exception;
+        }
+        if (throwable instanceof Error error) {
+            throw error;
+        }
+        return new UndeclaredThrowableException(throwable);
+    }
+
+    private static MethodHandle pipeline(Object source, boolean voidSource, Stage[] stages, int from, int to) {
+        MethodHandle[] handles = new MethodHandle[to - from + 1];
+        handles[0] = Steps.APPLY.bindTo(source);
+        boolean voidResult = voidSource;
+        for (int i = from; i < to; i++) {
+            Stage stage = stages[i];
+            handles[i - from + 1] = Steps.of(stage, voidResult).bindTo(stage.function);
+            voidResult = voidResultAfter(stages, i, i + 1, voidResult);
+        }
+        return compose(handles, 0, handles.length - 1);
+    }
+
+    /**
+     * composes handles as a balanced tree, so that the inlining depth grows logarithmically with the stage count.
+     */
+    private static MethodHandle compose(MethodHandle[] handles, int from, int to) {
+        if (from == to) {
+            return handles[from];
+        }
+        int middle = (from + to) >>> 1;
+        return MethodHandles.filterReturnValue(compose(handles, from, middle), compose(handles, middle + 1, to));
+    }
+
+    /**
+     * the application of each stage kind to a {@link Result} or a {@link VoidResult}.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes", "unused"})
+    private static final class Steps {
+        private static final MethodHandle APPLY = find(Function.class, "apply");
+        private static final MethodHandle MAP = step("map");
+        private static final MethodHandle MAP_VOID = step("mapVoid");
+        private static final MethodHandle RUN = step("run");
+        private static final MethodHandle RUN_VOID = step("runVoid");
+        private static final MethodHandle MAP_FAILURE = step("mapFailure");
+        private static final MethodHandle MAP_FAILURE_VOID = step("mapFailureVoid");
+        private static final MethodHandle FLAT_MAP = step("flatMap");
+        private static final MethodHandle FLAT_MAP_VOID = step("flatMapVoid");
+        private static final MethodHandle FLAT_MAP_TO_VOID = step("flatMapToVoid");
+        private static final MethodHandle FLAT_MAP_VOID_TO_VOID = step("flatMapVoidToVoid");
+        private static final MethodHandle TRY_RECOVERING = step("tryRecovering");
+        private static final MethodHandle TRY_RECOVERING_VOID = step("tryRecoveringVoid");
+
+        private static MethodHandle find(Class<?> type, String name) {
+            try {
+                return LOOKUP.findVirtual(type, name, MethodType.methodType(Object.class, Object.class));
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private static MethodHandle step(String name) {
+            try {
+                return LOOKUP.findStatic(Steps.class, name, STEP);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private static MethodHandle of(Stage stage, boolean voidResult) {
+            return switch (stage.kind) {
+                case MAP -> voidResult ? MAP_VOID : MAP;
+                case RUN -> voidResult ? RUN_VOID : RUN;
+                case MAP_FAILURE -> voidResult ? MAP_FAILURE_VOID : MAP_FAILURE;
+                case FLAT_MAP -> voidResult ? FLAT_MAP_VOID : FLAT_MAP;
+                case FLAT_MAP_VOID -> voidResult ? FLAT_MAP_VOID_TO_VOID : FLAT_MAP_TO_VOID;
+                case TRY_RECOVERING -> TRY_RECOVERING;
+                case TRY_RECOVERING_VOID -> TRY_RECOVERING_VOID;
+            };
+        }
+
+        private static Object map(Function function, Object outcome) {
+            Result result = (Result) outcome;
+            return result.isSuccess() ? Result.success(requireNonNull(function.apply(result.successValue()))) : result;
+        }
+
+        private static Object mapVoid(Function function, Object outcome) {
+            VoidResult result = (VoidResult) outcome;
+            return result.isSuccess()
+                    ? Result.success(requireNonNull(function.apply(null)))
+                    : Result.failure(result.failureValue());
+        }
+
+        private static Object run(Function function, Object outcome) {
+            Result result = (Result) outcome;
+            if (result.isSuccess()) {
+                function.apply(result.successValue());
+                return VoidResult.success();
+            }
+            return VoidResult.failure(result.failureValue());
+        }
+
+        private static Object runVoid(Function function, Object outcome) {
+            VoidResult result = (VoidResult) outcome;
+            if (result.isSuccess()) {
+                function.apply(null);
+            }
+            return result;
+        }
+
+        private static Object mapFailure(Function function, Object outcome) {
+            Result result = (Result) outcome;
+            return result.isSuccess() ? result : Result.failure(requireNonNull(function.apply(result.failureValue())));
+        }
+
+        private static Object mapFailureVoid(Function function, Object outcome) {
+            VoidResult result = (VoidResult) outcome;
+            return result.isSuccess()
+                    ? result
+                    : VoidResult.failure(requireNonNull(function.apply(result.failureValue())));
+        }
+
+        private static Object flatMap(Function function, Object outcome) {
+            Result result = (Result) outcome;
+            return result.isSuccess() ? requireNonNull(function.apply(result.successValue())) : result;
+        }
+
+        private static Object flatMapVoid(Function function, Object outcome) {
+            VoidResult result = (VoidResult) outcome;
+            return result.isSuccess() ? requireNonNull(function.apply(null)) : Result.failure(result.failureValue());
+        }
+
+        private static Object flatMapToVoid(Function function, Object outcome) {
+            Result result = (Result) outcome;
+            return result.isSuccess()
+                    ? requireNonNull(function.apply(result.successValue()))
+                    : VoidResult.failure(result.failureValue());
+        }
+
+        private static Object flatMapVoidToVoid(Function function, Object outcome) {
+            VoidResult result = (VoidResult) outcome;
+            return result.isSuccess() ? requireNonNull(function.apply(null)) : result;
+        }
+
+        private static Object tryRecovering(Function function, Object outcome) {
+            Result result = (Result) outcome;
+            return result.isSuccess() ? result : requireNonNull(function.apply(result.failureValue()));
+        }
+
+        private static Object tryRecoveringVoid(Function function, Object outcome) {
+            VoidResult result = (VoidResult) outcome;
+            return result.isSuccess() ? result : requireNonNull(function.apply(result.failureValue()));
+        }
+    }
+}
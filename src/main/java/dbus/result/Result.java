@@ -1,11 +1,20 @@
 package dbus.result;
 
+import dbus.result.primitive.DoubleResult;
+import dbus.result.primitive.IntResult;
+import dbus.result.primitive.LongResult;
 import dbus.result.void_.VoidResult;
 
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.*;
 import java.util.stream.Collector;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
 
 /**
  * Class representing either a success or a failure.
@@ -49,6 +58,8 @@ public sealed interface Result<S, F> permits Success, Failure {
 
     /**
      * Narrow the scope of success and failure types to a supertype of the provided result.
+     * <p>
+     * As results are immutable, this is a checked identity cast : the provided instance is returned as is.
      *
      * @param result the result that must be narrows
      * @param <S>    the desired success type
@@ -57,7 +68,9 @@ public sealed interface Result<S, F> permits Success, Failure {
      * @throws NullPointerException if provided result is null
      */
     static <S, F> Result<S, F> narrow(Result<? extends S, ? extends F> result) {
-        return result.match(Result::success, Result::failure);
+        requireNonNull(result);
+        //noinspection unchecked
+        return (Result<S, F>) result;
     }
 
     /**
@@ -112,6 +125,91 @@ public sealed interface Result<S, F> permits Success, Failure {
             Function<? super F, ? extends R> failure
     );
 
+    /**
+     * tells whether this result is a success.
+     * <p>
+     * Together with {@link Result#successValue()} and {@link Result#failureValue()}, this allows to inspect a result
+     * without providing any function. Pattern matching on the {@link Success} and {@link Failure} subtypes is also
+     * possible :
+     * <p>
+     * <code> if (result instanceof Success&lt;String, Integer&gt; success) { use(success.value()); } </code>
+     *
+     * @return true if this is a success, false otherwise
+     */
+    boolean isSuccess();
+
+    /**
+     * tells whether this result is a failure.
+     *
+     * @return true if this is a failure, false otherwise
+     * @see Result#isSuccess()
+     */
+    boolean isFailure();
+
+    /**
+     * direct access to the success value.
+     * <p>
+     * Intended to be guarded by {@link Result#isSuccess()}.
+     *
+     * @return the success value
+     * @throws java.util.NoSuchElementException if this is a failure
+     */
+    S successValue();
+
+    /**
+     * direct access to the failure value.
+     * <p>
+     * Intended to be guarded by {@link Result#isFailure()}.
+     *
+     * @return the failure value
+     * @throws java.util.NoSuchElementException if this is a success
+     */
+    F failureValue();
+
+    /**
+     * Pattern matching emulation on Result deconstructed subtypes, folding into an int without boxing.
+     *
+     * @param success the desired behavior in case of success.
+     * @param failure the desired behavior in cas of failure
+     * @return the int provided by one of the two provided functions
+     * @throws NullPointerException if any of its arguments is null
+     * @see Result#match(Function, Function)
+     */
+    int matchInt(ToIntFunction<? super S> success, ToIntFunction<? super F> failure);
+
+    /**
+     * Pattern matching emulation on Result deconstructed subtypes, folding into a long without boxing.
+     *
+     * @param success the desired behavior in case of success.
+     * @param failure the desired behavior in cas of failure
+     * @return the long provided by one of the two provided functions
+     * @throws NullPointerException if any of its arguments is null
+     * @see Result#match(Function, Function)
+     */
+    long matchLong(ToLongFunction<? super S> success, ToLongFunction<? super F> failure);
+
+    /**
+     * Pattern matching emulation on Result deconstructed subtypes, folding into a double without boxing.
+     *
+     * @param success the desired behavior in case of success.
+     * @param failure the desired behavior in cas of failure
+     * @return the double provided by one of the two provided functions
+     * @throws NullPointerException if any of its arguments is null
+     * @see Result#match(Function, Function)
+     */
+    double matchDouble(ToDoubleFunction<? super S> success, ToDoubleFunction<? super F> failure);
+
+    /**
+     * Pattern matching emulation on Result deconstructed subtypes, folding into a boolean without boxing.
+     *
+     * @param success the desired behavior in case of success.
+     * @param failure the desired behavior in cas of failure
+     * @return the boolean provided by one of the two provided predicates
+     * @throws NullPointerException if any of its arguments is null
+     * @see Result#match(Function, Function)
+     */
+    boolean matchBoolean(Predicate<? super S> success, Predicate<? super F> failure);
+
     /**
      * Result functor map function.
      * <p>
@@ -152,6 +250,42 @@ public sealed interface Result<S, F> permits Success, Failure {
      */
     VoidResult<F> map(Consumer<? super S> consumer);
 
+    /**
+     * bridge function from Result to {@link IntResult}.
+     * <p>
+     * It applies the provided mapper to the success value if this is a success, without boxing its result.
+     * Returns the current failure otherwise as an IntResult failure.
+     *
+     * @param mapper the mapper to apply to the success
+     * @return an IntResult containing either a mapped success or the current failure
+     * @throws NullPointerException when provided mapper is null
+     */
+    IntResult<F> mapToInt(ToIntFunction<? super S> mapper);
+
+    /**
+     * bridge function from Result to {@link LongResult}.
+     * <p>
+     * It applies the provided mapper to the success value if this is a success, without boxing its result.
+     * Returns the current failure otherwise as a LongResult failure.
+     *
+     * @param mapper the mapper to apply to the success
+     * @return a LongResult containing either a mapped success or the current failure
+     * @throws NullPointerException when provided mapper is null
+     */
+    LongResult<F> mapToLong(ToLongFunction<? super S> mapper);
+
+    /**
+     * bridge function from Result to {@link DoubleResult}.
+     * <p>
+     * It applies the provided mapper to the success value if this is a success, without boxing its result.
+     * Returns the current failure otherwise as a DoubleResult failure.
+     *
+     * @param mapper the mapper to apply to the success
+     * @return a DoubleResult containing either a mapped success or the current failure
+     * @throws NullPointerException when provided mapper is null
+     */
+    DoubleResult<F> mapToDouble(ToDoubleFunction<? super S> mapper);
+
     /**
      * Result bifunctor map function.
      * <p>
@@ -326,12 +460,39 @@ public sealed interface Result<S, F> permits Success, Failure {
      */
     static <S, F, NS, NF> Collector<Result<S, F>, ?, Result<NS, NF>>
     collector(final Function<Results<S, F>, Result<NS, NF>> reductionStrategy) {
+        return collector(Results::new, reductionStrategy);
+    }
+
+    /**
+     * creates a collector similar to {@link Result#collector(Function)}, collecting into the results provided by the
+     * given supplier.
+     * <p>
+     * This allows to bound the memory used by failures with {@link Results#retainingFirstFailures(int)} or
+     * {@link Results#retainingSampledFailures(int)}, for example :
+     * <p>
+     * <code> collector(Results.retainingFirstFailures(100), Results.failureIf(Results.anyFailure()))</code>
+     *
+     * @param resultsSupplier   supplier of the empty results to collect into
+     * @param reductionStrategy function that is applied once all results have been collected
+     * @param <S>               the result stream success type
+     * @param <F>               the result stream failure type
+     * @param <NS>              the new success type
+     * @param <NF>              the new failure type
+     * @return the reduced result
+     * @see Result#collector(Function)
+     */
+    static <S, F, NS, NF> Collector<Result<S, F>, ?, Result<NS, NF>>
+    collector(
+            final Supplier<Results<S, F>> resultsSupplier,
+            final Function<Results<S, F>, Result<NS, NF>> reductionStrategy
+    ) {
+        requireNonNull(resultsSupplier);
 
         return new Collector<Result<S, F>, Results<S, F>, Result<NS, NF>>() {
 
             @Override
             public Supplier<Results<S, F>> supplier() {
-                return Results::new;
+                return resultsSupplier;
             }
 
             @Override
@@ -355,4 +516,240 @@ public sealed interface Result<S, F> permits Success, Failure {
             }
         };
     }
+
+    /**
+     * creates a collector similar to {@link Result#collector(Function)}, that does not preserve the encounter order
+     * of the stream.
+     * <p>
+     * Successes and failures are provided to the reduction strategy in no particular order, which allows a parallel
+     * stream to combine its partial results in any order.
+     *
+     * @param reductionStrategy function that is applied once all results have been collected
+     * @param <S>               the result stream success type
+     * @param <F>               the result stream failure type
+     * @param <NS>              the new success type
+     * @param <NF>              the new failure type
+     * @return the reduced result
+     * @see Result#collector(Function)
+     */
+    static <S, F, NS, NF> Collector<Result<S, F>, ?, Result<NS, NF>>
+    unorderedCollector(final Function<Results<S, F>, Result<NS, NF>> reductionStrategy) {
+        return Collector.of(
+                Results<S, F>::new,
+                Results::add,
+                Results::addAll,
+                reductionStrategy,
+                Collector.Characteristics.UNORDERED
+        );
+    }
+
+    /**
+     * creates a concurrent collector similar to {@link Result#collector(Function)}, intended for parallel streams.
+     * <p>
+     * A parallel stream accumulates into a single container from all its threads, each thread buffering its results
+     * in its own stripe. Stripes are merged once before the reduction strategy is applied, instead of being copied
+     * at every combination step.
+     * <p>
+     * Successes and failures are provided to the reduction strategy in no particular order.
+     *
+     * @param reductionStrategy function that is applied once all results have been collected
+     * @param <S>               the result stream success type
+     * @param <F>               the result stream failure type
+     * @param <NS>              the new success type
+     * @param <NF>              the new failure type
+     * @return the reduced result
+     * @see Result#collector(Function)
+     */
+    static <S, F, NS, NF> Collector<Result<S, F>, ?, Result<NS, NF>>
+    concurrentCollector(final Function<Results<S, F>, Result<NS, NF>> reductionStrategy) {
+        return concurrentCollector(Results::new, reductionStrategy);
+    }
+
+    /**
+     * creates a concurrent collector similar to {@link Result#concurrentCollector(Function)}, collecting into the
+     * results provided by the given supplier.
+     *
+     * @param resultsSupplier   supplier of the empty results to collect into
+     * @param reductionStrategy function that is applied once all results have been collected
+     * @param <S>               the result stream success type
+     * @param <F>               the result stream failure type
+     * @param <NS>              the new success type
+     * @param <NF>              the new failure type
+     * @return the reduced result
+     * @see Result#collector(Supplier, Function)
+     */
+    static <S, F, NS, NF> Collector<Result<S, F>, ?, Result<NS, NF>>
+    concurrentCollector(
+            final Supplier<Results<S, F>> resultsSupplier,
+            final Function<Results<S, F>, Result<NS, NF>> reductionStrategy
+    ) {
+        requireNonNull(resultsSupplier);
+        requireNonNull(reductionStrategy);
+        return Collector.of(
+                () -> new ConcurrentResults<>(resultsSupplier),
+                ConcurrentResults::add,
+                ConcurrentResults::addAll,
+                results -> reductionStrategy.apply(results.merge()),
+                Collector.Characteristics.CONCURRENT,
+                Collector.Characteristics.UNORDERED
+        );
+    }
+
+    /**
+     * creates a collector that reduces a result stream into a single result, only counting its successes and failures.
+     * <p>
+     * Unlike {@link Result#collector(Function)}, no success nor failure is retained : memory stays constant whatever
+     * the size of the stream. The collector is concurrent, parallel streams accumulating into shared
+     * {@link java.util.concurrent.atomic.LongAdder}s.
+     * <p>
+     * {@link ResultCounts#successIf(Predicate)} and {@link ResultCounts#failureIf(Predicate)} help to create the
+     * reduction strategy, combined with either of : <p>
+     * * {@link Results#successRatioAtLeast(double)} <p>
+     * * {@link Results#atMostFailures(long)} <p>
+     * <p>
+     * For example, you can decide that your result stream is a success if at least 95% of its results are successes
+     * <p>
+     * <code> ResultCounts.successIf(Results.successRatioAtLeast(0.95))</code>
+     *
+     * @param reductionStrategy function that is applied once all results have been counted
+     * @param <S>               the result stream success type
+     * @param <F>               the result stream failure type
+     * @param <NS>              the new success type
+     * @param <NF>              the new failure type
+     * @return the reduced result
+     */
+    static <S, F, NS, NF> Collector<Result<S, F>, ?, Result<NS, NF>>
+    countingCollector(final Function<ResultCounts, Result<NS, NF>> reductionStrategy) {
+        return Collector.of(
+                ResultCounts::new,
+                ResultCounts::add,
+                ResultCounts::addAll,
+                reductionStrategy,
+                Collector.Characteristics.CONCURRENT,
+                Collector.Characteristics.UNORDERED
+        );
+    }
+
+    /**
+     * creates a collector that streams the successes and the failures of a result stream into their own downstream
+     * collector, then merges both downstream results.
+     * <p>
+     * No intermediate collection is built : memory only depends on the provided downstream collectors.
+     * <p>
+     * For example, you can sum the successes and count the failures of a result stream with
+     * <p>
+     * <code> partitioning(Collectors.summingInt(i -> i), Collectors.counting(), Stats::new)</code>
+     *
+     * @param successDownstream the collector the successes are streamed into
+     * @param failureDownstream the collector the failures are streamed into
+     * @param merger            function merging both downstream results
+     * @param <S>               the result stream success type
+     * @param <F>               the result stream failure type
+     * @param <A>               the success downstream result type
+     * @param <B>               the failure downstream result type
+     * @param <R>               the merged type
+     * @return the merged downstream results
+     * @throws NullPointerException if any of its arguments is null
+     */
+    static <S, F, A, B, R> Collector<Result<S, F>, ?, R> partitioning(
+            Collector<? super S, ?, A> successDownstream,
+            Collector<? super F, ?, B> failureDownstream,
+            BiFunction<? super A, ? super B, ? extends R> merger
+    ) {
+        requireNonNull(merger);
+        return PartitioningCollector.of(
+                successDownstream,
+                failureDownstream,
+                (successes, failures, failureCount) -> merger.apply(successes, failures)
+        );
+    }
+
+    /**
+     * creates a collector that streams the successes and the failures of a result stream into their own downstream
+     * collector.
+     * <p>
+     * The reduced result is a success containing the success downstream result if the stream contains no failure,
+     * a failure containing the failure downstream result otherwise. This is the streaming equivalent of
+     * <code>collector(failureIf(anyFailure()))</code>, without any intermediate collection.
+     *
+     * @param successDownstream the collector the successes are streamed into
+     * @param failureDownstream the collector the failures are streamed into
+     * @param <S>               the result stream success type
+     * @param <F>               the result stream failure type
+     * @param <A>               the success downstream result type
+     * @param <B>               the failure downstream result type
+     * @return either the success downstream result or the failure downstream result
+     * @throws NullPointerException if any of its arguments is null
+     * @see Result#partitioning(Collector, Collector, BiFunction)
+     */
+    static <S, F, A, B> Collector<Result<S, F>, ?, Result<A, B>> partitioning(
+            Collector<? super S, ?, A> successDownstream,
+            Collector<? super F, ?, B> failureDownstream
+    ) {
+        return PartitioningCollector.of(
+                successDownstream,
+                failureDownstream,
+                (successes, failures, failureCount) -> failureCount == 0 ?
+                        Result.<A, B>success(successes) :
+                        Result.<A, B>failure(failures)
+        );
+    }
+
+    /**
+     * short-circuiting reduction of a result stream into a single result.
+     * <p>
+     * The stream is consumed until its first failure, which is returned : the following results are not pulled from
+     * the stream, hence not computed if the stream is lazy, and the successes already consumed are discarded.
+     * If the stream contains no failure, returns a success containing all the successes, in encounter order.
+     * <p>
+     * This is the fail-fast equivalent of <code>collector(failureIf(anyFailure()))</code>.
+     *
+     * @param results the result stream to reduce
+     * @param <S>     the success type
+     * @param <F>     the failure type
+     * @return either all the successes or the first failure
+     * @throws NullPointerException if provided stream is null
+     */
+    static <S, F> Result<List<S>, F> traverse(Stream<? extends Result<? extends S, ? extends F>> results) {
+        requireNonNull(results);
+        ChunkedList<S> successes = new ChunkedList<>();
+        Iterator<? extends Result<? extends S, ? extends F>> iterator = results.iterator();
+        while (iterator.hasNext()) {
+            Result<? extends S, ? extends F> result = iterator.next();
+            if (result.isFailure()) {
+                return failure(result.failureValue());
+            }
+            successes.add(result.successValue());
+        }
+        return success(Collections.unmodifiableList(successes));
+    }
+
+    /**
+     * short-circuiting reduction of a result stream into a single result.
+     * <p>
+     * The stream is consumed until its first success, which is returned : the following results are not pulled from
+     * the stream, and the failures already consumed are discarded.
+     * If the stream contains no success, returns a failure containing all the failures, in encounter order.
+     * <p>
+     * This is the short-circuiting equivalent of <code>collector(successIf(anySuccess()))</code>.
+     *
+     * @param results the result stream to reduce
+     * @param <S>     the success type
+     * @param <F>     the failure type
+     * @return either the first success or all the failures
+     * @throws NullPointerException if provided stream is null
+     */
+    static <S, F> Result<S, List<F>> firstSuccess(Stream<? extends Result<? extends S, ? extends F>> results) {
+        requireNonNull(results);
+        ChunkedList<F> failures = new ChunkedList<>();
+        Iterator<? extends Result<? extends S, ? extends F>> iterator = results.iterator();
+        while (iterator.hasNext()) {
+            Result<? extends S, ? extends F> result = iterator.next();
+            if (result.isSuccess()) {
+                return success(result.successValue());
+            }
+            failures.add(result.failureValue());
+        }
+        return failure(Collections.unmodifiableList(failures));
+    }
 }
@@ -0,0 +1,103 @@
+package dbus.result;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * class that represents the number of successes and failures of multiple results, without retaining any of them.
+ * <p>
+ * It is the counting-only alternative of {@link Results}, used by {@link Result#countingCollector(Function)}.
+ * Counters are {@link LongAdder}s, so that a parallel stream can accumulate into a single instance concurrently.
+ */
+public final class ResultCounts {
+
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    ResultCounts() {
+    }
+
+    void add(Result<?, ?> result) {
+        if (result.isSuccess()) {
+            successes.increment();
+        } else {
+            failures.increment();
+        }
+    }
+
+    ResultCounts addAll(ResultCounts other) {
+        successes.add(other.successCount());
+        failures.add(other.failureCount());
+        return this;
+    }
+
+    /**
+     * @return the number of counted successes
+     */
+    public long successCount() {
+        return successes.sum();
+    }
+
+    /**
+     * @return the number of counted failures
+     */
+    public long failureCount() {
+        return failures.sum();
+    }
+
+    /**
+     * @return the number of counted results
+     */
+    public long count() {
+        return successCount() + failureCount();
+    }
+
+    /**
+     * ratio of successes among the counted results.
+     * <p>
+     * The ratio of an empty count is 1, as none of its results failed.
+     *
+     * @return a ratio between 0 and 1
+     */
+    public double successRatio() {
+        long count = count();
+        return count == 0 ? 1 : (double) successCount() / count;
+    }
+
+    /**
+     * utility method that helps to create the reduction function necessary for
+     * {@link Result#countingCollector(Function)} function
+     * <p>
+     * This will return a success or a failure containing the counts, based on the provided predicate.
+     *
+     * @param predicate predicate to apply to know if the result will be a success or a failure
+     * @return a reduction function that can be applied by the counting collector
+     * @see Results#successRatioAtLeast(double)
+     * @see Results#atMostFailures(long)
+     */
+    public static Function<ResultCounts, Result<ResultCounts, ResultCounts>> successIf(Predicate<ResultCounts> predicate) {
+        return counts -> predicate.test(counts) ?
+                Result.success(counts) :
+                Result.failure(counts);
+    }
+
+    /**
+     * utility method that helps to create the reduction function necessary for
+     * {@link Result#countingCollector(Function)} function
+     * <p>
+     * This will return a success or a failure containing the counts, based on the provided predicate.
+     *
+     * @param predicate predicate to apply to know if the result will be a failure or a success
+     * @return a reduction function that can be applied by the counting collector
+     * @see ResultCounts#successIf(Predicate)
+     */
+    public static Function<ResultCounts, Result<ResultCounts, ResultCounts>> failureIf(Predicate<ResultCounts> predicate) {
+        return successIf(predicate.negate());
+    }
+
+    @Override
+    public String toString() {
+        return "ResultCounts(successes=" + successCount() + ", failures=" + failureCount() + ")";
+    }
+}
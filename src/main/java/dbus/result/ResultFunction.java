@@ -1,13 +1,14 @@
 package dbus.result;
 
+import dbus.result.primitive.DoubleResultFunction;
+import dbus.result.primitive.IntResultFunction;
+import dbus.result.primitive.LongResultFunction;
 import dbus.result.void_.VoidResult;
 import dbus.result.void_.VoidResultFunction;
 
 import java.util.Optional;
-import java.util.function.Consumer;
-import java.util.function.Function;
-import java.util.function.Predicate;
-import java.util.function.Supplier;
+import java.util.function.*;
+import java.util.stream.Collector;
 
 import static java.util.Objects.requireNonNull;
 
@@ -24,6 +25,8 @@ public interface ResultFunction<T, S, F> extends Function<T, Result<S, F>> {
 
     /**
      * conversion function to view a Result returning function as a {@link ResultFunction}
+     * <p>
+     * If the provided function already is a {@link ResultFunction}, it is returned as is.
      *
      * @param f   the result returning function
      * @param <T> the result returning function entry type
@@ -34,6 +37,10 @@ public interface ResultFunction<T, S, F> extends Function<T, Result<S, F>> {
      */
     static <T, S, F> ResultFunction<T, S, F> asResultFunction(Function<? super T, ? extends Result<? extends S, ? extends F>> f) {
         requireNonNull(f);
+        if (f instanceof ResultFunction) {
+            //noinspection unchecked
+            return (ResultFunction<T, S, F>) f;
+        }
         return t -> Result.narrow(f.apply(t));
     }
 
@@ -87,8 +94,7 @@ public interface ResultFunction<T, S, F> extends Function<T, Result<S, F>> {
      * @see Result#map(Function)
      */
     default <R> ResultFunction<T, R, F> map(Function<? super S, ? extends R> mapper) {
-        requireNonNull(mapper);
-        return t -> this.apply(t).map(mapper);
+        return ResultPipeline.map(this, mapper);
     }
 
     /**
@@ -104,7 +110,7 @@ public interface ResultFunction<T, S, F> extends Function<T, Result<S, F>> {
      */
     default <R> ResultFunction<T, R, F> map(Supplier<? extends R> supplier) {
         requireNonNull(supplier);
-        return t -> this.apply(t).map(supplier);
+        return ResultPipeline.map(this, ignored -> supplier.get());
     }
 
     /**
@@ -118,8 +124,52 @@ public interface ResultFunction<T, S, F> extends Function<T, Result<S, F>> {
      * @see Result#map(Consumer)
      */
     default VoidResultFunction<T, F> map(Consumer<? super S> consumer) {
-        requireNonNull(consumer);
-        return t -> this.apply(t).map(consumer);
+        return ResultPipeline.run(this, consumer);
+    }
+
+    /**
+     * bridge function from {@link ResultFunction} to {@link IntResultFunction}.
+     * <p>
+     * It applies the provided mapper after this, without boxing its result.
+     *
+     * @param mapper the mapper to apply after this
+     * @return a {@link IntResultFunction} composing this and the mapper
+     * @throws NullPointerException when provided mapper is null
+     * @see Result#mapToInt(ToIntFunction)
+     */
+    default IntResultFunction<T, F> mapToInt(ToIntFunction<? super S> mapper) {
+        requireNonNull(mapper);
+        return t -> this.apply(t).mapToInt(mapper);
+    }
+
+    /**
+     * bridge function from {@link ResultFunction} to {@link LongResultFunction}.
+     * <p>
+     * It applies the provided mapper after this, without boxing its result.
+     *
+     * @param mapper the mapper to apply after this
+     * @return a {@link LongResultFunction} composing this and the mapper
+     * @throws NullPointerException when provided mapper is null
+     * @see Result#mapToLong(ToLongFunction)
+     */
+    default LongResultFunction<T, F> mapToLong(ToLongFunction<? super S> mapper) {
+        requireNonNull(mapper);
+        return t -> this.apply(t).mapToLong(mapper);
+    }
+
+    /**
+     * bridge function from {@link ResultFunction} to {@link DoubleResultFunction}.
+     * <p>
+     * It applies the provided mapper after this, without boxing its result.
+     *
+     * @param mapper the mapper to apply after this
+     * @return a {@link DoubleResultFunction} composing this and the mapper
+     * @throws NullPointerException when provided mapper is null
+     * @see Result#mapToDouble(ToDoubleFunction)
+     */
+    default DoubleResultFunction<T, F> mapToDouble(ToDoubleFunction<? super S> mapper) {
+        requireNonNull(mapper);
+        return t -> this.apply(t).mapToDouble(mapper);
     }
 
     /**
@@ -134,8 +184,7 @@ public interface ResultFunction<T, S, F> extends Function<T, Result<S, F>> {
      * @see Result#mapFailure(Function)
      */
     default <R> ResultFunction<T, S, R> mapFailure(Function<? super F, ? extends R> mapper) {
-        requireNonNull(mapper);
-        return t -> this.apply(t).mapFailure(mapper);
+        return ResultPipeline.mapFailure(this, mapper);
     }
 
     /**
@@ -151,7 +200,7 @@ public interface ResultFunction<T, S, F> extends Function<T, Result<S, F>> {
      */
     default <R> ResultFunction<T, S, R> mapFailure(Supplier<? extends R> supplier) {
         requireNonNull(supplier);
-        return t -> this.apply(t).mapFailure(supplier);
+        return ResultPipeline.mapFailure(this, ignored -> supplier.get());
     }
 
     /**
@@ -180,8 +229,7 @@ public interface ResultFunction<T, S, F> extends Function<T, Result<S, F>> {
      * @throws NullPointerException if provided bound parameter is null
      */
     default <R> ResultFunction<T, R, F> flatMap(Function<? super S, ? extends Result<? extends R, ? extends F>> bound) {
-        requireNonNull(bound);
-        return t -> this.apply(t).flatMap(bound);
+        return ResultPipeline.flatMap(this, bound);
     }
 
     /**
@@ -196,7 +244,7 @@ public interface ResultFunction<T, S, F> extends Function<T, Result<S, F>> {
      */
     default <R> ResultFunction<T, R, F> flatMap(Supplier<? extends Result<? extends R, ? extends F>> bound) {
         requireNonNull(bound);
-        return t -> this.apply(t).flatMap(bound);
+        return ResultPipeline.flatMap(this, ignored -> bound.get());
     }
 
     /**
@@ -209,8 +257,7 @@ public interface ResultFunction<T, S, F> extends Function<T, Result<S, F>> {
      * @throws NullPointerException if provided bound parameter is null
      */
     default VoidResultFunction<T, F> flatMapToVoid(Function<? super S, ? extends VoidResult<? extends F>> bound) {
-        requireNonNull(bound);
-        return t -> this.apply(t).flatMapToVoid(bound);
+        return ResultPipeline.flatMapToVoid(this, bound);
     }
 
     /**
@@ -224,7 +271,67 @@ public interface ResultFunction<T, S, F> extends Function<T, Result<S, F>> {
      */
     default VoidResultFunction<T, F> flatMapToVoid(Supplier<? extends VoidResult<? extends F>> bound) {
         requireNonNull(bound);
-        return t -> this.apply(t).flatMapToVoid(bound);
+        return ResultPipeline.flatMapToVoid(this, ignored -> bound.get());
+    }
+
+    /**
+     * compose current function with a folding of its result into an int, without boxing.
+     *
+     * @param success the desired behavior in case of success.
+     * @param failure the desired behavior in cas of failure
+     * @return a function composing this and the folding functions
+     * @throws NullPointerException if any of its arguments is null
+     * @see Result#matchInt(ToIntFunction, ToIntFunction)
+     */
+    default ToIntFunction<T> thenMatchInt(ToIntFunction<? super S> success, ToIntFunction<? super F> failure) {
+        requireNonNull(success);
+        requireNonNull(failure);
+        return t -> this.apply(t).matchInt(success, failure);
+    }
+
+    /**
+     * compose current function with a folding of its result into a long, without boxing.
+     *
+     * @param success the desired behavior in case of success.
+     * @param failure the desired behavior in cas of failure
+     * @return a function composing this and the folding functions
+     * @throws NullPointerException if any of its arguments is null
+     * @see Result#matchLong(ToLongFunction, ToLongFunction)
+     */
+    default ToLongFunction<T> thenMatchLong(ToLongFunction<? super S> success, ToLongFunction<? super F> failure) {
+        requireNonNull(success);
+        requireNonNull(failure);
+        return t -> this.apply(t).matchLong(success, failure);
+    }
+
+    /**
+     * compose current function with a folding of its result into a double, without boxing.
+     *
+     * @param success the desired behavior in case of success.
+     * @param failure the desired behavior in cas of failure
+     * @return a function composing this and the folding functions
+     * @throws NullPointerException if any of its arguments is null
+     * @see Result#matchDouble(ToDoubleFunction, ToDoubleFunction)
+     */
+    default ToDoubleFunction<T> thenMatchDouble(ToDoubleFunction<? super S> success, ToDoubleFunction<? super F> failure) {
+        requireNonNull(success);
+        requireNonNull(failure);
+        return t -> this.apply(t).matchDouble(success, failure);
+    }
+
+    /**
+     * compose current function with a folding of its result into a boolean, without boxing.
+     *
+     * @param success the desired behavior in case of success.
+     * @param failure the desired behavior in cas of failure
+     * @return a predicate composing this and the folding predicates
+     * @throws NullPointerException if any of its arguments is null
+     * @see Result#matchBoolean(Predicate, Predicate)
+     */
+    default Predicate<T> thenMatchBoolean(Predicate<? super S> success, Predicate<? super F> failure) {
+        requireNonNull(success);
+        requireNonNull(failure);
+        return t -> this.apply(t).matchBoolean(success, failure);
     }
 
     /**
@@ -261,8 +368,7 @@ public interface ResultFunction<T, S, F> extends Function<T, Result<S, F>> {
      * @throws NullPointerException if provided recoveringFunction parameter is null
      */
     default ResultFunction<T, S, F> thenTryRecovering(Function<? super F, ? extends Result<? extends S, ? extends F>> recoveringFunction) {
-        requireNonNull(recoveringFunction);
-        return t -> this.apply(t).tryRecovering(recoveringFunction);
+        return ResultPipeline.tryRecovering(this, recoveringFunction);
     }
 
     /**
@@ -274,7 +380,18 @@ public interface ResultFunction<T, S, F> extends Function<T, Result<S, F>> {
      */
     default ResultFunction<T, S, F> thenTryRecovering(Supplier<? extends Result<? extends S, ? extends F>> recoveringSupplier) {
         requireNonNull(recoveringSupplier);
-        return t -> this.apply(t).tryRecovering(recoveringSupplier);
+        return ResultPipeline.tryRecovering(this, ignored -> recoveringSupplier.get());
+    }
+
+    /**
+     * creates a collector applying this function to every input of a stream, keeping each input along with its
+     * outcome, so that failed inputs can be retried with {@link KeyedResults#retryFailures(Function)}.
+     *
+     * @return a collector returning the keyed results
+     * @see KeyedResults#collector(Function)
+     */
+    default Collector<T, ?, KeyedResults<T, S, F>> keyedCollector() {
+        return KeyedResults.collector(this);
     }
 
 }
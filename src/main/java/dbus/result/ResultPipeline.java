@@ -0,0 +1,235 @@
+package dbus.result;
+
+import dbus.result.FusedFunction.Kind;
+import dbus.result.FusedFunction.Stage;
+import dbus.result.void_.VoidResult;
+import dbus.result.void_.VoidResultFunction;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * fused composition of {@link ResultFunction} and {@link VoidResultFunction}.
+ * <p>
+ * The composition methods of both interfaces, such as {@link ResultFunction#map(Function)} or
+ * {@link VoidResultFunction#thenTryRecovering(Function)}, rely on this class : besides wrapping the previous function,
+ * each composition appends a stage to a flat stage list. Short chains are applied as nested functions, which the JIT
+ * compiler inlines. Beyond 16 stages, a composed function runs every stage in a single loop instead, keeping the
+ * current success or failure value in local variables, and only creates the returned result at the end. A chain of
+ * any depth is thus a single, non nested, call.
+ * <p>
+ * A composed function can also be compiled, with {@link #compile(ResultFunction)}, to a dedicated class whose
+ * application the JIT compiler specializes for its own functions.
+ * <p>
+ * Only compilation is public : the composition methods are reached through the composition methods of both
+ * interfaces, {@link VoidResultFunction} reaching them from its own package through a private lookup.
+ */
+public final class ResultPipeline {
+
+    private ResultPipeline() {
+    }
+
+    /**
+     * compiles a composed function to a dedicated hidden class.
+     * <p>
+     * The compiled function applies the same stages as the provided function, as straight-line code in which every
+     * stage function is a constant. Compiling defines a class, and the compiled function is slow until the JIT
+     * compiler compiles it : it is meant for long-lived pipelines, compiled once and applied many times. The class is
+     * unloaded once the compiled function is no longer referenced.
+     * <p>
+     * A function which is not composed is returned as is.
+     *
+     * @param function the function to compile
+     * @param <T>      the input type
+     * @param <S>      the success type
+     * @param <F>      the failure type
+     * @return a function equivalent to the provided one
+     * @throws IllegalStateException if the class cannot be defined
+     */
+    public static <T, S, F> ResultFunction<T, S, F> compile(ResultFunction<T, S, F> function) {
+        requireNonNull(function);
+        if (function instanceof FusedFunction<?> fused) {
+            @SuppressWarnings("unchecked")
+            FusedFunction<T> typed = (FusedFunction<T>) fused;
+            return PipelineCompiler.compile(typed);
+        }
+        return function;
+    }
+
+    /**
+     * compiles a composed void result function to a dedicated hidden class.
+     *
+     * @param function the function to compile
+     * @param <T>      the input type
+     * @param <F>      the failure type
+     * @return a function equivalent to the provided one
+     * @throws IllegalStateException if the class cannot be defined
+     * @see #compile(ResultFunction)
+     */
+    public static <T, F> VoidResultFunction<T, F> compile(VoidResultFunction<T, F> function) {
+        requireNonNull(function);
+        if (function instanceof FusedFunction<?> fused) {
+            @SuppressWarnings("unchecked")
+            FusedFunction<T> typed = (FusedFunction<T>) fused;
+            return PipelineCompiler.compileVoid(typed);
+        }
+        return function;
+    }
+
+    /**
+     * @see ResultFunction#map(Function)
+     */
+    static <T, S, F, R> ResultFunction<T, R, F> map(
+            ResultFunction<T, S, F> function,
+            Function<? super S, ? extends R> mapper
+    ) {
+        requireNonNull(mapper);
+        Function<T, Result<S, F>> nested = FusedFunction.nestedOf(function);
+        return FusedFunction.thenResult(function, false, new Stage(Kind.MAP, mapper),
+                t -> nested.apply(t).map(mapper));
+    }
+
+    /**
+     * @see ResultFunction#map(Consumer)
+     */
+    static <T, S, F> VoidResultFunction<T, F> run(ResultFunction<T, S, F> function, Consumer<? super S> consumer) {
+        requireNonNull(consumer);
+        Function<T, Result<S, F>> nested = FusedFunction.nestedOf(function);
+        return FusedFunction.thenVoid(function, false, new Stage(Kind.RUN, (S value) -> {
+            consumer.accept(value);
+            return null;
+        }), t -> nested.apply(t).map(consumer));
+    }
+
+    /**
+     * @see ResultFunction#mapFailure(Function)
+     */
+    static <T, S, F, R> ResultFunction<T, S, R> mapFailure(
+            ResultFunction<T, S, F> function,
+            Function<? super F, ? extends R> mapper
+    ) {
+        requireNonNull(mapper);
+        Function<T, Result<S, F>> nested = FusedFunction.nestedOf(function);
+        return FusedFunction.thenResult(function, false, new Stage(Kind.MAP_FAILURE, mapper),
+                t -> nested.apply(t).mapFailure(mapper));
+    }
+
+    /**
+     * @see ResultFunction#flatMap(Function)
+     */
+    static <T, S, F, R> ResultFunction<T, R, F> flatMap(
+            ResultFunction<T, S, F> function,
+            Function<? super S, ? extends Result<? extends R, ? extends F>> bound
+    ) {
+        requireNonNull(bound);
+        Function<T, Result<S, F>> nested = FusedFunction.nestedOf(function);
+        return FusedFunction.thenResult(function, false, new Stage(Kind.FLAT_MAP, bound),
+                t -> nested.apply(t).flatMap(bound));
+    }
+
+    /**
+     * @see ResultFunction#flatMapToVoid(Function)
+     */
+    static <T, S, F> VoidResultFunction<T, F> flatMapToVoid(
+            ResultFunction<T, S, F> function,
+            Function<? super S, ? extends VoidResult<? extends F>> bound
+    ) {
+        requireNonNull(bound);
+        Function<T, Result<S, F>> nested = FusedFunction.nestedOf(function);
+        return FusedFunction.thenVoid(function, false, new Stage(Kind.FLAT_MAP_VOID, bound),
+                t -> nested.apply(t).flatMapToVoid(bound));
+    }
+
+    /**
+     * @see ResultFunction#thenTryRecovering(Function)
+     */
+    static <T, S, F> ResultFunction<T, S, F> tryRecovering(
+            ResultFunction<T, S, F> function,
+            Function<? super F, ? extends Result<? extends S, ? extends F>> recoveringFunction
+    ) {
+        requireNonNull(recoveringFunction);
+        Function<T, Result<S, F>> nested = FusedFunction.nestedOf(function);
+        return FusedFunction.thenResult(function, false, new Stage(Kind.TRY_RECOVERING, recoveringFunction),
+                t -> nested.apply(t).tryRecovering(recoveringFunction));
+    }
+
+    /**
+     * @see VoidResultFunction#map(Supplier)
+     */
+    static <T, F, S> ResultFunction<T, S, F> mapVoid(
+            VoidResultFunction<T, F> function,
+            Supplier<? extends S> supplier
+    ) {
+        requireNonNull(supplier);
+        Function<T, VoidResult<F>> nested = FusedFunction.nestedOf(function);
+        return FusedFunction.thenResult(function, true, new Stage(Kind.MAP, ignored -> supplier.get()),
+                t -> nested.apply(t).map(supplier));
+    }
+
+    /**
+     * @see VoidResultFunction#map(Runnable)
+     */
+    static <T, F> VoidResultFunction<T, F> runVoid(VoidResultFunction<T, F> function, Runnable runnable) {
+        requireNonNull(runnable);
+        Function<T, VoidResult<F>> nested = FusedFunction.nestedOf(function);
+        return FusedFunction.thenVoid(function, true, new Stage(Kind.RUN, ignored -> {
+            runnable.run();
+            return null;
+        }), t -> nested.apply(t).map(runnable));
+    }
+
+    /**
+     * @see VoidResultFunction#mapFailure(Function)
+     */
+    static <T, F, R> VoidResultFunction<T, R> mapVoidFailure(
+            VoidResultFunction<T, F> function,
+            Function<? super F, ? extends R> mapper
+    ) {
+        requireNonNull(mapper);
+        Function<T, VoidResult<F>> nested = FusedFunction.nestedOf(function);
+        return FusedFunction.thenVoid(function, true, new Stage(Kind.MAP_FAILURE, mapper),
+                t -> nested.apply(t).mapFailure(mapper));
+    }
+
+    /**
+     * @see VoidResultFunction#flatMap(Supplier)
+     */
+    static <T, F> VoidResultFunction<T, F> flatMapVoid(
+            VoidResultFunction<T, F> function,
+            Supplier<? extends VoidResult<? extends F>> bound
+    ) {
+        requireNonNull(bound);
+        Function<T, VoidResult<F>> nested = FusedFunction.nestedOf(function);
+        return FusedFunction.thenVoid(function, true, new Stage(Kind.FLAT_MAP_VOID, ignored -> bound.get()),
+                t -> nested.apply(t).flatMap(bound));
+    }
+
+    /**
+     * @see VoidResultFunction#flatMapToResult(Supplier)
+     */
+    static <T, F, S> ResultFunction<T, S, F> flatMapVoidToResult(
+            VoidResultFunction<T, F> function,
+            Supplier<? extends Result<? extends S, ? extends F>> bound
+    ) {
+        requireNonNull(bound);
+        Function<T, VoidResult<F>> nested = FusedFunction.nestedOf(function);
+        return FusedFunction.thenResult(function, true, new Stage(Kind.FLAT_MAP, ignored -> bound.get()),
+                t -> nested.apply(t).flatMapToResult(bound));
+    }
+
+    /**
+     * @see VoidResultFunction#thenTryRecovering(Function)
+     */
+    static <T, F> VoidResultFunction<T, F> tryRecoveringVoid(
+            VoidResultFunction<T, F> function,
+            Function<? super F, ? extends VoidResult<? extends F>> recoveringFunction
+    ) {
+        requireNonNull(recoveringFunction);
+        Function<T, VoidResult<F>> nested = FusedFunction.nestedOf(function);
+        return FusedFunction.thenVoid(function, true, new Stage(Kind.TRY_RECOVERING_VOID, recoveringFunction),
+                t -> nested.apply(t).tryRecovering(recoveringFunction));
+    }
+}
@@ -0,0 +1,27 @@
+package dbus.result;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * requests the generation of a result type dedicated to the annotated failure type.
+ * <p>
+ * The annotated type must be an enum or a sealed type. The {@code result-processor} annotation processor then
+ * generates, in the same package, a {@code <FailureType>Result<S>} class, such as {@code ParsingErrorResult<S>} for
+ * {@code ParsingError}. It keeps one preallocated failure instance per enum constant, provides a {@code match} method
+ * with one function per enum constant or per permitted subtype, and converts from and to {@link Result} through
+ * {@code narrow} and {@code toResult}.
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface ResultType {
+
+    /**
+     * @return the simple name of the generated class, {@code <FailureType>Result} if empty
+     */
+    String name() default "";
+}
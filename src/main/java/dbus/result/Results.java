@@ -1,10 +1,12 @@
 package dbus.result;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
 
 /**
  * class that represent multiple results
@@ -14,28 +16,76 @@ import java.util.function.Predicate;
  */
 public class Results<S, F> {
 
-    private final List<S> successes = new ArrayList<>();
-    private final List<F> failures = new ArrayList<>();
+    private final ChunkedList<S> successes = new ChunkedList<>();
+    private final FailureRetention<F> failures;
 
-    protected void add(Result<S, F> result) {
-        result.match(
-                this::addSuccess,
-                this::addFailure
-        );
+    /**
+     * creates empty results, retaining every failure.
+     */
+    public Results() {
+        this(FailureRetention.all());
     }
 
-    private Results<S, F> addSuccess(S left) {
-        successes.add(left);
-        return this;
+    private Results(FailureRetention<F> failures) {
+        this.failures = failures;
     }
 
-    private Results<S, F> addFailure(F right) {
-        failures.add(right);
-        return this;
+    /**
+     * supplier of results that only retain the first failures, for {@link Result#collector(Supplier, Function)}.
+     * <p>
+     * Failures are still all counted : {@link Results#failureCount()} stays exact.
+     *
+     * @param limit the maximum number of retained failures
+     * @param <S>   the success type
+     * @param <F>   the failure type
+     * @return a results supplier
+     * @throws IllegalArgumentException if provided limit is negative
+     */
+    public static <S, F> Supplier<Results<S, F>> retainingFirstFailures(int limit) {
+        FailureRetention.checkLimit(limit);
+        return () -> new Results<>(FailureRetention.first(limit));
     }
 
+    /**
+     * supplier of results that only retain a uniform random sample of the failures, for
+     * {@link Result#collector(Supplier, Function)}.
+     * <p>
+     * Every failure has the same probability to be retained, and failures are still all counted :
+     * {@link Results#failureCount()} stays exact.
+     *
+     * @param limit the maximum number of retained failures
+     * @param <S>   the success type
+     * @param <F>   the failure type
+     * @return a results supplier
+     * @throws IllegalArgumentException if provided limit is negative
+     */
+    public static <S, F> Supplier<Results<S, F>> retainingSampledFailures(int limit) {
+        FailureRetention.checkLimit(limit);
+        return () -> new Results<>(FailureRetention.sample(limit));
+    }
+
+    protected void add(Result<S, F> result) {
+        if (result.isSuccess()) {
+            successes.add(result.successValue());
+        } else {
+            failures.add(result.failureValue());
+        }
+    }
+
+    /**
+     * moves all the successes and failures of the provided results at the end of these ones.
+     * <p>
+     * Successes are moved in constant time, and so are failures when they are all retained. With a bounded failure
+     * retention, such as {@link Results#retainingFirstFailures(int)} or {@link Results#retainingSampledFailures(int)},
+     * merging the retained failures takes a time proportional to the retention limit.
+     * <p>
+     * The provided results are left empty.
+     *
+     * @param other the results to move
+     * @return these results
+     */
     protected Results<S, F> addAll(Results<S, F> other) {
-        successes.addAll(other.successes);
+        successes.append(other.successes);
         failures.addAll(other.failures);
         return this;
     }
@@ -45,6 +95,8 @@ public class Results<S, F> {
      * function
      * <p>
      * This will return a success or a failure function based on the provided predicate.
+     * <p>
+     * The returned collection is an unmodifiable view of the collected successes or failures : no element is copied.
      *
      * @param predicate predicate to apply to know if the result will be a success or a failure
      * @param <S>       the success type
@@ -54,8 +106,8 @@ public class Results<S, F> {
      */
     public static <S, F> Function<Results<S, F>, Result<Collection<S>, Collection<F>>> successIf(Predicate<Results<S, F>> predicate) {
         return results -> predicate.test(results) ?
-                Result.success(new ArrayList<S>(results.successes)) :
-                Result.failure(new ArrayList<F>(results.failures));
+                Result.success(results.successes()) :
+                Result.failure(results.failures());
     }
 
 
@@ -122,7 +174,7 @@ public class Results<S, F> {
      * @see Result#collector(Function) collector for usage example
      */
     public static <S, F> Predicate<Results<S, F>> noFailure() {
-        return results -> results.failures.isEmpty();
+        return results -> results.failureCount() == 0;
     }
 
 
@@ -142,12 +194,161 @@ public class Results<S, F> {
         return Results.<S, F>noFailure().negate();
     }
 
+    /**
+     * unmodifiable view of the collected successes, in encounter order.
+     * <p>
+     * No element is copied.
+     *
+     * @return the collected successes
+     */
     public List<S> successes() {
-        return new ArrayList<>(successes);
+        return Collections.unmodifiableList(successes);
     }
 
+    /**
+     * unmodifiable view of the retained failures.
+     * <p>
+     * No element is copied. Failures are all retained, in encounter order, unless these results were created by
+     * {@link Results#retainingFirstFailures(int)} or {@link Results#retainingSampledFailures(int)}.
+     *
+     * @return the retained failures
+     */
     public List<F> failures() {
-        return new ArrayList<>(failures);
+        return Collections.unmodifiableList(failures.retained());
+    }
+
+    /**
+     * @return the number of collected successes
+     */
+    public long successCount() {
+        return successes.size();
+    }
+
+    /**
+     * @return the number of collected failures, retained or not
+     */
+    public long failureCount() {
+        return failures.count();
+    }
+
+    /**
+     * creates a collector that only counts the successes and failures of a result stream.
+     * <p>
+     * No success nor failure is retained, so memory stays constant whatever the size of the stream.
+     *
+     * @param <S> the result stream success type
+     * @param <F> the result stream failure type
+     * @return a collector returning the counts
+     * @see Result#countingCollector(Function)
+     */
+    public static <S, F> Collector<Result<S, F>, ?, ResultCounts> countsOnly() {
+        return Collector.of(
+                ResultCounts::new,
+                ResultCounts::add,
+                ResultCounts::addAll,
+                Collector.Characteristics.CONCURRENT,
+                Collector.Characteristics.UNORDERED,
+                Collector.Characteristics.IDENTITY_FINISH
+        );
+    }
+
+    /**
+     * creates a collector that summarizes the most frequent failures of a result stream, in fixed memory.
+     * <p>
+     * No success is retained and at most {@code capacity} failure values are monitored, so memory does not depend on
+     * the size of the stream nor on the number of distinct failures. Counts are approximate, see
+     * {@link FailureSummary}. A capacity a few times larger than the number of failures to report improves accuracy.
+     *
+     * @param capacity the maximum number of monitored failure values
+     * @param <S>      the result stream success type
+     * @param <F>      the result stream failure type
+     * @return a collector returning the failure summary
+     * @throws IllegalArgumentException if provided capacity is not positive
+     */
+    public static <S, F> Collector<Result<S, F>, ?, FailureSummary<F>> topFailures(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("failure summary capacity must be positive, got " + capacity);
+        }
+        return Collector.of(
+                () -> new FailureSummary<>(capacity),
+                FailureSummary::add,
+                FailureSummary::addAll,
+                Collector.Characteristics.UNORDERED,
+                Collector.Characteristics.IDENTITY_FINISH
+        );
+    }
+
+    /**
+     * creates a collector that estimates the number of distinct failures of a result stream, using 4 KB.
+     *
+     * @param <S> the result stream success type
+     * @param <F> the result stream failure type
+     * @return a collector returning the distinct failures estimation
+     * @see Results#distinctFailures(int)
+     */
+    public static <S, F> Collector<Result<S, F>, ?, DistinctFailures> distinctFailures() {
+        return distinctFailures(DistinctFailures.DEFAULT_PRECISION);
     }
 
+    /**
+     * creates a collector that estimates the number of distinct failures of a result stream, in fixed memory.
+     * <p>
+     * No result is retained : {@code 2^precision} bytes are used whatever the size of the stream and the number of
+     * distinct failures. Accuracy improves with precision, see {@link DistinctFailures}.
+     *
+     * @param precision the base 2 logarithm of the number of registers, between 4 and 16
+     * @param <S>       the result stream success type
+     * @param <F>       the result stream failure type
+     * @return a collector returning the distinct failures estimation
+     * @throws IllegalArgumentException if provided precision is not between 4 and 16
+     */
+    public static <S, F> Collector<Result<S, F>, ?, DistinctFailures> distinctFailures(int precision) {
+        if (precision < DistinctFailures.MIN_PRECISION || precision > DistinctFailures.MAX_PRECISION) {
+            throw new IllegalArgumentException("precision must be between " + DistinctFailures.MIN_PRECISION +
+                    " and " + DistinctFailures.MAX_PRECISION + ", got " + precision);
+        }
+        return Collector.of(
+                () -> new DistinctFailures(precision),
+                DistinctFailures::add,
+                DistinctFailures::addAll,
+                Collector.Characteristics.UNORDERED,
+                Collector.Characteristics.IDENTITY_FINISH
+        );
+    }
+
+    /**
+     * utility method that helps to create the reduction function necessary for
+     * {@link Result#countingCollector(Function)} function
+     * <p>
+     * this will create a predicate that can be used by {@link ResultCounts#successIf(Predicate)} or
+     * {@link ResultCounts#failureIf(Predicate)} functions to generate the reduction function
+     *
+     * @param ratio the minimal ratio of successes, between 0 and 1
+     * @return a predicate function
+     * @throws IllegalArgumentException if provided ratio is not between 0 and 1
+     */
+    public static Predicate<ResultCounts> successRatioAtLeast(double ratio) {
+        if (!(ratio >= 0 && ratio <= 1)) {
+            throw new IllegalArgumentException("ratio must be between 0 and 1, got " + ratio);
+        }
+        return counts -> counts.successRatio() >= ratio;
+    }
+
+    /**
+     * utility method that helps to create the reduction function necessary for
+     * {@link Result#countingCollector(Function)} function
+     * <p>
+     * this will create a predicate that can be used by {@link ResultCounts#successIf(Predicate)} or
+     * {@link ResultCounts#failureIf(Predicate)} functions to generate the reduction function
+     *
+     * @param maxFailures the maximal number of failures
+     * @return a predicate function
+     * @throws IllegalArgumentException if provided maximal number of failures is negative
+     */
+    public static Predicate<ResultCounts> atMostFailures(long maxFailures) {
+        if (maxFailures < 0) {
+            throw new IllegalArgumentException("maximal number of failures must not be negative, got " + maxFailures);
+        }
+        return counts -> counts.failureCount() <= maxFailures;
+    }
 }
@@ -1,21 +1,28 @@
 package dbus.result;
 
+import dbus.result.primitive.DoubleResult;
+import dbus.result.primitive.IntResult;
+import dbus.result.primitive.LongResult;
 import dbus.result.void_.VoidResult;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Consumer;
-import java.util.function.Function;
-import java.util.function.Supplier;
+import java.util.Set;
+import java.util.function.*;
 
 import static dbus.result.Result.narrow;
 import static java.util.Objects.requireNonNull;
 
 @EqualsAndHashCode
 @ToString
-final class Success<S, F> implements Result<S, F> {
+public final class Success<S, F> implements Result<S, F> {
 
     private final S value;
 
@@ -23,8 +30,178 @@ final class Success<S, F> implements Result<S, F> {
         this.value = requireNonNull(value);
     }
 
+    /**
+     * creates a success holding the provided value.
+     * <p>
+     * Like {@link Integer#valueOf(int)}, common values are cached : booleans, integers and longs between -128 and 127,
+     * enum constants, empty collections and the constants registered with {@link #registerConstant(Object)} share a
+     * single instance, whatever the failure type.
+     *
+     * @param value the success value
+     * @param <S>   the success type
+     * @param <F>   the failure type
+     * @return a success holding the provided value
+     */
+    @SuppressWarnings("unchecked")
     public static <S, F> Success<S, F> success(S value) {
-        return new Success<>(value);
+        Success<?, ?> cached = Cache.of(requireNonNull(value));
+        return cached != null ? (Success<S, F>) cached : new Success<>(value);
+    }
+
+    /**
+     * registers a canonical constant, for which {@link #success(Object)} will return a single, preallocated instance.
+     * <p>
+     * Constants are matched by identity, so that the value of the returned success is always the provided one.
+     * Registering the same constant twice has no effect.
+     * <p>
+     * The registration is permanent : a registered constant cannot be removed, and stays reachable as long as its
+     * class is loaded. Until a first constant is registered, successes of other values cost no lookup; afterwards,
+     * each success of a value that is not otherwise cached costs a class lookup, plus an identity lookup when its class
+     * has registered constants.
+     *
+     * @param constant the constant to cache
+     * @throws NullPointerException when provided constant is null
+     */
+    public static void registerConstant(Object constant) {
+        Cache.register(requireNonNull(constant));
+    }
+
+    /**
+     * the preallocated successes, initialized on first use.
+     */
+    private static final class Cache {
+        private static final int LOW = -128;
+        private static final int HIGH = 127;
+
+        private static final Success<?, ?> TRUE = new Success<>(Boolean.TRUE);
+        private static final Success<?, ?> FALSE = new Success<>(Boolean.FALSE);
+        private static final Success<?, ?>[] INTEGERS = new Success<?, ?>[HIGH - LOW + 1];
+        private static final Success<?, ?>[] LONGS = new Success<?, ?>[HIGH - LOW + 1];
+
+        private static final ClassValue<Success<?, ?>[]> ENUMS = new ClassValue<>() {
+            @Override
+            protected Success<?, ?>[] computeValue(Class<?> type) {
+                Object[] constants = type.getEnumConstants();
+                Success<?, ?>[] successes = new Success<?, ?>[constants.length];
+                for (int i = 0; i < constants.length; i++) {
+                    successes[i] = new Success<>(constants[i]);
+                }
+                return successes;
+            }
+        };
+
+        /**
+         * the empty collections and optional of the JDK, matched by reference rather than registered, so that the
+         * non-empty values sharing their classes are not looked up.
+         */
+        private static final Object[] EMPTY_VALUES = {
+                List.of(), Set.of(), Map.of(), Optional.empty(),
+                Collections.emptyList(), Collections.emptySet(), Collections.emptyMap()
+        };
+        private static final Success<?, ?>[] EMPTIES = new Success<?, ?>[EMPTY_VALUES.length];
+
+        /**
+         * whether any constant has been registered, so that unregistered applications skip the class lookup.
+         */
+        private static volatile boolean anyRegistered;
+
+        /**
+         * the registered constants of each class, stored along with the class so that it does not outlive it.
+         */
+        private static final ClassValue<Constants> REGISTERED = new ClassValue<>() {
+            @Override
+            protected Constants computeValue(Class<?> type) {
+                return new Constants();
+            }
+        };
+
+        static {
+            for (int i = LOW; i <= HIGH; i++) {
+                INTEGERS[i - LOW] = new Success<>(i);
+                LONGS[i - LOW] = new Success<>((long) i);
+            }
+            for (int i = 0; i < EMPTY_VALUES.length; i++) {
+                EMPTIES[i] = new Success<>(EMPTY_VALUES[i]);
+            }
+        }
+
+        private Cache() {
+        }
+
+        /**
+         * @return the cached success holding the provided value, or null if it is not cached
+         */
+        static Success<?, ?> of(Object value) {
+            if (value instanceof Boolean bool) {
+                return bool ? TRUE : FALSE;
+            }
+            if (value instanceof Integer integer) {
+                int i = integer;
+                return i >= LOW && i <= HIGH ? INTEGERS[i - LOW] : null;
+            }
+            if (value instanceof Long longValue) {
+                long l = longValue;
+                return l >= LOW && l <= HIGH ? LONGS[(int) l - LOW] : null;
+            }
+            if (value instanceof Enum<?> constant) {
+                return ENUMS.get(constant.getDeclaringClass())[constant.ordinal()];
+            }
+            for (int i = 0; i < EMPTY_VALUES.length; i++) {
+                if (value == EMPTY_VALUES[i]) {
+                    return EMPTIES[i];
+                }
+            }
+            return anyRegistered ? REGISTERED.get(value.getClass()).successes.get(value) : null;
+        }
+
+        static void register(Object constant) {
+            REGISTERED.get(constant.getClass()).register(constant);
+            anyRegistered = true;
+        }
+    }
+
+    /**
+     * the registered constants of a class, as an identity map replaced on each registration.
+     */
+    private static final class Constants {
+        private volatile Map<Object, Success<?, ?>> successes = Collections.emptyMap();
+
+        synchronized void register(Object constant) {
+            if (!successes.containsKey(constant)) {
+                Map<Object, Success<?, ?>> registered = new IdentityHashMap<>(successes);
+                registered.put(constant, new Success<>(constant));
+                successes = registered;
+            }
+        }
+    }
+
+    /**
+     * accessor of the success value, intended to be used with pattern matching on {@link Result}.
+     *
+     * @return the success value
+     */
+    public S value() {
+        return value;
+    }
+
+    @Override
+    public boolean isSuccess() {
+        return true;
+    }
+
+    @Override
+    public boolean isFailure() {
+        return false;
+    }
+
+    @Override
+    public S successValue() {
+        return value;
+    }
+
+    @Override
+    public F failureValue() {
+        throw new NoSuchElementException("no failure value in " + this);
     }
 
     @Override
@@ -36,6 +213,30 @@ final class Success<S, F> implements Result<S, F> {
         return success.apply(value);
     }
 
+    @Override
+    public int matchInt(ToIntFunction<? super S> success, ToIntFunction<? super F> failure) {
+        requireNonNull(failure);
+        return success.applyAsInt(value);
+    }
+
+    @Override
+    public long matchLong(ToLongFunction<? super S> success, ToLongFunction<? super F> failure) {
+        requireNonNull(failure);
+        return success.applyAsLong(value);
+    }
+
+    @Override
+    public double matchDouble(ToDoubleFunction<? super S> success, ToDoubleFunction<? super F> failure) {
+        requireNonNull(failure);
+        return success.applyAsDouble(value);
+    }
+
+    @Override
+    public boolean matchBoolean(Predicate<? super S> success, Predicate<? super F> failure) {
+        requireNonNull(failure);
+        return success.test(value);
+    }
+
     private <ANY> Result<S, ANY> cast() {
         //noinspection unchecked
         return (Result<S, ANY>) this;
@@ -44,7 +245,7 @@ final class Success<S, F> implements Result<S, F> {
     @Override
     public <R> Result<R, F> map(Function<? super S, ? extends R> mapper) {
         Objects.requireNonNull(mapper);
-        return new Success<>(mapper.apply(this.value));
+        return success(mapper.apply(this.value));
     }
 
     @Override
@@ -58,6 +259,21 @@ final class Success<S, F> implements Result<S, F> {
         return VoidResult.success();
     }
 
+    @Override
+    public IntResult<F> mapToInt(ToIntFunction<? super S> mapper) {
+        return IntResult.success(mapper.applyAsInt(value));
+    }
+
+    @Override
+    public LongResult<F> mapToLong(ToLongFunction<? super S> mapper) {
+        return LongResult.success(mapper.applyAsLong(value));
+    }
+
+    @Override
+    public DoubleResult<F> mapToDouble(ToDoubleFunction<? super S> mapper) {
+        return DoubleResult.success(mapper.applyAsDouble(value));
+    }
+
     @Override
     public <G> Result<S, G> mapFailure(Function<? super F, ? extends G> mapper) {
         requireNonNull(mapper);
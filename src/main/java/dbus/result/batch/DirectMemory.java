@@ -0,0 +1,57 @@
+package dbus.result.batch;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+
+/**
+ * explicit release of direct buffers.
+ * <p>
+ * Java 17 has no public API to free a direct buffer : this relies on {@code sun.misc.Unsafe#invokeCleaner}, from the
+ * {@code jdk.unsupported} module. When it is not available, released buffers are left to the garbage collector.
+ */
+final class DirectMemory {
+
+    private static final MethodHandle INVOKE_CLEANER = invokeCleaner();
+
+    private DirectMemory() {
+    }
+
+    private static MethodHandle invokeCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            return MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(theUnsafe.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return true if buffers are freed as soon as they are released
+     */
+    static boolean isExplicit() {
+        return INVOKE_CLEANER != null;
+    }
+
+    /**
+     * frees the memory of the provided buffer, which must not be accessed anymore.
+     *
+     * @param buffer a direct buffer, which is neither a slice nor a duplicate
+     */
+    static void free(ByteBuffer buffer) {
+        if (INVOKE_CLEANER == null) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invokeExact(buffer);
+        } catch (Throwable throwable) {
+            throw new IllegalStateException("unable to free direct buffer", throwable);
+        }
+    }
+}
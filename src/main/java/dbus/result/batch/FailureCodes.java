@@ -0,0 +1,48 @@
+package dbus.result.batch;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * bidirectional mapping between failure values and {@code int} codes, used to store failures off-heap.
+ * <p>
+ * Decoding the code of a failure must give back an equal failure.
+ *
+ * @param <F> the failure type
+ */
+public interface FailureCodes<F> {
+
+    /**
+     * @param failure the failure to encode
+     * @return the code of the provided failure
+     */
+    int encode(F failure);
+
+    /**
+     * @param code the code of a failure
+     * @return the failure of the provided code
+     */
+    F decode(int code);
+
+    /**
+     * creates failure codes of enum failures, the code of a constant being its ordinal.
+     *
+     * @param type the enum type
+     * @param <E>  the failure type
+     * @return failure codes of the provided enum
+     * @throws NullPointerException if provided type is null
+     */
+    static <E extends Enum<E>> FailureCodes<E> ofEnum(Class<E> type) {
+        E[] constants = requireNonNull(type).getEnumConstants();
+        return new FailureCodes<>() {
+            @Override
+            public int encode(E failure) {
+                return failure.ordinal();
+            }
+
+            @Override
+            public E decode(int code) {
+                return constants[code];
+            }
+        };
+    }
+}
@@ -0,0 +1,426 @@
+package dbus.result.batch;
+
+import dbus.result.primitive.IntResult;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * immutable sequence of {@link IntResult}, stored column by column.
+ * <p>
+ * A batch holds : <p>
+ * * a success mask, one bit per result packed into {@code long} words <p>
+ * * an {@code int} array of success values, where failure slots are always 0 <p>
+ * * a sparse array of failure values, along with their indexes <p>
+ * <p>
+ * Success values are never boxed. Bulk operations iterate over mask words and primitive arrays, and reductions
+ * such as {@link IntResultBatch#sum()} are plain loops over the values thanks to the zeroed failure slots, which
+ * lets the JIT compiler vectorize them.
+ *
+ * @param <F> the failure type
+ */
+public final class IntResultBatch<F> {
+
+    private final int size;
+    private final long[] mask;
+    private final int[] values;
+    private final int[] failureIndexes;
+    private final Object[] failures;
+
+    private IntResultBatch(int size, long[] mask, int[] values, int[] failureIndexes, Object[] failures) {
+        this.size = size;
+        this.mask = mask;
+        this.values = values;
+        this.failureIndexes = failureIndexes;
+        this.failures = failures;
+    }
+
+    /**
+     * creates a batch of successes.
+     *
+     * @param values the success values, copied into the batch
+     * @param <F>    the failure type
+     * @return a batch only containing successes
+     */
+    public static <F> IntResultBatch<F> successes(int... values) {
+        long[] mask = new long[words(values.length)];
+        Arrays.fill(mask, -1L);
+        clearTrailingBits(mask, values.length);
+        return new IntResultBatch<>(values.length, mask, values.clone(), new int[0], new Object[0]);
+    }
+
+    /**
+     * creates a batch from the provided results, keeping their order.
+     *
+     * @param results the results to store
+     * @param <F>     the failure type
+     * @return a batch of the provided results
+     * @throws NullPointerException if provided collection or any of its elements is null
+     */
+    public static <F> IntResultBatch<F> of(Collection<? extends IntResult<? extends F>> results) {
+        Builder<F> builder = new Builder<>(results.size());
+        IntFunction<Builder<F>> addSuccess = builder::addSuccess;
+        Function<F, Builder<F>> addFailure = builder::addFailure;
+        results.forEach(result -> IntResult.<F>narrow(result).match(addSuccess, addFailure));
+        return builder.build();
+    }
+
+    private static int words(int size) {
+        return (size + Long.SIZE - 1) >>> 6;
+    }
+
+    private static void clearTrailingBits(long[] mask, int size) {
+        if (size % Long.SIZE != 0) {
+            mask[mask.length - 1] &= -1L >>> (Long.SIZE - size % Long.SIZE);
+        }
+    }
+
+    /**
+     * @return the number of results
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the number of successes
+     */
+    public long successCount() {
+        return size - failures.length;
+    }
+
+    /**
+     * @return the number of failures
+     */
+    public long failureCount() {
+        return failures.length;
+    }
+
+    /**
+     * @param index the index of the result
+     * @return true if the result at the provided index is a success
+     * @throws IndexOutOfBoundsException if provided index is out of bounds
+     */
+    public boolean isSuccess(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index " + index + " out of bounds for batch of size " + size);
+        }
+        return (mask[index >>> 6] & 1L << index) != 0;
+    }
+
+    /**
+     * creates the result at the provided index.
+     *
+     * @param index the index of the result
+     * @return the result at the provided index
+     * @throws IndexOutOfBoundsException if provided index is out of bounds
+     */
+    public IntResult<F> get(int index) {
+        return isSuccess(index) ?
+                IntResult.success(values[index]) :
+                IntResult.failure(failure(Arrays.binarySearch(failureIndexes, index)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private F failure(int rank) {
+        return (F) failures[rank];
+    }
+
+    /**
+     * applies the provided mapper to every success of the batch.
+     * <p>
+     * The success mask and the failures are shared with the new batch, they are not copied.
+     *
+     * @param mapper the function to apply to every success value
+     * @return a new batch containing the mapped successes and the same failures
+     * @throws NullPointerException if provided mapper is null
+     */
+    public IntResultBatch<F> map(IntUnaryOperator mapper) {
+        requireNonNull(mapper);
+        int[] mapped = new int[size];
+        if (failures.length == 0) {
+            for (int i = 0; i < size; i++) {
+                mapped[i] = mapper.applyAsInt(values[i]);
+            }
+        } else {
+            for (int word = 0; word < mask.length; word++) {
+                for (long bits = mask[word]; bits != 0; bits &= bits - 1) {
+                    int i = word << 6 | Long.numberOfTrailingZeros(bits);
+                    mapped[i] = mapper.applyAsInt(values[i]);
+                }
+            }
+        }
+        return new IntResultBatch<>(size, mask, mapped, failureIndexes, failures);
+    }
+
+    /**
+     * applies the provided mapper to every failure of the batch.
+     * <p>
+     * The success mask and values are shared with the new batch, they are not copied.
+     *
+     * @param mapper the function to apply to every failure value
+     * @param <G>    the new failure type
+     * @return a new batch containing the same successes and the mapped failures
+     * @throws NullPointerException if provided mapper is null, or if it returns null
+     */
+    public <G> IntResultBatch<G> mapFailure(Function<? super F, ? extends G> mapper) {
+        requireNonNull(mapper);
+        Object[] mapped = new Object[failures.length];
+        for (int rank = 0; rank < failures.length; rank++) {
+            mapped[rank] = requireNonNull(mapper.apply(failure(rank)));
+        }
+        return new IntResultBatch<>(size, mask, values, failureIndexes, mapped);
+    }
+
+    /**
+     * validates every success of the batch, turning the ones that do not match the provided predicate into the
+     * provided failure.
+     *
+     * @param predicate the predicate every success value must match
+     * @param failure   the failure of the successes that do not match
+     * @return a new batch where invalid successes are failures
+     * @throws NullPointerException if any parameter is null
+     */
+    public IntResultBatch<F> successIf(IntPredicate predicate, F failure) {
+        requireNonNull(failure);
+        return successIf(predicate, value -> failure);
+    }
+
+    /**
+     * validates every success of the batch, turning the ones that do not match the provided predicate into the
+     * failure created from their value.
+     * <p>
+     * The predicate is first evaluated for every success to build the new success mask, failures are only created
+     * afterwards for the cleared bits.
+     *
+     * @param predicate the predicate every success value must match
+     * @param failure   the function creating the failure of a success value that does not match
+     * @return a new batch where invalid successes are failures
+     * @throws NullPointerException if any parameter is null, or if failure function returns null
+     */
+    public IntResultBatch<F> successIf(IntPredicate predicate, IntFunction<? extends F> failure) {
+        requireNonNull(predicate);
+        requireNonNull(failure);
+        long[] validated = new long[mask.length];
+        int invalidCount = 0;
+        for (int word = 0; word < mask.length; word++) {
+            long valid = test(predicate, word);
+            validated[word] = valid;
+            invalidCount += Long.bitCount(mask[word] & ~valid);
+        }
+        if (invalidCount == 0) {
+            return this;
+        }
+
+        int[] validValues = values.clone();
+        int failureCount = failures.length + invalidCount;
+        int[] newFailureIndexes = new int[failureCount];
+        Object[] newFailures = new Object[failureCount];
+        int rank = 0;
+        int newRank = 0;
+        for (int word = 0; word < mask.length; word++) {
+            long invalid = mask[word] & ~validated[word];
+            for (long bits = invalid; bits != 0; bits &= bits - 1) {
+                int i = word << 6 | Long.numberOfTrailingZeros(bits);
+                while (rank < failures.length && failureIndexes[rank] < i) {
+                    newFailureIndexes[newRank] = failureIndexes[rank];
+                    newFailures[newRank++] = failures[rank++];
+                }
+                newFailureIndexes[newRank] = i;
+                newFailures[newRank++] = requireNonNull(failure.apply(values[i]));
+                validValues[i] = 0;
+            }
+        }
+        System.arraycopy(failureIndexes, rank, newFailureIndexes, newRank, failures.length - rank);
+        System.arraycopy(failures, rank, newFailures, newRank, failures.length - rank);
+        return new IntResultBatch<>(size, validated, validValues, newFailureIndexes, newFailures);
+    }
+
+    private long test(IntPredicate predicate, int word) {
+        long bits = mask[word];
+        long valid = 0;
+        int base = word << 6;
+        if (bits == -1L) {
+            // full words are tested without branching on the mask
+            for (int bit = 0; bit < Long.SIZE; bit++) {
+                valid |= (predicate.test(values[base + bit]) ? 1L : 0L) << bit;
+            }
+        } else {
+            for (; bits != 0; bits &= bits - 1) {
+                int bit = Long.numberOfTrailingZeros(bits);
+                if (predicate.test(values[base + bit])) {
+                    valid |= 1L << bit;
+                }
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * @return the sum of the success values
+     */
+    public long sum() {
+        long sum = 0;
+        for (int value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    /**
+     * @return the minimum success value, or an empty optional if there is no success
+     */
+    public OptionalInt min() {
+        return reduce(Math::min);
+    }
+
+    /**
+     * @return the maximum success value, or an empty optional if there is no success
+     */
+    public OptionalInt max() {
+        return reduce(Math::max);
+    }
+
+    /**
+     * reduces the success values of the batch, in batch order.
+     *
+     * @param accumulator an associative function combining two values
+     * @return the reduced value, or an empty optional if there is no success
+     * @throws NullPointerException if provided accumulator is null
+     */
+    public OptionalInt reduce(IntBinaryOperator accumulator) {
+        requireNonNull(accumulator);
+        boolean found = false;
+        int reduced = 0;
+        for (int word = 0; word < mask.length; word++) {
+            for (long bits = mask[word]; bits != 0; bits &= bits - 1) {
+                int value = values[word << 6 | Long.numberOfTrailingZeros(bits)];
+                reduced = found ? accumulator.applyAsInt(reduced, value) : value;
+                found = true;
+            }
+        }
+        return found ? OptionalInt.of(reduced) : OptionalInt.empty();
+    }
+
+    /**
+     * applies the provided function to every failure of the batch, so that every result becomes a success value.
+     *
+     * @param recoveringFunction the function to apply to every failure value
+     * @return the success values, in batch order
+     * @throws NullPointerException if provided function is null
+     */
+    public int[] recover(ToIntFunction<? super F> recoveringFunction) {
+        requireNonNull(recoveringFunction);
+        int[] recovered = values.clone();
+        for (int rank = 0; rank < failures.length; rank++) {
+            recovered[failureIndexes[rank]] = recoveringFunction.applyAsInt(failure(rank));
+        }
+        return recovered;
+    }
+
+    /**
+     * @return the success values, in batch order
+     */
+    public IntStream successValues() {
+        return IntStream.range(0, size).filter(this::isSuccess).map(i -> values[i]);
+    }
+
+    /**
+     * @return a sequential stream of the results of the batch, in batch order
+     */
+    public Stream<IntResult<F>> stream() {
+        return IntStream.range(0, size).mapToObj(this::get);
+    }
+
+    /**
+     * @return the results of the batch, in batch order
+     */
+    public List<IntResult<F>> toList() {
+        return stream().toList();
+    }
+
+    /**
+     * @return a batch of the same results, where success values are boxed
+     */
+    public ResultBatch<Integer, F> boxed() {
+        Object[] boxed = new Object[size];
+        for (int word = 0; word < mask.length; word++) {
+            for (long bits = mask[word]; bits != 0; bits &= bits - 1) {
+                int i = word << 6 | Long.numberOfTrailingZeros(bits);
+                boxed[i] = values[i];
+            }
+        }
+        return new ResultBatch<>(size, BitSet.valueOf(mask), boxed, failureIndexes, failures);
+    }
+
+    private static final class Builder<F> {
+        private final long[] mask;
+        private final int[] values;
+        private final int[] failureIndexes;
+        private final Object[] failures;
+        private int size;
+        private int failureCount;
+
+        private Builder(int capacity) {
+            mask = new long[words(capacity)];
+            values = new int[capacity];
+            failureIndexes = new int[capacity];
+            failures = new Object[capacity];
+        }
+
+        private Builder<F> addSuccess(int value) {
+            mask[size >>> 6] |= 1L << size;
+            values[size++] = value;
+            return this;
+        }
+
+        private Builder<F> addFailure(F failure) {
+            failureIndexes[failureCount] = size++;
+            failures[failureCount++] = failure;
+            return this;
+        }
+
+        private IntResultBatch<F> build() {
+            return new IntResultBatch<>(size, mask, values,
+                    Arrays.copyOf(failureIndexes, failureCount), Arrays.copyOf(failures, failureCount));
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof IntResultBatch<?> other)) return false;
+        return size == other.size
+                && Arrays.equals(mask, other.mask)
+                && Arrays.equals(values, other.values)
+                && Arrays.equals(failureIndexes, other.failureIndexes)
+                && Arrays.equals(failures, other.failures);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Integer.hashCode(size);
+        result = 31 * result + Arrays.hashCode(mask);
+        result = 31 * result + Arrays.hashCode(values);
+        result = 31 * result + Arrays.hashCode(failures);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "IntResultBatch(size=" + size + ", successes=" + successCount() + ", failures=" + failureCount() + ")";
+    }
+}
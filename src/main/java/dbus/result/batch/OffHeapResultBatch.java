@@ -0,0 +1,320 @@
+package dbus.result.batch;
+
+import dbus.result.primitive.LongResult;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * sequence of {@link LongResult} stored off-heap, in a direct {@link ByteBuffer}.
+ * <p>
+ * The buffer holds the success mask, packed into {@code long} words, followed by one {@code long} slot per result :
+ * the success value, or the code of the failure given by {@link FailureCodes}. No object is stored per result, so
+ * the garbage collector never scans the content of the batch, whatever its size. Results are only created on heap
+ * when they are read one by one.
+ * <p>
+ * A batch must be closed once it is not used anymore : closing frees its off-heap memory immediately, and every
+ * access to a closed batch throws an {@link IllegalStateException}. As Java 17 has no public API to free a direct
+ * buffer, this relies on the {@code jdk.unsupported} module : when it is not available, closing only drops the
+ * reference to the buffer, and the memory is released once the buffer is garbage collected.
+ * <p>
+ * The content of a batch is held in a single buffer, of at most 2 GB : a batch holds at most
+ * {@value #MAX_SIZE} results.
+ *
+ * @param <F> the failure type
+ */
+public final class OffHeapResultBatch<F> implements AutoCloseable {
+
+    /**
+     * the maximum number of results of a batch, whose mask and slots fit in {@link Integer#MAX_VALUE} bytes, so that
+     * every byte offset within a batch fits in an {@code int}.
+     */
+    public static final int MAX_SIZE = 264_305_678;
+
+    private final int size;
+    private final int failureCount;
+    private final int valuesOffset;
+    private final FailureCodes<F> failureCodes;
+    private ByteBuffer buffer;
+
+    private OffHeapResultBatch(int size, int failureCount, ByteBuffer buffer, FailureCodes<F> failureCodes) {
+        this.size = size;
+        this.failureCount = failureCount;
+        this.valuesOffset = words(size) * Long.BYTES;
+        this.buffer = buffer;
+        this.failureCodes = failureCodes;
+    }
+
+    /**
+     * copies the provided results off-heap, keeping their order.
+     *
+     * @param results      the results to store
+     * @param failureCodes the codes used to store failures
+     * @param <F>          the failure type
+     * @return an off-heap batch of the provided results
+     * @throws NullPointerException     if any parameter or any of the results is null
+     * @throws IllegalArgumentException if there are more than {@link #MAX_SIZE} results
+     */
+    public static <F> OffHeapResultBatch<F> of(
+            Collection<? extends LongResult<? extends F>> results,
+            FailureCodes<F> failureCodes
+    ) {
+        requireNonNull(failureCodes);
+        Builder<F> builder = new Builder<>(results.size(), failureCodes);
+        LongFunction<Builder<F>> addSuccess = builder::addSuccess;
+        Function<F, Builder<F>> addFailure = builder::addFailure;
+        results.forEach(result -> LongResult.<F>narrow(result).match(addSuccess, addFailure));
+        return builder.build();
+    }
+
+    private static int words(int size) {
+        return (int) ((size + Long.SIZE - 1L) >>> 6);
+    }
+
+    /**
+     * @return the number of bytes of a batch of the provided size, computed in long so that it cannot overflow
+     */
+    static long byteSize(int size) {
+        return ((long) words(size) + size) * Long.BYTES;
+    }
+
+    private ByteBuffer buffer() {
+        if (buffer == null) {
+            throw new IllegalStateException("off-heap result batch is closed");
+        }
+        return buffer;
+    }
+
+    /**
+     * @return the number of results
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the number of successes
+     */
+    public long successCount() {
+        return size - failureCount;
+    }
+
+    /**
+     * @return the number of failures
+     */
+    public long failureCount() {
+        return failureCount;
+    }
+
+    /**
+     * @return the number of off-heap bytes used by this batch
+     */
+    public int byteSize() {
+        return (int) byteSize(size);
+    }
+
+    /**
+     * @param index the index of the result
+     * @return true if the result at the provided index is a success
+     * @throws IndexOutOfBoundsException if provided index is out of bounds
+     * @throws IllegalStateException     if this batch is closed
+     */
+    public boolean isSuccess(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index " + index + " out of bounds for batch of size " + size);
+        }
+        return (buffer().getLong((index >>> 6) * Long.BYTES) & 1L << index) != 0;
+    }
+
+    private long slot(int index) {
+        return buffer.getLong(valuesOffset + index * Long.BYTES);
+    }
+
+    /**
+     * creates the result at the provided index, on heap.
+     *
+     * @param index the index of the result
+     * @return the result at the provided index
+     * @throws IndexOutOfBoundsException if provided index is out of bounds
+     * @throws IllegalStateException     if this batch is closed
+     */
+    public LongResult<F> get(int index) {
+        return isSuccess(index) ?
+                LongResult.success(slot(index)) :
+                LongResult.failure(failureCodes.decode((int) slot(index)));
+    }
+
+    /**
+     * iterates over the results of the batch, in batch order, without creating any result.
+     *
+     * @param success the consumer of success values
+     * @param failure the consumer of failure values
+     * @throws NullPointerException  if any parameter is null
+     * @throws IllegalStateException if this batch is closed
+     */
+    public void forEach(LongConsumer success, Consumer<? super F> failure) {
+        requireNonNull(success);
+        requireNonNull(failure);
+        ByteBuffer buffer = buffer();
+        for (int word = 0; word < words(size); word++) {
+            long bits = buffer.getLong(word * Long.BYTES);
+            for (int i = word << 6, end = Math.min(i + Long.SIZE, size); i < end; i++) {
+                long slot = slot(i);
+                if ((bits & 1L << i) != 0) {
+                    success.accept(slot);
+                } else {
+                    failure.accept(failureCodes.decode((int) slot));
+                }
+            }
+        }
+    }
+
+    /**
+     * iterates over the success values of the batch, in batch order.
+     *
+     * @param success the consumer of success values
+     * @throws NullPointerException  if provided consumer is null
+     * @throws IllegalStateException if this batch is closed
+     */
+    public void forEachSuccess(LongConsumer success) {
+        requireNonNull(success);
+        ByteBuffer buffer = buffer();
+        for (int word = 0; word < words(size); word++) {
+            for (long bits = buffer.getLong(word * Long.BYTES); bits != 0; bits &= bits - 1) {
+                success.accept(slot(word << 6 | Long.numberOfTrailingZeros(bits)));
+            }
+        }
+    }
+
+    /**
+     * @return the sum of the success values
+     * @throws IllegalStateException if this batch is closed
+     */
+    public long sum() {
+        long[] sum = {0};
+        forEachSuccess(value -> sum[0] += value);
+        return sum[0];
+    }
+
+    /**
+     * applies the provided mapper to every success of the batch, into a new off-heap batch.
+     * <p>
+     * This batch stays open, and must still be closed.
+     *
+     * @param mapper the function to apply to every success value
+     * @return a new off-heap batch containing the mapped successes and the same failures
+     * @throws NullPointerException  if provided mapper is null
+     * @throws IllegalStateException if this batch is closed
+     */
+    public OffHeapResultBatch<F> map(LongUnaryOperator mapper) {
+        requireNonNull(mapper);
+        ByteBuffer mapped = ByteBuffer.allocateDirect(byteSize()).order(ByteOrder.nativeOrder());
+        mapped.put(0, buffer(), 0, byteSize());
+        for (int word = 0; word < words(size); word++) {
+            for (long bits = buffer.getLong(word * Long.BYTES); bits != 0; bits &= bits - 1) {
+                int offset = valuesOffset + (word << 6 | Long.numberOfTrailingZeros(bits)) * Long.BYTES;
+                mapped.putLong(offset, mapper.applyAsLong(buffer.getLong(offset)));
+            }
+        }
+        return new OffHeapResultBatch<>(size, failureCount, mapped, failureCodes);
+    }
+
+    /**
+     * @return a sequential stream of the results of the batch, created on heap on demand
+     * @throws IllegalStateException if this batch is closed
+     */
+    public Stream<LongResult<F>> stream() {
+        buffer();
+        return IntStream.range(0, size).mapToObj(this::get);
+    }
+
+    /**
+     * @return the results of the batch, created on heap
+     * @throws IllegalStateException if this batch is closed
+     */
+    public List<LongResult<F>> toList() {
+        return stream().toList();
+    }
+
+    /**
+     * @return an on-heap batch of the same results, where success values are boxed
+     * @throws IllegalStateException if this batch is closed
+     */
+    public ResultBatch<Long, F> toResultBatch() {
+        ResultBatchBuilder<Long, F> builder = new ResultBatchBuilder<>(size);
+        forEach(builder::addSuccess, builder::addFailure);
+        return builder.build();
+    }
+
+    /**
+     * @return true if this batch has been closed
+     */
+    public boolean isClosed() {
+        return buffer == null;
+    }
+
+    /**
+     * frees the off-heap buffer of this batch, or only drops it when it cannot be freed explicitly. Closing a closed
+     * batch has no effect.
+     */
+    @Override
+    public void close() {
+        ByteBuffer released = buffer;
+        if (released != null) {
+            buffer = null;
+            DirectMemory.free(released);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "OffHeapResultBatch(size=" + size + ", successes=" + successCount() + ", failures=" + failureCount +
+                (isClosed() ? ", closed)" : ")");
+    }
+
+    private static final class Builder<F> {
+        private final ByteBuffer buffer;
+        private final int valuesOffset;
+        private final FailureCodes<F> failureCodes;
+        private int size;
+        private int failureCount;
+
+        private Builder(int capacity, FailureCodes<F> failureCodes) {
+            if (capacity > MAX_SIZE) {
+                throw new IllegalArgumentException(
+                        "off-heap result batch cannot hold more than " + MAX_SIZE + " results, got " + capacity);
+            }
+            this.valuesOffset = words(capacity) * Long.BYTES;
+            this.buffer = ByteBuffer.allocateDirect((int) byteSize(capacity)).order(ByteOrder.nativeOrder());
+            this.failureCodes = failureCodes;
+        }
+
+        private Builder<F> addSuccess(long value) {
+            int word = (size >>> 6) * Long.BYTES;
+            buffer.putLong(word, buffer.getLong(word) | 1L << size);
+            buffer.putLong(valuesOffset + size++ * Long.BYTES, value);
+            return this;
+        }
+
+        private Builder<F> addFailure(F failure) {
+            buffer.putLong(valuesOffset + size++ * Long.BYTES, failureCodes.encode(requireNonNull(failure)));
+            failureCount++;
+            return this;
+        }
+
+        private OffHeapResultBatch<F> build() {
+            return new OffHeapResultBatch<>(size, failureCount, buffer, failureCodes);
+        }
+    }
+}
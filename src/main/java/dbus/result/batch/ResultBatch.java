@@ -0,0 +1,292 @@
+package dbus.result.batch;
+
+import dbus.result.Result;
+import dbus.result.Results;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collector;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * immutable sequence of results, stored column by column instead of one {@link Result} object per element.
+ * <p>
+ * A batch holds : <p>
+ * * a bitset telling which indexes are successes <p>
+ * * an array of success values, indexed like the batch <p>
+ * * a sparse array of failure values, along with their indexes <p>
+ * <p>
+ * This saves one object per result, and bulk operations such as {@link ResultBatch#map(Function)} only iterate over
+ * the set bits of the bitset and the values array. Results are only created when they are read one by one.
+ *
+ * @param <S> the success type
+ * @param <F> the failure type
+ */
+public final class ResultBatch<S, F> {
+
+    private static final ResultBatch<?, ?> EMPTY =
+            new ResultBatch<>(0, new BitSet(), new Object[0], new int[0], new Object[0]);
+
+    private final int size;
+    private final BitSet successes;
+    private final Object[] values;
+    private final int[] failureIndexes;
+    private final Object[] failures;
+
+    ResultBatch(int size, BitSet successes, Object[] values, int[] failureIndexes, Object[] failures) {
+        this.size = size;
+        this.successes = successes;
+        this.values = values;
+        this.failureIndexes = failureIndexes;
+        this.failures = failures;
+    }
+
+    /**
+     * @param <S> the success type
+     * @param <F> the failure type
+     * @return an empty batch
+     */
+    @SuppressWarnings("unchecked")
+    public static <S, F> ResultBatch<S, F> empty() {
+        return (ResultBatch<S, F>) EMPTY;
+    }
+
+    /**
+     * creates a batch from the provided results, keeping their order.
+     *
+     * @param results the results to store
+     * @param <S>     the success type
+     * @param <F>     the failure type
+     * @return a batch of the provided results
+     * @throws NullPointerException if provided collection or any of its elements is null
+     */
+    public static <S, F> ResultBatch<S, F> of(Collection<? extends Result<? extends S, ? extends F>> results) {
+        ResultBatchBuilder<S, F> builder = new ResultBatchBuilder<>(results.size());
+        results.forEach(builder::add);
+        return builder.build();
+    }
+
+    /**
+     * creates a batch from collected results : the successes, followed by the failures.
+     *
+     * @param results the collected results
+     * @param <S>     the success type
+     * @param <F>     the failure type
+     * @return a batch of the collected results
+     * @throws NullPointerException if provided results is null
+     */
+    public static <S, F> ResultBatch<S, F> of(Results<? extends S, ? extends F> results) {
+        ResultBatchBuilder<S, F> builder = new ResultBatchBuilder<>(results.successes().size() + results.failures().size());
+        results.successes().forEach(builder::addSuccess);
+        results.failures().forEach(builder::addFailure);
+        return builder.build();
+    }
+
+    /**
+     * creates a collector that stores a result stream into a batch, keeping the encounter order.
+     *
+     * @param <S> the success type
+     * @param <F> the failure type
+     * @return a collector returning a batch
+     */
+    public static <S, F> Collector<Result<S, F>, ?, ResultBatch<S, F>> collector() {
+        return Collector.of(
+                ResultBatchBuilder<S, F>::new,
+                ResultBatchBuilder::add,
+                ResultBatchBuilder::addAll,
+                ResultBatchBuilder::build
+        );
+    }
+
+    /**
+     * @return the number of results
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the number of successes
+     */
+    public long successCount() {
+        return size - failures.length;
+    }
+
+    /**
+     * @return the number of failures
+     */
+    public long failureCount() {
+        return failures.length;
+    }
+
+    /**
+     * @param index the index of the result
+     * @return true if the result at the provided index is a success
+     * @throws IndexOutOfBoundsException if provided index is out of bounds
+     */
+    public boolean isSuccess(int index) {
+        return successes.get(checkIndex(index));
+    }
+
+    /**
+     * creates the result at the provided index.
+     *
+     * @param index the index of the result
+     * @return the result at the provided index
+     * @throws IndexOutOfBoundsException if provided index is out of bounds
+     */
+    public Result<S, F> get(int index) {
+        return isSuccess(index) ?
+                Result.success(value(index)) :
+                Result.failure(failure(Arrays.binarySearch(failureIndexes, index)));
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index " + index + " out of bounds for batch of size " + size);
+        }
+        return index;
+    }
+
+    @SuppressWarnings("unchecked")
+    private S value(int index) {
+        return (S) values[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    private F failure(int rank) {
+        return (F) failures[rank];
+    }
+
+    /**
+     * applies the provided mapper to every success of the batch.
+     * <p>
+     * Failures are shared with the new batch, they are not copied.
+     *
+     * @param mapper the function to apply to every success value
+     * @param <R>    the new success type
+     * @return a new batch containing the mapped successes and the same failures
+     * @throws NullPointerException if provided mapper is null, or if it returns null
+     */
+    public <R> ResultBatch<R, F> map(Function<? super S, ? extends R> mapper) {
+        requireNonNull(mapper);
+        Object[] mapped = new Object[size];
+        for (int i = successes.nextSetBit(0); i >= 0; i = successes.nextSetBit(i + 1)) {
+            mapped[i] = requireNonNull(mapper.apply(value(i)));
+        }
+        return new ResultBatch<>(size, successes, mapped, failureIndexes, failures);
+    }
+
+    /**
+     * applies the provided mapper to every failure of the batch.
+     * <p>
+     * Successes are shared with the new batch, they are not copied.
+     *
+     * @param mapper the function to apply to every failure value
+     * @param <G>    the new failure type
+     * @return a new batch containing the same successes and the mapped failures
+     * @throws NullPointerException if provided mapper is null, or if it returns null
+     */
+    public <G> ResultBatch<S, G> mapFailure(Function<? super F, ? extends G> mapper) {
+        requireNonNull(mapper);
+        Object[] mapped = new Object[failures.length];
+        for (int rank = 0; rank < failures.length; rank++) {
+            mapped[rank] = requireNonNull(mapper.apply(failure(rank)));
+        }
+        return new ResultBatch<>(size, successes, values, failureIndexes, mapped);
+    }
+
+    /**
+     * applies the provided function to every success of the batch, each success being replaced by the returned
+     * result.
+     *
+     * @param bound the function to apply to every success value
+     * @param <R>   the new success type
+     * @return a new batch containing the bound results and the same failures
+     * @throws NullPointerException if provided function is null, or if it returns null
+     */
+    public <R> ResultBatch<R, F> flatMap(Function<? super S, ? extends Result<? extends R, ? extends F>> bound) {
+        requireNonNull(bound);
+        ResultBatchBuilder<R, F> builder = new ResultBatchBuilder<>(size);
+        int rank = 0;
+        for (int i = 0; i < size; i++) {
+            if (successes.get(i)) {
+                builder.add(bound.apply(value(i)));
+            } else {
+                builder.addFailure(failure(rank++));
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * applies the provided function to every failure of the batch, so that every result becomes a success value.
+     *
+     * @param recoveringFunction the function to apply to every failure value
+     * @return the success values, in batch order
+     * @throws NullPointerException if provided function is null, or if it returns null
+     */
+    public List<S> recover(Function<? super F, ? extends S> recoveringFunction) {
+        requireNonNull(recoveringFunction);
+        Object[] recovered = Arrays.copyOf(values, size);
+        for (int rank = 0; rank < failures.length; rank++) {
+            recovered[failureIndexes[rank]] = requireNonNull(recoveringFunction.apply(failure(rank)));
+        }
+        @SuppressWarnings("unchecked")
+        List<S> list = (List<S>) Arrays.asList(recovered);
+        return Collections.unmodifiableList(list);
+    }
+
+    /**
+     * @return a sequential stream of the results of the batch, in batch order
+     */
+    public Stream<Result<S, F>> stream() {
+        return IntStream.range(0, size).mapToObj(this::get);
+    }
+
+    /**
+     * @return the results of the batch, in batch order
+     */
+    public List<Result<S, F>> toList() {
+        return stream().toList();
+    }
+
+    /**
+     * @return the collected successes and failures of the batch
+     */
+    public Results<S, F> toResults() {
+        return stream().collect(Result.collector(Result::<Results<S, F>, Results<S, F>>success)).successValue();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ResultBatch<?, ?> other)) return false;
+        return size == other.size
+                && successes.equals(other.successes)
+                && Arrays.equals(values, other.values)
+                && Arrays.equals(failureIndexes, other.failureIndexes)
+                && Arrays.equals(failures, other.failures);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Integer.hashCode(size);
+        result = 31 * result + successes.hashCode();
+        result = 31 * result + Arrays.hashCode(values);
+        result = 31 * result + Arrays.hashCode(failures);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "ResultBatch(size=" + size + ", successes=" + successCount() + ", failures=" + failureCount() + ")";
+    }
+}
@@ -0,0 +1,91 @@
+package dbus.result.batch;
+
+import dbus.result.Result;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * mutable container used to build a {@link ResultBatch}, growing its columns as results are added.
+ *
+ * @param <S> the success type
+ * @param <F> the failure type
+ */
+final class ResultBatchBuilder<S, F> {
+
+    private int size;
+    private final BitSet successes = new BitSet();
+    private Object[] values;
+    private int failureCount;
+    private int[] failureIndexes = new int[0];
+    private Object[] failures = new Object[0];
+
+    ResultBatchBuilder() {
+        this(16);
+    }
+
+    ResultBatchBuilder(int expectedSize) {
+        values = new Object[expectedSize];
+    }
+
+    void add(Result<? extends S, ? extends F> result) {
+        if (result.isSuccess()) {
+            addSuccess(result.successValue());
+        } else {
+            addFailure(result.failureValue());
+        }
+    }
+
+    void addSuccess(S value) {
+        ensureCapacity(size + 1);
+        successes.set(size);
+        values[size++] = requireNonNull(value);
+    }
+
+    void addFailure(F failure) {
+        ensureCapacity(size + 1);
+        if (failureCount == failures.length) {
+            int capacity = Math.max(8, failureCount * 2);
+            failureIndexes = Arrays.copyOf(failureIndexes, capacity);
+            failures = Arrays.copyOf(failures, capacity);
+        }
+        failureIndexes[failureCount] = size++;
+        failures[failureCount++] = requireNonNull(failure);
+    }
+
+    ResultBatchBuilder<S, F> addAll(ResultBatchBuilder<S, F> other) {
+        ensureCapacity(size + other.size);
+        int offset = size;
+        for (int i = other.successes.nextSetBit(0); i >= 0; i = other.successes.nextSetBit(i + 1)) {
+            successes.set(offset + i);
+        }
+        System.arraycopy(other.values, 0, values, offset, other.size);
+        failureIndexes = Arrays.copyOf(failureIndexes, failureCount + other.failureCount);
+        failures = Arrays.copyOf(failures, failureCount + other.failureCount);
+        for (int rank = 0; rank < other.failureCount; rank++) {
+            failureIndexes[failureCount + rank] = offset + other.failureIndexes[rank];
+        }
+        System.arraycopy(other.failures, 0, failures, failureCount, other.failureCount);
+        failureCount += other.failureCount;
+        size += other.size;
+        return this;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > values.length) {
+            values = Arrays.copyOf(values, Math.max(capacity, values.length * 2));
+        }
+    }
+
+    ResultBatch<S, F> build() {
+        return new ResultBatch<>(
+                size,
+                successes,
+                Arrays.copyOf(values, size),
+                Arrays.copyOf(failureIndexes, failureCount),
+                Arrays.copyOf(failures, failureCount)
+        );
+    }
+}
@@ -0,0 +1,102 @@
+package dbus.result.io;
+
+import java.nio.ByteBuffer;
+
+/**
+ * binary encoding of success or failure values.
+ * <p>
+ * A codec writes a value at the position of a buffer and reads it back from the same position, moving the position
+ * after the value in both cases.
+ *
+ * @param <T> the type of encoded values
+ */
+public interface PayloadCodec<T> {
+
+    /**
+     * @param value the value to encode
+     * @return the number of bytes {@link PayloadCodec#encode(Object, ByteBuffer)} writes for the provided value
+     */
+    int encodedSize(T value);
+
+    /**
+     * writes the provided value at the position of the target buffer.
+     *
+     * @param value  the value to encode
+     * @param target the buffer to write into, with at least {@link PayloadCodec#encodedSize(Object)} bytes remaining
+     */
+    void encode(T value, ByteBuffer target);
+
+    /**
+     * reads a value at the position of the source buffer.
+     *
+     * @param source the buffer to read from
+     * @return the decoded value
+     */
+    T decode(ByteBuffer source);
+
+    /**
+     * @return a codec of {@code int} values, on 4 bytes
+     */
+    static PayloadCodec<Integer> ints() {
+        return PayloadCodecs.INTS;
+    }
+
+    /**
+     * @return a codec of {@code long} values, on 8 bytes
+     */
+    static PayloadCodec<Long> longs() {
+        return PayloadCodecs.LONGS;
+    }
+
+    /**
+     * @return a codec of strings, encoded in UTF-8 after their byte length
+     */
+    static PayloadCodec<String> utf8() {
+        return PayloadCodecs.UTF_8;
+    }
+
+    /**
+     * @return a codec of {@code double} values, on 8 bytes
+     */
+    static PayloadCodec<Double> doubles() {
+        return PayloadCodecs.DOUBLES;
+    }
+
+    /**
+     * codec of raw bytes, encoded after their length.
+     * <p>
+     * Decoding does not copy anything : it returns a read-only view of the source buffer, which is only valid as
+     * long as the source content is not overwritten.
+     *
+     * @return a codec of byte buffers, from their position to their limit
+     */
+    static PayloadCodec<ByteBuffer> bytes() {
+        return PayloadCodecs.BYTES;
+    }
+
+    /**
+     * @param type the enum type
+     * @param <E>  the enum type
+     * @return a codec of enum constants, encoded as their ordinal on 4 bytes
+     * @throws NullPointerException if provided type is null
+     */
+    static <E extends Enum<E>> PayloadCodec<E> enums(Class<E> type) {
+        E[] constants = type.getEnumConstants();
+        return new PayloadCodec<>() {
+            @Override
+            public int encodedSize(E value) {
+                return Integer.BYTES;
+            }
+
+            @Override
+            public void encode(E value, ByteBuffer target) {
+                target.putInt(value.ordinal());
+            }
+
+            @Override
+            public E decode(ByteBuffer source) {
+                return constants[source.getInt()];
+            }
+        };
+    }
+}
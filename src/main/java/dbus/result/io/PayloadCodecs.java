@@ -0,0 +1,138 @@
+package dbus.result.io;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * built-in {@link PayloadCodec} implementations.
+ */
+final class PayloadCodecs {
+
+    private PayloadCodecs() {
+    }
+
+    static final PayloadCodec<Integer> INTS = new PayloadCodec<>() {
+        @Override
+        public int encodedSize(Integer value) {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void encode(Integer value, ByteBuffer target) {
+            target.putInt(value);
+        }
+
+        @Override
+        public Integer decode(ByteBuffer source) {
+            return source.getInt();
+        }
+    };
+
+    static final PayloadCodec<Long> LONGS = new PayloadCodec<>() {
+        @Override
+        public int encodedSize(Long value) {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void encode(Long value, ByteBuffer target) {
+            target.putLong(value);
+        }
+
+        @Override
+        public Long decode(ByteBuffer source) {
+            return source.getLong();
+        }
+    };
+
+    static final PayloadCodec<Double> DOUBLES = new PayloadCodec<>() {
+        @Override
+        public int encodedSize(Double value) {
+            return Double.BYTES;
+        }
+
+        @Override
+        public void encode(Double value, ByteBuffer target) {
+            target.putDouble(value);
+        }
+
+        @Override
+        public Double decode(ByteBuffer source) {
+            return source.getDouble();
+        }
+    };
+
+    static final PayloadCodec<ByteBuffer> BYTES = new PayloadCodec<>() {
+        @Override
+        public int encodedSize(ByteBuffer value) {
+            return Integer.BYTES + value.remaining();
+        }
+
+        @Override
+        public void encode(ByteBuffer value, ByteBuffer target) {
+            target.putInt(value.remaining());
+            target.put(value.duplicate());
+        }
+
+        @Override
+        public ByteBuffer decode(ByteBuffer source) {
+            int length = source.getInt();
+            ByteBuffer value = source.slice(source.position(), length).asReadOnlyBuffer();
+            source.position(source.position() + length);
+            return value;
+        }
+    };
+
+    static final PayloadCodec<String> UTF_8 = new PayloadCodec<>() {
+        @Override
+        public int encodedSize(String value) {
+            return Integer.BYTES + utf8Length(value);
+        }
+
+        @Override
+        public void encode(String value, ByteBuffer target) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            target.putInt(bytes.length);
+            target.put(bytes);
+        }
+
+        @Override
+        public String decode(ByteBuffer source) {
+            int length = source.getInt();
+            String value;
+            if (source.hasArray()) {
+                value = new String(source.array(), source.arrayOffset() + source.position(), length, StandardCharsets.UTF_8);
+            } else {
+                byte[] bytes = new byte[length];
+                source.get(source.position(), bytes);
+                value = new String(bytes, StandardCharsets.UTF_8);
+            }
+            source.position(source.position() + length);
+            return value;
+        }
+    };
+
+    /**
+     * computes the UTF-8 length of a string without encoding it.
+     */
+    static int utf8Length(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                // unpaired surrogates are replaced by '?'
+                length++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+}
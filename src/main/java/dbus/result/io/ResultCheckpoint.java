@@ -0,0 +1,262 @@
+package dbus.result.io;
+
+import dbus.result.Result;
+import dbus.result.Results;
+import dbus.result.batch.ResultBatch;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * append-only log of results, written to a memory-mapped file, so that the results of a long job survive a crash.
+ * <p>
+ * The file starts with a 4 bytes magic number, followed by one record per result : <p>
+ * * a tag byte, {@link ResultCodec#SUCCESS} or {@link ResultCodec#FAILURE} <p>
+ * * the payload length, on 4 bytes <p>
+ * * the payload, written by the success or failure {@link PayloadCodec} <p>
+ * <p>
+ * The tag byte is written last, so that a record interrupted by a crash keeps a zero tag and is ignored. When the
+ * checkpoint is opened again, the complete records are read back in {@link ResultCheckpoint#recovered()}, and new
+ * results are appended after them. Written records survive a crash of the process as soon as they are appended,
+ * and a crash of the system once {@link ResultCheckpoint#force()} returns.
+ * <p>
+ * A checkpoint is not thread safe.
+ *
+ * @param <S> the success type
+ * @param <F> the failure type
+ */
+public final class ResultCheckpoint<S, F> implements AutoCloseable {
+
+    static final int MAGIC = 0x5253_4C54;
+
+    private static final int HEADER_SIZE = Integer.BYTES;
+    private static final int RECORD_HEADER_SIZE = 1 + Integer.BYTES;
+    private static final int MIN_MAPPED_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+    private final PayloadCodec<S> successCodec;
+    private final PayloadCodec<F> failureCodec;
+    private final List<Result<S, F>> recovered;
+    private MappedByteBuffer mapped;
+    private int position;
+    private long count;
+
+    private ResultCheckpoint(FileChannel channel, PayloadCodec<S> successCodec, PayloadCodec<F> failureCodec)
+            throws IOException {
+        this.channel = channel;
+        this.successCodec = successCodec;
+        this.failureCodec = failureCodec;
+        long fileSize = channel.size();
+        if (fileSize > Integer.MAX_VALUE) {
+            throw new IOException("checkpoint file is too large : " + fileSize + " bytes");
+        }
+        map(Math.max(MIN_MAPPED_SIZE, (int) fileSize));
+        if (fileSize == 0) {
+            mapped.putInt(0, MAGIC);
+        } else if (fileSize < HEADER_SIZE || mapped.getInt(0) != MAGIC) {
+            throw new IOException("not a result checkpoint file");
+        }
+        this.recovered = Collections.unmodifiableList(readRecords((int) fileSize));
+        this.count = recovered.size();
+    }
+
+    /**
+     * opens a checkpoint file, creating it if it does not exist.
+     * <p>
+     * The results of an existing file are read back, and new results are appended after them.
+     *
+     * @param file         the checkpoint file
+     * @param successCodec the codec of success values
+     * @param failureCodec the codec of failure values
+     * @param <S>          the success type
+     * @param <F>          the failure type
+     * @return an opened checkpoint
+     * @throws IOException          if the file cannot be opened, or if it is not a checkpoint file
+     * @throws NullPointerException if any parameter is null
+     */
+    public static <S, F> ResultCheckpoint<S, F> open(
+            Path file,
+            PayloadCodec<S> successCodec,
+            PayloadCodec<F> failureCodec
+    ) throws IOException {
+        requireNonNull(successCodec);
+        requireNonNull(failureCodec);
+        FileChannel channel = FileChannel.open(requireNonNull(file),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            return new ResultCheckpoint<>(channel, successCodec, failureCodec);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private void map(int size) throws IOException {
+        mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    }
+
+    /**
+     * reads every complete record, then clears what follows the last one, so that leftovers of an interrupted record
+     * can never be read as part of a later record.
+     */
+    private List<Result<S, F>> readRecords(int fileSize) {
+        List<Result<S, F>> results = new ArrayList<>();
+        position = HEADER_SIZE;
+        while (position + RECORD_HEADER_SIZE <= fileSize) {
+            byte tag = mapped.get(position);
+            int length = mapped.getInt(position + 1);
+            long end = (long) position + RECORD_HEADER_SIZE + length;
+            if ((tag != ResultCodec.SUCCESS && tag != ResultCodec.FAILURE) || length < 0 || end > fileSize) {
+                break;
+            }
+            ByteBuffer payload = mapped.slice(position + RECORD_HEADER_SIZE, length);
+            results.add(tag == ResultCodec.SUCCESS ?
+                    Result.success(successCodec.decode(payload)) :
+                    Result.failure(failureCodec.decode(payload)));
+            position = (int) end;
+        }
+        for (int i = position; i < fileSize; i++) {
+            mapped.put(i, (byte) 0);
+        }
+        return results;
+    }
+
+    /**
+     * @return the results read from the file when it was opened, in append order
+     */
+    public List<Result<S, F>> recovered() {
+        return recovered;
+    }
+
+    /**
+     * @return the number of results of the file, recovered or appended
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * appends the provided result to the file.
+     *
+     * @param result the result to append
+     * @return this checkpoint
+     * @throws NullPointerException  if provided result is null
+     * @throws UncheckedIOException  if the file cannot grow
+     * @throws IllegalStateException if this checkpoint is closed
+     */
+    public ResultCheckpoint<S, F> append(Result<S, F> result) {
+        if (result.isSuccess()) {
+            appendRecord(ResultCodec.SUCCESS, result.successValue(), successCodec);
+        } else {
+            appendRecord(ResultCodec.FAILURE, result.failureValue(), failureCodec);
+        }
+        return this;
+    }
+
+    /**
+     * appends the provided successes, then the provided failures, to the file.
+     * <p>
+     * {@link Results} does not keep the order of successes relative to failures, so the appended records do not
+     * follow the input order, and {@link ResultCheckpoint#recovered()} cannot tell which inputs already succeeded.
+     * A job meant to be resumed should append its results one by one, or as a {@link ResultBatch}, which keep the
+     * input order.
+     *
+     * @param results the results to append
+     * @return this checkpoint
+     * @throws UncheckedIOException  if the file cannot grow
+     * @throws IllegalStateException if this checkpoint is closed
+     */
+    public ResultCheckpoint<S, F> appendAll(Results<? extends S, ? extends F> results) {
+        results.successes().forEach(success -> appendRecord(ResultCodec.SUCCESS, success, successCodec));
+        results.failures().forEach(failure -> appendRecord(ResultCodec.FAILURE, failure, failureCodec));
+        return this;
+    }
+
+    /**
+     * appends the results of the provided batch to the file, in batch order.
+     *
+     * @param batch the results to append
+     * @return this checkpoint
+     * @throws UncheckedIOException  if the file cannot grow
+     * @throws IllegalStateException if this checkpoint is closed
+     */
+    public ResultCheckpoint<S, F> appendAll(ResultBatch<? extends S, ? extends F> batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            append(Result.narrow(batch.get(i)));
+        }
+        return this;
+    }
+
+    private <T> void appendRecord(byte tag, T value, PayloadCodec<T> codec) {
+        if (mapped == null) {
+            throw new IllegalStateException("result checkpoint is closed");
+        }
+        int length = codec.encodedSize(value);
+        ensureCapacity((long) position + RECORD_HEADER_SIZE + length);
+        mapped.putInt(position + 1, length);
+        codec.encode(value, mapped.slice(position + RECORD_HEADER_SIZE, length));
+        mapped.put(position, tag);
+        position += RECORD_HEADER_SIZE + length;
+        count++;
+    }
+
+    private void ensureCapacity(long capacity) {
+        if (capacity > mapped.capacity()) {
+            if (capacity > Integer.MAX_VALUE) {
+                throw new UncheckedIOException(new IOException("checkpoint file cannot exceed 2 GB"));
+            }
+            try {
+                map((int) Math.min(Integer.MAX_VALUE, Math.max(capacity, 2L * mapped.capacity())));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * writes the appended results to the storage device.
+     *
+     * @throws IllegalStateException if this checkpoint is closed
+     */
+    public void force() {
+        if (mapped == null) {
+            throw new IllegalStateException("result checkpoint is closed");
+        }
+        mapped.force();
+    }
+
+    /**
+     * writes the appended results to the storage device, then closes the file. Closing a closed checkpoint has no
+     * effect.
+     *
+     * @throws UncheckedIOException if the file cannot be closed
+     */
+    @Override
+    public void close() {
+        if (mapped == null) {
+            return;
+        }
+        mapped.force();
+        mapped = null;
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ResultCheckpoint(results=" + count + ", recovered=" + recovered.size() + ")";
+    }
+}
@@ -0,0 +1,141 @@
+package dbus.result.io;
+
+import dbus.result.Result;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * binary codec of {@link Result}.
+ * <p>
+ * A result is encoded as a tag byte, {@link ResultCodec#SUCCESS} or {@link ResultCodec#FAILURE}, followed by its
+ * value encoded by the success or failure {@link PayloadCodec}. A batch of results is encoded as its size on 4 bytes,
+ * followed by every result.
+ * <p>
+ * As a codec of results is itself a payload codec, results of results can be encoded by nesting codecs.
+ *
+ * @param <S> the success type
+ * @param <F> the failure type
+ */
+public final class ResultCodec<S, F> implements PayloadCodec<Result<S, F>> {
+
+    /**
+     * tag of an encoded success.
+     */
+    public static final byte SUCCESS = 1;
+    /**
+     * tag of an encoded failure.
+     */
+    public static final byte FAILURE = 2;
+
+    private final PayloadCodec<S> successCodec;
+    private final PayloadCodec<F> failureCodec;
+
+    private ResultCodec(PayloadCodec<S> successCodec, PayloadCodec<F> failureCodec) {
+        this.successCodec = successCodec;
+        this.failureCodec = failureCodec;
+    }
+
+    /**
+     * @param successCodec the codec of success values
+     * @param failureCodec the codec of failure values
+     * @param <S>          the success type
+     * @param <F>          the failure type
+     * @return a codec of results
+     * @throws NullPointerException if any parameter is null
+     */
+    public static <S, F> ResultCodec<S, F> of(PayloadCodec<S> successCodec, PayloadCodec<F> failureCodec) {
+        return new ResultCodec<>(requireNonNull(successCodec), requireNonNull(failureCodec));
+    }
+
+    @Override
+    public int encodedSize(Result<S, F> result) {
+        return 1 + (result.isSuccess() ?
+                successCodec.encodedSize(result.successValue()) :
+                failureCodec.encodedSize(result.failureValue()));
+    }
+
+    @Override
+    public void encode(Result<S, F> result, ByteBuffer target) {
+        if (result.isSuccess()) {
+            target.put(SUCCESS);
+            successCodec.encode(result.successValue(), target);
+        } else {
+            target.put(FAILURE);
+            failureCodec.encode(result.failureValue(), target);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the tag byte is unknown
+     */
+    @Override
+    public Result<S, F> decode(ByteBuffer source) {
+        byte tag = source.get();
+        return switch (tag) {
+            case SUCCESS -> Result.success(successCodec.decode(source));
+            case FAILURE -> Result.failure(failureCodec.decode(source));
+            default -> throw new IllegalArgumentException("unknown result tag " + tag);
+        };
+    }
+
+    /**
+     * @param results the results to encode
+     * @return the number of bytes {@link ResultCodec#encodeAll(Collection, ByteBuffer)} writes for the provided results
+     */
+    public int encodedSize(Collection<? extends Result<S, F>> results) {
+        int size = Integer.BYTES;
+        for (Result<S, F> result : results) {
+            size += encodedSize(result);
+        }
+        return size;
+    }
+
+    /**
+     * writes the provided results at the position of the target buffer.
+     *
+     * @param results the results to encode
+     * @param target  the buffer to write into
+     */
+    public void encodeAll(Collection<? extends Result<S, F>> results, ByteBuffer target) {
+        target.putInt(results.size());
+        for (Result<S, F> result : results) {
+            encode(result, target);
+        }
+    }
+
+    /**
+     * encodes the provided results into a new heap buffer of the exact size.
+     *
+     * @param results the results to encode
+     * @return a buffer containing the encoded results, ready to be read
+     */
+    public ByteBuffer encodeAll(Collection<? extends Result<S, F>> results) {
+        ByteBuffer target = ByteBuffer.allocate(encodedSize(results));
+        encodeAll(results, target);
+        return target.flip();
+    }
+
+    /**
+     * reads results written by {@link ResultCodec#encodeAll(Collection, ByteBuffer)} at the position of the source
+     * buffer.
+     *
+     * @param source the buffer to read from
+     * @return the decoded results, in encoding order
+     * @throws IllegalArgumentException if a tag byte is unknown
+     */
+    public List<Result<S, F>> decodeAll(ByteBuffer source) {
+        int size = source.getInt();
+        List<Result<S, F>> results = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            results.add(decode(source));
+        }
+        return results;
+    }
+}
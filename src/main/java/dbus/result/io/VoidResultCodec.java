@@ -0,0 +1,111 @@
+package dbus.result.io;
+
+import dbus.result.void_.VoidResult;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * binary codec of {@link VoidResult}.
+ * <p>
+ * A success is encoded as the single {@link ResultCodec#SUCCESS} tag byte, and a failure as the
+ * {@link ResultCodec#FAILURE} tag byte followed by its value encoded by the failure {@link PayloadCodec}. A batch of
+ * void results is encoded as its size on 4 bytes, followed by every void result.
+ *
+ * @param <F> the failure type
+ */
+public final class VoidResultCodec<F> implements PayloadCodec<VoidResult<F>> {
+
+    private final PayloadCodec<F> failureCodec;
+
+    private VoidResultCodec(PayloadCodec<F> failureCodec) {
+        this.failureCodec = failureCodec;
+    }
+
+    /**
+     * @param failureCodec the codec of failure values
+     * @param <F>          the failure type
+     * @return a codec of void results
+     * @throws NullPointerException if provided codec is null
+     */
+    public static <F> VoidResultCodec<F> of(PayloadCodec<F> failureCodec) {
+        return new VoidResultCodec<>(requireNonNull(failureCodec));
+    }
+
+    @Override
+    public int encodedSize(VoidResult<F> voidResult) {
+        return voidResult.isSuccess() ? 1 : 1 + failureCodec.encodedSize(voidResult.failureValue());
+    }
+
+    @Override
+    public void encode(VoidResult<F> voidResult, ByteBuffer target) {
+        if (voidResult.isSuccess()) {
+            target.put(ResultCodec.SUCCESS);
+        } else {
+            target.put(ResultCodec.FAILURE);
+            failureCodec.encode(voidResult.failureValue(), target);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the tag byte is unknown
+     */
+    @Override
+    public VoidResult<F> decode(ByteBuffer source) {
+        byte tag = source.get();
+        return switch (tag) {
+            case ResultCodec.SUCCESS -> VoidResult.success();
+            case ResultCodec.FAILURE -> VoidResult.failure(failureCodec.decode(source));
+            default -> throw new IllegalArgumentException("unknown void result tag " + tag);
+        };
+    }
+
+    /**
+     * @param voidResults the void results to encode
+     * @return the number of bytes {@link VoidResultCodec#encodeAll(Collection, ByteBuffer)} writes for the provided
+     * void results
+     */
+    public int encodedSize(Collection<? extends VoidResult<F>> voidResults) {
+        int size = Integer.BYTES;
+        for (VoidResult<F> voidResult : voidResults) {
+            size += encodedSize(voidResult);
+        }
+        return size;
+    }
+
+    /**
+     * writes the provided void results at the position of the target buffer.
+     *
+     * @param voidResults the void results to encode
+     * @param target      the buffer to write into
+     */
+    public void encodeAll(Collection<? extends VoidResult<F>> voidResults, ByteBuffer target) {
+        target.putInt(voidResults.size());
+        for (VoidResult<F> voidResult : voidResults) {
+            encode(voidResult, target);
+        }
+    }
+
+    /**
+     * reads void results written by {@link VoidResultCodec#encodeAll(Collection, ByteBuffer)} at the position of the
+     * source buffer.
+     *
+     * @param source the buffer to read from
+     * @return the decoded void results, in encoding order
+     * @throws IllegalArgumentException if a tag byte is unknown
+     */
+    public List<VoidResult<F>> decodeAll(ByteBuffer source) {
+        int size = source.getInt();
+        List<VoidResult<F>> voidResults = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            voidResults.add(decode(source));
+        }
+        return voidResults;
+    }
+}
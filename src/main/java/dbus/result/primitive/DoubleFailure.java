@@ -0,0 +1,118 @@
+package dbus.result.primitive;
+
+import dbus.result.Result;
+import dbus.result.void_.VoidResult;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.util.OptionalDouble;
+import java.util.function.*;
+
+import static dbus.result.primitive.DoubleResult.narrow;
+import static java.util.Objects.requireNonNull;
+
+@EqualsAndHashCode
+@ToString
+final class DoubleFailure<F> implements DoubleResult<F> {
+
+    private final F value;
+
+    DoubleFailure(F value) {
+        this.value = requireNonNull(value);
+    }
+
+    @Override
+    public <R> R match(DoubleFunction<? extends R> success, Function<? super F, ? extends R> failure) {
+        requireNonNull(success);
+        return failure.apply(value);
+    }
+
+    @Override
+    public DoubleResult<F> map(DoubleUnaryOperator mapper) {
+        requireNonNull(mapper);
+        return this;
+    }
+
+    @Override
+    public DoubleResult<F> map(DoubleSupplier mapper) {
+        requireNonNull(mapper);
+        return this;
+    }
+
+    @Override
+    public <R> Result<R, F> mapToObj(DoubleFunction<? extends R> mapper) {
+        requireNonNull(mapper);
+        return Result.failure(value);
+    }
+
+    @Override
+    public VoidResult<F> map(DoubleConsumer consumer) {
+        requireNonNull(consumer);
+        return VoidResult.failure(value);
+    }
+
+    @Override
+    public <G> DoubleResult<G> mapFailure(Function<? super F, ? extends G> mapper) {
+        return new DoubleFailure<>(mapper.apply(value));
+    }
+
+    @Override
+    public <G> DoubleResult<G> mapFailure(Supplier<? extends G> mapper) {
+        return new DoubleFailure<>(mapper.get());
+    }
+
+    @Override
+    public OptionalDouble mapFailure(Consumer<? super F> consumer) {
+        consumer.accept(value);
+        return OptionalDouble.empty();
+    }
+
+    @Override
+    public DoubleResult<F> flatMap(DoubleFunction<? extends DoubleResult<? extends F>> bound) {
+        requireNonNull(bound);
+        return this;
+    }
+
+    @Override
+    public DoubleResult<F> flatMap(Supplier<? extends DoubleResult<? extends F>> bound) {
+        requireNonNull(bound);
+        return this;
+    }
+
+    @Override
+    public <R> Result<R, F> flatMapToResult(DoubleFunction<? extends Result<? extends R, ? extends F>> bound) {
+        requireNonNull(bound);
+        return Result.failure(value);
+    }
+
+    @Override
+    public VoidResult<F> flatMapToVoid(DoubleFunction<? extends VoidResult<? extends F>> bound) {
+        requireNonNull(bound);
+        return VoidResult.failure(value);
+    }
+
+    @Override
+    public double recover(ToDoubleFunction<? super F> recoveringFunction) {
+        return recoveringFunction.applyAsDouble(value);
+    }
+
+    @Override
+    public double recover(DoubleSupplier recoveringSupplier) {
+        return recoveringSupplier.getAsDouble();
+    }
+
+    @Override
+    public DoubleResult<F> tryRecovering(Function<? super F, ? extends DoubleResult<? extends F>> recoveringFunction) {
+        return narrow(recoveringFunction.apply(value));
+    }
+
+    @Override
+    public DoubleResult<F> tryRecovering(Supplier<? extends DoubleResult<? extends F>> recoveringSupplier) {
+        return narrow(recoveringSupplier.get());
+    }
+
+    @Override
+    public Result<Double, F> boxed() {
+        return Result.failure(value);
+    }
+}
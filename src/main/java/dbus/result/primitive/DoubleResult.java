@@ -0,0 +1,261 @@
+package dbus.result.primitive;
+
+import dbus.result.Result;
+import dbus.result.void_.VoidResult;
+
+import java.util.OptionalDouble;
+import java.util.function.*;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Result specialized for {@code double} successes.
+ * <p>
+ * DoubleResult is considered as a Union type emulation of :
+ * <p>
+ * DoubleResult = DoubleSuccess | DoubleFailure
+ * <p>
+ * The success value is stored as a primitive, so it is never boxed.
+ * <p>
+ * This interface is not intended to be extended outside this library.
+ *
+ * @param <F> the failure type
+ */
+public sealed interface DoubleResult<F> permits DoubleSuccess, DoubleFailure {
+
+    /**
+     * Static factory to create a success
+     *
+     * @param value the value of the success.
+     * @param <F>   the failure type.
+     * @return a success containing the provided value
+     */
+    static <F> DoubleResult<F> success(double value) {
+        return new DoubleSuccess<>(value);
+    }
+
+    /**
+     * Static factory to create a failure
+     *
+     * @param value the value of the failure.
+     * @param <F>   the failure type.
+     * @return a failure of type F
+     * @throws NullPointerException when provided value is null
+     */
+    static <F> DoubleResult<F> failure(F value) {
+        return new DoubleFailure<>(value);
+    }
+
+    /**
+     * Narrow the scope of failure type to a supertype of the provided result.
+     * <p>
+     * As results are immutable, this is a checked identity cast : the provided instance is returned as is.
+     *
+     * @param result the result that must be narrows
+     * @param <F>    the desired failure type
+     * @return a narrowed result
+     * @throws NullPointerException if provided result is null
+     */
+    static <F> DoubleResult<F> narrow(DoubleResult<? extends F> result) {
+        requireNonNull(result);
+        //noinspection unchecked
+        return (DoubleResult<F>) result;
+    }
+
+    /**
+     * Pattern matching emulation on DoubleResult deconstructed subtypes.
+     *
+     * @param success the desired behavior in case of success.
+     * @param failure the desired behavior in cas of failure
+     * @param <R>     the new type
+     * @return a value of the new type provided by one of the two provided functions
+     * @throws NullPointerException if any of its arguments is null
+     */
+    <R> R match(
+            DoubleFunction<? extends R> success,
+            Function<? super F, ? extends R> failure
+    );
+
+    /**
+     * DoubleResult functor map function.
+     * <p>
+     * It applies the provided mapper to the success value if this is a success.
+     * Returns the current failure otherwise.
+     *
+     * @param mapper the mapper to apply to the success
+     * @return a DoubleResult containing either a mapped success or the current failure
+     * @throws NullPointerException when provided mapper is null
+     */
+    DoubleResult<F> map(DoubleUnaryOperator mapper);
+
+    /**
+     * DoubleResult functor map function.
+     * <p>
+     * similar to {@link DoubleResult#map(DoubleUnaryOperator)} but the current success value is ignored.
+     *
+     * @param mapper the supplier of the new success value
+     * @return a DoubleResult containing either a supplied success or the current failure
+     * @throws NullPointerException when provided mapper is null
+     */
+    DoubleResult<F> map(DoubleSupplier mapper);
+
+    /**
+     * bridge function from DoubleResult to Result.
+     * <p>
+     * It applies the provided mapper to the success value if this is a success.
+     * Returns the current failure otherwise as a Result failure.
+     *
+     * @param mapper the mapper to apply to the success
+     * @param <R>    the new success type
+     * @return a Result containing either a mapped success or the current failure
+     * @throws NullPointerException when provided mapper is null
+     */
+    <R> Result<R, F> mapToObj(DoubleFunction<? extends R> mapper);
+
+    /**
+     * bridge function from DoubleResult to VoidResult.
+     * <p>
+     * It applies the provided consumer to the success value if this is a success.
+     * Returns the current failure otherwise as a VoidResult failure.
+     *
+     * @param consumer the consumer to apply to the success
+     * @return a VoidResult containing either a void success or the current failure
+     * @throws NullPointerException when provided consumer is null
+     */
+    VoidResult<F> map(DoubleConsumer consumer);
+
+    /**
+     * DoubleResult bifunctor map function.
+     * <p>
+     * It applies the provided mapper to the failure value if this is a failure.
+     * Returns the current success otherwise.
+     *
+     * @param mapper the mapper to apply to the failure
+     * @param <G>    the new failure type
+     * @return a DoubleResult containing either the current success or a mapped failure
+     * @throws NullPointerException when provided mapper is null
+     */
+    <G> DoubleResult<G> mapFailure(Function<? super F, ? extends G> mapper);
+
+    /**
+     * DoubleResult bifunctor map function.
+     * <p>
+     * It executes the provided mapper if this is a failure and keep the provided value as the new failure.
+     * Returns the current success otherwise.
+     *
+     * @param mapper the supplier of the new failure
+     * @param <G>    the new failure type
+     * @return a DoubleResult containing either the current success or a supplied failure
+     * @throws NullPointerException when provided mapper is null
+     */
+    <G> DoubleResult<G> mapFailure(Supplier<? extends G> mapper);
+
+    /**
+     * bridge function from DoubleResult to OptionalDouble
+     * <p>
+     * It applies the provided consumer to the failure value if this is a failure.
+     * Returns the current success otherwise as an OptionalDouble.
+     *
+     * @param consumer the consumer to apply to the failure
+     * @return an OptionalDouble containing maybe the success
+     * @throws NullPointerException when provided consumer is null
+     */
+    OptionalDouble mapFailure(Consumer<? super F> consumer);
+
+    /**
+     * DoubleResult monad bind function
+     * <p>
+     * compose the provided bound function to the current success if any.
+     * If current state is a failure, the provided bound function is not called.
+     *
+     * @param bound the function to compose current result with
+     * @return a DoubleResult containing either the success value if current and bound function result are successes,
+     * a F-typed failure otherwise.
+     * @throws NullPointerException if provided bound parameter is null
+     */
+    DoubleResult<F> flatMap(DoubleFunction<? extends DoubleResult<? extends F>> bound);
+
+    /**
+     * DoubleResult monad bind function but with a function that does not need the present success state.
+     *
+     * @param bound the supplier to compose current result with
+     * @return a DoubleResult containing either the success value if current and bound supplier result are successes,
+     * a F-typed failure otherwise.
+     * @throws NullPointerException if provided bound parameter is null
+     */
+    DoubleResult<F> flatMap(Supplier<? extends DoubleResult<? extends F>> bound);
+
+    /**
+     * DoubleResult monad bind bridge function with a function that returns a {@link Result}.
+     *
+     * @param bound the function to compose current result with
+     * @param <R>   the new success type
+     * @return a result containing either the R success value if current and bound function result are successes,
+     * a F-typed failure otherwise.
+     * @throws NullPointerException if provided bound parameter is null
+     */
+    <R> Result<R, F> flatMapToResult(DoubleFunction<? extends Result<? extends R, ? extends F>> bound);
+
+    /**
+     * DoubleResult monad bind bridge function with a function that returns a {@link VoidResult}.
+     *
+     * @param bound the function to compose current result with
+     * @return a void result containing either a success if current and bound function result are successes,
+     * a F-typed failure otherwise.
+     * @throws NullPointerException if provided bound parameter is null
+     */
+    VoidResult<F> flatMapToVoid(DoubleFunction<? extends VoidResult<? extends F>> bound);
+
+    /**
+     * recover from the current failure, if any.
+     * <p>
+     * If current state is a success, returns the current success.
+     *
+     * @param recoveringFunction function to apply to the current failure if current state is a failure.
+     * @return the current success or the result of the recovering function
+     * @throws NullPointerException if provided recoveringFunction parameter is null
+     */
+    double recover(ToDoubleFunction<? super F> recoveringFunction);
+
+    /**
+     * recover from the current failure, if any.
+     * <p>
+     * If current state is a success, returns the current success.
+     *
+     * @param recoveringSupplier supplier to execute if current state is a failure.
+     * @return the current success or the supplied value
+     * @throws NullPointerException if provided recoveringSupplier parameter is null
+     */
+    double recover(DoubleSupplier recoveringSupplier);
+
+    /**
+     * try to recover from the current failure, if any.
+     * The provided recovering function may also fail, making this an attempt at recovering.
+     * <p>
+     * If current state is a success, it is returned.
+     *
+     * @param recoveringFunction function to apply to the current failure if current state is a failure.
+     * @return the current success or the result of the recovering function applied to the current failure.
+     * @throws NullPointerException if provided recoveringFunction parameter is null
+     */
+    DoubleResult<F> tryRecovering(Function<? super F, ? extends DoubleResult<? extends F>> recoveringFunction);
+
+    /**
+     * try to recover from the current failure, if any.
+     * The provided recovering supplier may also fail, making this an attempt at recovering.
+     * <p>
+     * If current state is a success, it is returned.
+     *
+     * @param recoveringSupplier supplier to execute if current state is a failure.
+     * @return the current success, otherwise the result of the recovering supplier.
+     * @throws NullPointerException if provided recoveringSupplier parameter is null
+     */
+    DoubleResult<F> tryRecovering(Supplier<? extends DoubleResult<? extends F>> recoveringSupplier);
+
+    /**
+     * bridge function from DoubleResult to Result, boxing the success value if any.
+     *
+     * @return an equivalent Result
+     */
+    Result<Double, F> boxed();
+}
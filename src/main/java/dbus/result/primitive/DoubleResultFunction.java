@@ -0,0 +1,232 @@
+package dbus.result.primitive;
+
+import dbus.result.Result;
+import dbus.result.ResultFunction;
+import dbus.result.void_.VoidResult;
+import dbus.result.void_.VoidResultFunction;
+
+import java.util.function.*;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * function extension that allows to provide {@link DoubleResult} specific composition methods
+ *
+ * @param <T> The type of the input of the function
+ * @param <F> The type of the return type failure of the function
+ */
+@FunctionalInterface
+public interface DoubleResultFunction<T, F> extends Function<T, DoubleResult<F>> {
+
+    /**
+     * conversion function to view a DoubleResult returning function as a {@link DoubleResultFunction}
+     * <p>
+     * If the provided function already is a {@link DoubleResultFunction}, it is returned as is.
+     *
+     * @param f   the double result returning function
+     * @param <T> the double result returning function entry type
+     * @param <F> the returned failure type
+     * @return a {@link DoubleResultFunction} corresponding to the provided double result returning function
+     * @throws NullPointerException when provided function is null
+     */
+    static <T, F> DoubleResultFunction<T, F> asDoubleResultFunction(Function<? super T, ? extends DoubleResult<? extends F>> f) {
+        requireNonNull(f);
+        if (f instanceof DoubleResultFunction) {
+            //noinspection unchecked
+            return (DoubleResultFunction<T, F>) f;
+        }
+        return t -> DoubleResult.narrow(f.apply(t));
+    }
+
+    /**
+     * compose the success side of the current {@link DoubleResultFunction} with a success mapping function
+     *
+     * @param mapper the mapper to apply after this
+     * @return a {@link DoubleResultFunction} composing this and the mapper
+     * @throws NullPointerException when provided mapper is null
+     * @see DoubleResult#map(DoubleUnaryOperator)
+     */
+    default DoubleResultFunction<T, F> map(DoubleUnaryOperator mapper) {
+        requireNonNull(mapper);
+        return t -> this.apply(t).map(mapper);
+    }
+
+    /**
+     * compose the success side of the current {@link DoubleResultFunction} with a supplier
+     *
+     * @param supplier the supplier to execute after this
+     * @return a {@link DoubleResultFunction} composing this and the supplier
+     * @throws NullPointerException when provided supplier is null
+     * @see DoubleResult#map(DoubleSupplier)
+     */
+    default DoubleResultFunction<T, F> map(DoubleSupplier supplier) {
+        requireNonNull(supplier);
+        return t -> this.apply(t).map(supplier);
+    }
+
+    /**
+     * bridge function from {@link DoubleResultFunction} to {@link ResultFunction}.
+     *
+     * @param mapper the mapper to apply after this
+     * @param <R>    the new success type
+     * @return a {@link ResultFunction} composing this and the mapper
+     * @throws NullPointerException when provided mapper is null
+     * @see DoubleResult#mapToObj(DoubleFunction)
+     */
+    default <R> ResultFunction<T, R, F> mapToObj(DoubleFunction<? extends R> mapper) {
+        requireNonNull(mapper);
+        return t -> this.apply(t).mapToObj(mapper);
+    }
+
+    /**
+     * bridge function from {@link DoubleResultFunction} to {@link VoidResultFunction}.
+     *
+     * @param consumer the consumer to apply after this
+     * @return a {@link VoidResultFunction} composing this and the provided consumer
+     * @throws NullPointerException when provided consumer is null
+     * @see DoubleResult#map(DoubleConsumer)
+     */
+    default VoidResultFunction<T, F> map(DoubleConsumer consumer) {
+        requireNonNull(consumer);
+        return t -> this.apply(t).map(consumer);
+    }
+
+    /**
+     * compose the failure side of the current {@link DoubleResultFunction} with a failure mapping function.
+     *
+     * @param mapper the mapper to apply after this
+     * @param <R>    the new failure return type
+     * @return a {@link DoubleResultFunction} composing this and the mapper
+     * @throws NullPointerException when provided mapper is null
+     * @see DoubleResult#mapFailure(Function)
+     */
+    default <R> DoubleResultFunction<T, R> mapFailure(Function<? super F, ? extends R> mapper) {
+        requireNonNull(mapper);
+        return t -> this.apply(t).mapFailure(mapper);
+    }
+
+    /**
+     * compose the failure side of the current {@link DoubleResultFunction} with a supplier.
+     *
+     * @param supplier the supplier to execute after this
+     * @param <R>      the new failure return type
+     * @return a {@link DoubleResultFunction} composing this and the supplier
+     * @throws NullPointerException when provided supplier is null
+     * @see DoubleResult#mapFailure(Supplier)
+     */
+    default <R> DoubleResultFunction<T, R> mapFailure(Supplier<? extends R> supplier) {
+        requireNonNull(supplier);
+        return t -> this.apply(t).mapFailure(supplier);
+    }
+
+    /**
+     * DoubleResult monad bind function applied to a function
+     *
+     * @param bound the function to compose current function with
+     * @return a double result function composing this with the bound function.
+     * @throws NullPointerException if provided bound parameter is null
+     * @see DoubleResult#flatMap(DoubleFunction)
+     */
+    default DoubleResultFunction<T, F> flatMap(DoubleFunction<? extends DoubleResult<? extends F>> bound) {
+        requireNonNull(bound);
+        return t -> this.apply(t).flatMap(bound);
+    }
+
+    /**
+     * DoubleResult monad bind function but with a supplier that does not need the present success state.
+     *
+     * @param bound the supplier to compose current function with
+     * @return a double result function composing this with the bound supplier.
+     * @throws NullPointerException if provided bound parameter is null
+     * @see DoubleResult#flatMap(Supplier)
+     */
+    default DoubleResultFunction<T, F> flatMap(Supplier<? extends DoubleResult<? extends F>> bound) {
+        requireNonNull(bound);
+        return t -> this.apply(t).flatMap(bound);
+    }
+
+    /**
+     * DoubleResult monad bind bridge function with a function that returns a {@link Result}.
+     *
+     * @param bound the function to compose current function with
+     * @param <R>   the new success type
+     * @return a result function composing this with the bound function.
+     * @throws NullPointerException if provided bound parameter is null
+     * @see DoubleResult#flatMapToResult(DoubleFunction)
+     */
+    default <R> ResultFunction<T, R, F> flatMapToResult(DoubleFunction<? extends Result<? extends R, ? extends F>> bound) {
+        requireNonNull(bound);
+        return t -> this.apply(t).flatMapToResult(bound);
+    }
+
+    /**
+     * DoubleResult monad bind bridge function with a function that returns a {@link VoidResult}.
+     *
+     * @param bound the function to compose current function with
+     * @return a void result function composing this with the bound function.
+     * @throws NullPointerException if provided bound parameter is null
+     * @see DoubleResult#flatMapToVoid(DoubleFunction)
+     */
+    default VoidResultFunction<T, F> flatMapToVoid(DoubleFunction<? extends VoidResult<? extends F>> bound) {
+        requireNonNull(bound);
+        return t -> this.apply(t).flatMapToVoid(bound);
+    }
+
+    /**
+     * compose current function with a recovering function, transforming any failure into a double.
+     *
+     * @param recoveringFunction recovering function to compose with current function with.
+     * @return a function composing this and the recovering function
+     * @throws NullPointerException if provided recoveringFunction parameter is null
+     */
+    default ToDoubleFunction<T> thenRecover(ToDoubleFunction<? super F> recoveringFunction) {
+        requireNonNull(recoveringFunction);
+        return t -> this.apply(t).recover(recoveringFunction);
+    }
+
+    /**
+     * compose current function with a recovering supplier, providing a double in case of failure.
+     *
+     * @param recoveringSupplier recovering supplier to compose with current function with.
+     * @return a function composing this and the recovering supplier
+     * @throws NullPointerException if provided recoveringSupplier parameter is null
+     */
+    default ToDoubleFunction<T> thenRecover(DoubleSupplier recoveringSupplier) {
+        requireNonNull(recoveringSupplier);
+        return t -> this.apply(t).recover(recoveringSupplier);
+    }
+
+    /**
+     * compose the current function with a recovering function that may also fail.
+     *
+     * @param recoveringFunction function to compose with the current function
+     * @return a function composing this and the recovering function
+     * @throws NullPointerException if provided recoveringFunction parameter is null
+     */
+    default DoubleResultFunction<T, F> thenTryRecovering(Function<? super F, ? extends DoubleResult<? extends F>> recoveringFunction) {
+        requireNonNull(recoveringFunction);
+        return t -> this.apply(t).tryRecovering(recoveringFunction);
+    }
+
+    /**
+     * compose the current function with a recovering supplier that may also fail.
+     *
+     * @param recoveringSupplier supplier to compose with the current function
+     * @return a function composing this and the recovering supplier
+     * @throws NullPointerException if provided recoveringSupplier parameter is null
+     */
+    default DoubleResultFunction<T, F> thenTryRecovering(Supplier<? extends DoubleResult<? extends F>> recoveringSupplier) {
+        requireNonNull(recoveringSupplier);
+        return t -> this.apply(t).tryRecovering(recoveringSupplier);
+    }
+
+    /**
+     * bridge function from {@link DoubleResultFunction} to {@link ResultFunction}, boxing the success value if any.
+     *
+     * @return an equivalent {@link ResultFunction}
+     * @see DoubleResult#boxed()
+     */
+    default ResultFunction<T, Double, F> boxed() {
+        return t -> this.apply(t).boxed();
+    }
+}
@@ -0,0 +1,122 @@
+package dbus.result.primitive;
+
+import dbus.result.Result;
+import dbus.result.void_.VoidResult;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.util.OptionalDouble;
+import java.util.function.*;
+
+import static dbus.result.primitive.DoubleResult.narrow;
+import static java.util.Objects.requireNonNull;
+
+@EqualsAndHashCode
+@ToString
+final class DoubleSuccess<F> implements DoubleResult<F> {
+
+    private final double value;
+
+    DoubleSuccess(double value) {
+        this.value = value;
+    }
+
+    @Override
+    public <R> R match(DoubleFunction<? extends R> success, Function<? super F, ? extends R> failure) {
+        requireNonNull(failure);
+        return success.apply(value);
+    }
+
+    private <ANY> DoubleResult<ANY> cast() {
+        //noinspection unchecked
+        return (DoubleResult<ANY>) this;
+    }
+
+    @Override
+    public DoubleResult<F> map(DoubleUnaryOperator mapper) {
+        return new DoubleSuccess<>(mapper.applyAsDouble(value));
+    }
+
+    @Override
+    public DoubleResult<F> map(DoubleSupplier mapper) {
+        return new DoubleSuccess<>(mapper.getAsDouble());
+    }
+
+    @Override
+    public <R> Result<R, F> mapToObj(DoubleFunction<? extends R> mapper) {
+        return Result.success(mapper.apply(value));
+    }
+
+    @Override
+    public VoidResult<F> map(DoubleConsumer consumer) {
+        consumer.accept(value);
+        return VoidResult.success();
+    }
+
+    @Override
+    public <G> DoubleResult<G> mapFailure(Function<? super F, ? extends G> mapper) {
+        requireNonNull(mapper);
+        return this.cast();
+    }
+
+    @Override
+    public <G> DoubleResult<G> mapFailure(Supplier<? extends G> mapper) {
+        requireNonNull(mapper);
+        return this.cast();
+    }
+
+    @Override
+    public OptionalDouble mapFailure(Consumer<? super F> consumer) {
+        requireNonNull(consumer);
+        return OptionalDouble.of(value);
+    }
+
+    @Override
+    public DoubleResult<F> flatMap(DoubleFunction<? extends DoubleResult<? extends F>> bound) {
+        return narrow(bound.apply(value));
+    }
+
+    @Override
+    public DoubleResult<F> flatMap(Supplier<? extends DoubleResult<? extends F>> bound) {
+        return narrow(bound.get());
+    }
+
+    @Override
+    public <R> Result<R, F> flatMapToResult(DoubleFunction<? extends Result<? extends R, ? extends F>> bound) {
+        return Result.narrow(bound.apply(value));
+    }
+
+    @Override
+    public VoidResult<F> flatMapToVoid(DoubleFunction<? extends VoidResult<? extends F>> bound) {
+        return VoidResult.narrow(bound.apply(value));
+    }
+
+    @Override
+    public double recover(ToDoubleFunction<? super F> recoveringFunction) {
+        requireNonNull(recoveringFunction);
+        return value;
+    }
+
+    @Override
+    public double recover(DoubleSupplier recoveringSupplier) {
+        requireNonNull(recoveringSupplier);
+        return value;
+    }
+
+    @Override
+    public DoubleResult<F> tryRecovering(Function<? super F, ? extends DoubleResult<? extends F>> recoveringFunction) {
+        requireNonNull(recoveringFunction);
+        return this;
+    }
+
+    @Override
+    public DoubleResult<F> tryRecovering(Supplier<? extends DoubleResult<? extends F>> recoveringSupplier) {
+        requireNonNull(recoveringSupplier);
+        return this;
+    }
+
+    @Override
+    public Result<Double, F> boxed() {
+        return Result.success(value);
+    }
+}
@@ -0,0 +1,118 @@
+package dbus.result.primitive;
+
+import dbus.result.Result;
+import dbus.result.void_.VoidResult;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.util.OptionalInt;
+import java.util.function.*;
+
+import static dbus.result.primitive.IntResult.narrow;
+import static java.util.Objects.requireNonNull;
+
+@EqualsAndHashCode
+@ToString
+final class IntFailure<F> implements IntResult<F> {
+
+    private final F value;
+
+    IntFailure(F value) {
+        this.value = requireNonNull(value);
+    }
+
+    @Override
+    public <R> R match(IntFunction<? extends R> success, Function<? super F, ? extends R> failure) {
+        requireNonNull(success);
+        return failure.apply(value);
+    }
+
+    @Override
+    public IntResult<F> map(IntUnaryOperator mapper) {
+        requireNonNull(mapper);
+        return this;
+    }
+
+    @Override
+    public IntResult<F> map(IntSupplier mapper) {
+        requireNonNull(mapper);
+        return this;
+    }
+
+    @Override
+    public <R> Result<R, F> mapToObj(IntFunction<? extends R> mapper) {
+        requireNonNull(mapper);
+        return Result.failure(value);
+    }
+
+    @Override
+    public VoidResult<F> map(IntConsumer consumer) {
+        requireNonNull(consumer);
+        return VoidResult.failure(value);
+    }
+
+    @Override
+    public <G> IntResult<G> mapFailure(Function<? super F, ? extends G> mapper) {
+        return new IntFailure<>(mapper.apply(value));
+    }
+
+    @Override
+    public <G> IntResult<G> mapFailure(Supplier<? extends G> mapper) {
+        return new IntFailure<>(mapper.get());
+    }
+
+    @Override
+    public OptionalInt mapFailure(Consumer<? super F> consumer) {
+        consumer.accept(value);
+        return OptionalInt.empty();
+    }
+
+    @Override
+    public IntResult<F> flatMap(IntFunction<? extends IntResult<? extends F>> bound) {
+        requireNonNull(bound);
+        return this;
+    }
+
+    @Override
+    public IntResult<F> flatMap(Supplier<? extends IntResult<? extends F>> bound) {
+        requireNonNull(bound);
+        return this;
+    }
+
+    @Override
+    public <R> Result<R, F> flatMapToResult(IntFunction<? extends Result<? extends R, ? extends F>> bound) {
+        requireNonNull(bound);
+        return Result.failure(value);
+    }
+
+    @Override
+    public VoidResult<F> flatMapToVoid(IntFunction<? extends VoidResult<? extends F>> bound) {
+        requireNonNull(bound);
+        return VoidResult.failure(value);
+    }
+
+    @Override
+    public int recover(ToIntFunction<? super F> recoveringFunction) {
+        return recoveringFunction.applyAsInt(value);
+    }
+
+    @Override
+    public int recover(IntSupplier recoveringSupplier) {
+        return recoveringSupplier.getAsInt();
+    }
+
+    @Override
+    public IntResult<F> tryRecovering(Function<? super F, ? extends IntResult<? extends F>> recoveringFunction) {
+        return narrow(recoveringFunction.apply(value));
+    }
+
+    @Override
+    public IntResult<F> tryRecovering(Supplier<? extends IntResult<? extends F>> recoveringSupplier) {
+        return narrow(recoveringSupplier.get());
+    }
+
+    @Override
+    public Result<Integer, F> boxed() {
+        return Result.failure(value);
+    }
+}
@@ -0,0 +1,232 @@
+package dbus.result.primitive;
+
+import dbus.result.Result;
+import dbus.result.ResultFunction;
+import dbus.result.void_.VoidResult;
+import dbus.result.void_.VoidResultFunction;
+
+import java.util.function.*;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * function extension that allows to provide {@link IntResult} specific composition methods
+ *
+ * @param <T> The type of the input of the function
+ * @param <F> The type of the return type failure of the function
+ */
+@FunctionalInterface
+public interface IntResultFunction<T, F> extends Function<T, IntResult<F>> {
+
+    /**
+     * conversion function to view an IntResult returning function as an {@link IntResultFunction}
+     * <p>
+     * If the provided function already is an {@link IntResultFunction}, it is returned as is.
+     *
+     * @param f   the int result returning function
+     * @param <T> the int result returning function entry type
+     * @param <F> the returned failure type
+     * @return an {@link IntResultFunction} corresponding to the provided int result returning function
+     * @throws NullPointerException when provided function is null
+     */
+    static <T, F> IntResultFunction<T, F> asIntResultFunction(Function<? super T, ? extends IntResult<? extends F>> f) {
+        requireNonNull(f);
+        if (f instanceof IntResultFunction) {
+            //noinspection unchecked
+            return (IntResultFunction<T, F>) f;
+        }
+        return t -> IntResult.narrow(f.apply(t));
+    }
+
+    /**
+     * compose the success side of the current {@link IntResultFunction} with a success mapping function
+     *
+     * @param mapper the mapper to apply after this
+     * @return an {@link IntResultFunction} composing this and the mapper
+     * @throws NullPointerException when provided mapper is null
+     * @see IntResult#map(IntUnaryOperator)
+     */
+    default IntResultFunction<T, F> map(IntUnaryOperator mapper) {
+        requireNonNull(mapper);
+        return t -> this.apply(t).map(mapper);
+    }
+
+    /**
+     * compose the success side of the current {@link IntResultFunction} with a supplier
+     *
+     * @param supplier the supplier to execute after this
+     * @return an {@link IntResultFunction} composing this and the supplier
+     * @throws NullPointerException when provided supplier is null
+     * @see IntResult#map(IntSupplier)
+     */
+    default IntResultFunction<T, F> map(IntSupplier supplier) {
+        requireNonNull(supplier);
+        return t -> this.apply(t).map(supplier);
+    }
+
+    /**
+     * bridge function from {@link IntResultFunction} to {@link ResultFunction}.
+     *
+     * @param mapper the mapper to apply after this
+     * @param <R>    the new success type
+     * @return a {@link ResultFunction} composing this and the mapper
+     * @throws NullPointerException when provided mapper is null
+     * @see IntResult#mapToObj(IntFunction)
+     */
+    default <R> ResultFunction<T, R, F> mapToObj(IntFunction<? extends R> mapper) {
+        requireNonNull(mapper);
+        return t -> this.apply(t).mapToObj(mapper);
+    }
+
+    /**
+     * bridge function from {@link IntResultFunction} to {@link VoidResultFunction}.
+     *
+     * @param consumer the consumer to apply after this
+     * @return a {@link VoidResultFunction} composing this and the provided consumer
+     * @throws NullPointerException when provided consumer is null
+     * @see IntResult#map(IntConsumer)
+     */
+    default VoidResultFunction<T, F> map(IntConsumer consumer) {
+        requireNonNull(consumer);
+        return t -> this.apply(t).map(consumer);
+    }
+
+    /**
+     * compose the failure side of the current {@link IntResultFunction} with a failure mapping function.
+     *
+     * @param mapper the mapper to apply after this
+     * @param <R>    the new failure return type
+     * @return an {@link IntResultFunction} composing this and the mapper
+     * @throws NullPointerException when provided mapper is null
+     * @see IntResult#mapFailure(Function)
+     */
+    default <R> IntResultFunction<T, R> mapFailure(Function<? super F, ? extends R> mapper) {
+        requireNonNull(mapper);
+        return t -> this.apply(t).mapFailure(mapper);
+    }
+
+    /**
+     * compose the failure side of the current {@link IntResultFunction} with a supplier.
+     *
+     * @param supplier the supplier to execute after this
+     * @param <R>      the new failure return type
+     * @return an {@link IntResultFunction} composing this and the supplier
+     * @throws NullPointerException when provided supplier is null
+     * @see IntResult#mapFailure(Supplier)
+     */
+    default <R> IntResultFunction<T, R> mapFailure(Supplier<? extends R> supplier) {
+        requireNonNull(supplier);
+        return t -> this.apply(t).mapFailure(supplier);
+    }
+
+    /**
+     * IntResult monad bind function applied to a function
+     *
+     * @param bound the function to compose current function with
+     * @return an int result function composing this with the bound function.
+     * @throws NullPointerException if provided bound parameter is null
+     * @see IntResult#flatMap(IntFunction)
+     */
+    default IntResultFunction<T, F> flatMap(IntFunction<? extends IntResult<? extends F>> bound) {
+        requireNonNull(bound);
+        return t -> this.apply(t).flatMap(bound);
+    }
+
+    /**
+     * IntResult monad bind function but with a supplier that does not need the present success state.
+     *
+     * @param bound the supplier to compose current function with
+     * @return an int result function composing this with the bound supplier.
+     * @throws NullPointerException if provided bound parameter is null
+     * @see IntResult#flatMap(Supplier)
+     */
+    default IntResultFunction<T, F> flatMap(Supplier<? extends IntResult<? extends F>> bound) {
+        requireNonNull(bound);
+        return t -> this.apply(t).flatMap(bound);
+    }
+
+    /**
+     * IntResult monad bind bridge function with a function that returns a {@link Result}.
+     *
+     * @param bound the function to compose current function with
+     * @param <R>   the new success type
+     * @return a result function composing this with the bound function.
+     * @throws NullPointerException if provided bound parameter is null
+     * @see IntResult#flatMapToResult(IntFunction)
+     */
+    default <R> ResultFunction<T, R, F> flatMapToResult(IntFunction<? extends Result<? extends R, ? extends F>> bound) {
+        requireNonNull(bound);
+        return t -> this.apply(t).flatMapToResult(bound);
+    }
+
+    /**
+     * IntResult monad bind bridge function with a function that returns a {@link VoidResult}.
+     *
+     * @param bound the function to compose current function with
+     * @return a void result function composing this with the bound function.
+     * @throws NullPointerException if provided bound parameter is null
+     * @see IntResult#flatMapToVoid(IntFunction)
+     */
+    default VoidResultFunction<T, F> flatMapToVoid(IntFunction<? extends VoidResult<? extends F>> bound) {
+        requireNonNull(bound);
+        return t -> this.apply(t).flatMapToVoid(bound);
+    }
+
+    /**
+     * compose current function with a recovering function, transforming any failure into an int.
+     *
+     * @param recoveringFunction recovering function to compose with current function with.
+     * @return a function composing this and the recovering function
+     * @throws NullPointerException if provided recoveringFunction parameter is null
+     */
+    default ToIntFunction<T> thenRecover(ToIntFunction<? super F> recoveringFunction) {
+        requireNonNull(recoveringFunction);
+        return t -> this.apply(t).recover(recoveringFunction);
+    }
+
+    /**
+     * compose current function with a recovering supplier, providing an int in case of failure.
+     *
+     * @param recoveringSupplier recovering supplier to compose with current function with.
+     * @return a function composing this and the recovering supplier
+     * @throws NullPointerException if provided recoveringSupplier parameter is null
+     */
+    default ToIntFunction<T> thenRecover(IntSupplier recoveringSupplier) {
+        requireNonNull(recoveringSupplier);
+        return t -> this.apply(t).recover(recoveringSupplier);
+    }
+
+    /**
+     * compose the current function with a recovering function that may also fail.
+     *
+     * @param recoveringFunction function to compose with the current function
+     * @return a function composing this and the recovering function
+     * @throws NullPointerException if provided recoveringFunction parameter is null
+     */
+    default IntResultFunction<T, F> thenTryRecovering(Function<? super F, ? extends IntResult<? extends F>> recoveringFunction) {
+        requireNonNull(recoveringFunction);
+        return t -> this.apply(t).tryRecovering(recoveringFunction);
+    }
+
+    /**
+     * compose the current function with a recovering supplier that may also fail.
+     *
+     * @param recoveringSupplier supplier to compose with the current function
+     * @return a function composing this and the recovering supplier
+     * @throws NullPointerException if provided recoveringSupplier parameter is null
+     */
+    default IntResultFunction<T, F> thenTryRecovering(Supplier<? extends IntResult<? extends F>> recoveringSupplier) {
+        requireNonNull(recoveringSupplier);
+        return t -> this.apply(t).tryRecovering(recoveringSupplier);
+    }
+
+    /**
+     * bridge function from {@link IntResultFunction} to {@link ResultFunction}, boxing the success value if any.
+     *
+     * @return an equivalent {@link ResultFunction}
+     * @see IntResult#boxed()
+     */
+    default ResultFunction<T, Integer, F> boxed() {
+        return t -> this.apply(t).boxed();
+    }
+}
@@ -0,0 +1,122 @@
+package dbus.result.primitive;
+
+import dbus.result.Result;
+import dbus.result.void_.VoidResult;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.util.OptionalInt;
+import java.util.function.*;
+
+import static dbus.result.primitive.IntResult.narrow;
+import static java.util.Objects.requireNonNull;
+
+@EqualsAndHashCode
+@ToString
+final class IntSuccess<F> implements IntResult<F> {
+
+    private final int value;
+
+    IntSuccess(int value) {
+        this.value = value;
+    }
+
+    @Override
+    public <R> R match(IntFunction<? extends R> success, Function<? super F, ? extends R> failure) {
+        requireNonNull(failure);
+        return success.apply(value);
+    }
+
+    private <ANY> IntResult<ANY> cast() {
+        //noinspection unchecked
+        return (IntResult<ANY>) this;
+    }
+
+    @Override
+    public IntResult<F> map(IntUnaryOperator mapper) {
+        return new IntSuccess<>(mapper.applyAsInt(value));
+    }
+
+    @Override
+    public IntResult<F> map(IntSupplier mapper) {
+        return new IntSuccess<>(mapper.getAsInt());
+    }
+
+    @Override
+    public <R> Result<R, F> mapToObj(IntFunction<? extends R> mapper) {
+        return Result.success(mapper.apply(value));
+    }
+
+    @Override
+    public VoidResult<F> map(IntConsumer consumer) {
+        consumer.accept(value);
+        return VoidResult.success();
+    }
+
+    @Override
+    public <G> IntResult<G> mapFailure(Function<? super F, ? extends G> mapper) {
+        requireNonNull(mapper);
+        return this.cast();
+    }
+
+    @Override
+    public <G> IntResult<G> mapFailure(Supplier<? extends G> mapper) {
+        requireNonNull(mapper);
+        return this.cast();
+    }
+
+    @Override
+    public OptionalInt mapFailure(Consumer<? super F> consumer) {
+        requireNonNull(consumer);
+        return OptionalInt.of(value);
+    }
+
+    @Override
+    public IntResult<F> flatMap(IntFunction<? extends IntResult<? extends F>> bound) {
+        return narrow(bound.apply(value));
+    }
+
+    @Override
+    public IntResult<F> flatMap(Supplier<? extends IntResult<? extends F>> bound) {
+        return narrow(bound.get());
+    }
+
+    @Override
+    public <R> Result<R, F> flatMapToResult(IntFunction<? extends Result<? extends R, ? extends F>> bound) {
+        return Result.narrow(bound.apply(value));
+    }
+
+    @Override
+    public VoidResult<F> flatMapToVoid(IntFunction<? extends VoidResult<? extends F>> bound) {
+        return VoidResult.narrow(bound.apply(value));
+    }
+
+    @Override
+    public int recover(ToIntFunction<? super F> recoveringFunction) {
+        requireNonNull(recoveringFunction);
+        return value;
+    }
+
+    @Override
+    public int recover(IntSupplier recoveringSupplier) {
+        requireNonNull(recoveringSupplier);
+        return value;
+    }
+
+    @Override
+    public IntResult<F> tryRecovering(Function<? super F, ? extends IntResult<? extends F>> recoveringFunction) {
+        requireNonNull(recoveringFunction);
+        return this;
+    }
+
+    @Override
+    public IntResult<F> tryRecovering(Supplier<? extends IntResult<? extends F>> recoveringSupplier) {
+        requireNonNull(recoveringSupplier);
+        return this;
+    }
+
+    @Override
+    public Result<Integer, F> boxed() {
+        return Result.success(value);
+    }
+}
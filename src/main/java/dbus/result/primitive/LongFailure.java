@@ -0,0 +1,118 @@
+package dbus.result.primitive;
+
+import dbus.result.Result;
+import dbus.result.void_.VoidResult;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.util.OptionalLong;
+import java.util.function.*;
+
+import static dbus.result.primitive.LongResult.narrow;
+import static java.util.Objects.requireNonNull;
+
+@EqualsAndHashCode
+@ToString
+final class LongFailure<F> implements LongResult<F> {
+
+    private final F value;
+
+    LongFailure(F value) {
+        this.value = requireNonNull(value);
+    }
+
+    @Override
+    public <R> R match(LongFunction<? extends R> success, Function<? super F, ? extends R> failure) {
+        requireNonNull(success);
+        return failure.apply(value);
+    }
+
+    @Override
+    public LongResult<F> map(LongUnaryOperator mapper) {
+        requireNonNull(mapper);
+        return this;
+    }
+
+    @Override
+    public LongResult<F> map(LongSupplier mapper) {
+        requireNonNull(mapper);
+        return this;
+    }
+
+    @Override
+    public <R> Result<R, F> mapToObj(LongFunction<? extends R> mapper) {
+        requireNonNull(mapper);
+        return Result.failure(value);
+    }
+
+    @Override
+    public VoidResult<F> map(LongConsumer consumer) {
+        requireNonNull(consumer);
+        return VoidResult.failure(value);
+    }
+
+    @Override
+    public <G> LongResult<G> mapFailure(Function<? super F, ? extends G> mapper) {
+        return new LongFailure<>(mapper.apply(value));
+    }
+
+    @Override
+    public <G> LongResult<G> mapFailure(Supplier<? extends G> mapper) {
+        return new LongFailure<>(mapper.get());
+    }
+
+    @Override
+    public OptionalLong mapFailure(Consumer<? super F> consumer) {
+        consumer.accept(value);
+        return OptionalLong.empty();
+    }
+
+    @Override
+    public LongResult<F> flatMap(LongFunction<? extends LongResult<? extends F>> bound) {
+        requireNonNull(bound);
+        return this;
+    }
+
+    @Override
+    public LongResult<F> flatMap(Supplier<? extends LongResult<? extends F>> bound) {
+        requireNonNull(bound);
+        return this;
+    }
+
+    @Override
+    public <R> Result<R, F> flatMapToResult(LongFunction<? extends Result<? extends R, ? extends F>> bound) {
+        requireNonNull(bound);
+        return Result.failure(value);
+    }
+
+    @Override
+    public VoidResult<F> flatMapToVoid(LongFunction<? extends VoidResult<? extends F>> bound) {
+        requireNonNull(bound);
+        return VoidResult.failure(value);
+    }
+
+    @Override
+    public long recover(ToLongFunction<? super F> recoveringFunction) {
+        return recoveringFunction.applyAsLong(value);
+    }
+
+    @Override
+    public long recover(LongSupplier recoveringSupplier) {
+        return recoveringSupplier.getAsLong();
+    }
+
+    @Override
+    public LongResult<F> tryRecovering(Function<? super F, ? extends LongResult<? extends F>> recoveringFunction) {
+        return narrow(recoveringFunction.apply(value));
+    }
+
+    @Override
+    public LongResult<F> tryRecovering(Supplier<? extends LongResult<? extends F>> recoveringSupplier) {
+        return narrow(recoveringSupplier.get());
+    }
+
+    @Override
+    public Result<Long, F> boxed() {
+        return Result.failure(value);
+    }
+}
@@ -0,0 +1,232 @@
+package dbus.result.primitive;
+
+import dbus.result.Result;
+import dbus.result.ResultFunction;
+import dbus.result.void_.VoidResult;
+import dbus.result.void_.VoidResultFunction;
+
+import java.util.function.*;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * function extension that allows to provide {@link LongResult} specific composition methods
+ *
+ * @param <T> The type of the input of the function
+ * @param <F> The type of the return type failure of the function
+ */
+@FunctionalInterface
+public interface LongResultFunction<T, F> extends Function<T, LongResult<F>> {
+
+    /**
+     * conversion function to view a LongResult returning function as a {@link LongResultFunction}
+     * <p>
+     * If the provided function already is a {@link LongResultFunction}, it is returned as is.
+     *
+     * @param f   the long result returning function
+     * @param <T> the long result returning function entry type
+     * @param <F> the returned failure type
+     * @return a {@link LongResultFunction} corresponding to the provided long result returning function
+     * @throws NullPointerException when provided function is null
+     */
+    static <T, F> LongResultFunction<T, F> asLongResultFunction(Function<? super T, ? extends LongResult<? extends F>> f) {
+        requireNonNull(f);
+        if (f instanceof LongResultFunction) {
+            //noinspection unchecked
+            return (LongResultFunction<T, F>) f;
+        }
+        return t -> LongResult.narrow(f.apply(t));
+    }
+
+    /**
+     * compose the success side of the current {@link LongResultFunction} with a success mapping function
+     *
+     * @param mapper the mapper to apply after this
+     * @return a {@link LongResultFunction} composing this and the mapper
+     * @throws NullPointerException when provided mapper is null
+     * @see LongResult#map(LongUnaryOperator)
+     */
+    default LongResultFunction<T, F> map(LongUnaryOperator mapper) {
+        requireNonNull(mapper);
+        return t -> this.apply(t).map(mapper);
+    }
+
+    /**
+     * compose the success side of the current {@link LongResultFunction} with a supplier
+     *
+     * @param supplier the supplier to execute after this
+     * @return a {@link LongResultFunction} composing this and the supplier
+     * @throws NullPointerException when provided supplier is null
+     * @see LongResult#map(LongSupplier)
+     */
+    default LongResultFunction<T, F> map(LongSupplier supplier) {
+        requireNonNull(supplier);
+        return t -> this.apply(t).map(supplier);
+    }
+
+    /**
+     * bridge function from {@link LongResultFunction} to {@link ResultFunction}.
+     *
+     * @param mapper the mapper to apply after this
+     * @param <R>    the new success type
+     * @return a {@link ResultFunction} composing this and the mapper
+     * @throws NullPointerException when provided mapper is null
+     * @see LongResult#mapToObj(LongFunction)
+     */
+    default <R> ResultFunction<T, R, F> mapToObj(LongFunction<? extends R> mapper) {
+        requireNonNull(mapper);
+        return t -> this.apply(t).mapToObj(mapper);
+    }
+
+    /**
+     * bridge function from {@link LongResultFunction} to {@link VoidResultFunction}.
+     *
+     * @param consumer the consumer to apply after this
+     * @return a {@link VoidResultFunction} composing this and the provided consumer
+     * @throws NullPointerException when provided consumer is null
+     * @see LongResult#map(LongConsumer)
+     */
+    default VoidResultFunction<T, F> map(LongConsumer consumer) {
+        requireNonNull(consumer);
+        return t -> this.apply(t).map(consumer);
+    }
+
+    /**
+     * compose the failure side of the current {@link LongResultFunction} with a failure mapping function.
+     *
+     * @param mapper the mapper to apply after this
+     * @param <R>    the new failure return type
+     * @return a {@link LongResultFunction} composing this and the mapper
+     * @throws NullPointerException when provided mapper is null
+     * @see LongResult#mapFailure(Function)
+     */
+    default <R> LongResultFunction<T, R> mapFailure(Function<? super F, ? extends R> mapper) {
+        requireNonNull(mapper);
+        return t -> this.apply(t).mapFailure(mapper);
+    }
+
+    /**
+     * compose the failure side of the current {@link LongResultFunction} with a supplier.
+     *
+     * @param supplier the supplier to execute after this
+     * @param <R>      the new failure return type
+     * @return a {@link LongResultFunction} composing this and the supplier
+     * @throws NullPointerException when provided supplier is null
+     * @see LongResult#mapFailure(Supplier)
+     */
+    default <R> LongResultFunction<T, R> mapFailure(Supplier<? extends R> supplier) {
+        requireNonNull(supplier);
+        return t -> this.apply(t).mapFailure(supplier);
+    }
+
+    /**
+     * LongResult monad bind function applied to a function
+     *
+     * @param bound the function to compose current function with
+     * @return a long result function composing this with the bound function.
+     * @throws NullPointerException if provided bound parameter is null
+     * @see LongResult#flatMap(LongFunction)
+     */
+    default LongResultFunction<T, F> flatMap(LongFunction<? extends LongResult<? extends F>> bound) {
+        requireNonNull(bound);
+        return t -> this.apply(t).flatMap(bound);
+    }
+
+    /**
+     * LongResult monad bind function but with a supplier that does not need the present success state.
+     *
+     * @param bound the supplier to compose current function with
+     * @return a long result function composing this with the bound supplier.
+     * @throws NullPointerException if provided bound parameter is null
+     * @see LongResult#flatMap(Supplier)
+     */
+    default LongResultFunction<T, F> flatMap(Supplier<? extends LongResult<? extends F>> bound) {
+        requireNonNull(bound);
+        return t -> this.apply(t).flatMap(bound);
+    }
+
+    /**
+     * LongResult monad bind bridge function with a function that returns a {@link Result}.
+     *
+     * @param bound the function to compose current function with
+     * @param <R>   the new success type
+     * @return a result function composing this with the bound function.
+     * @throws NullPointerException if provided bound parameter is null
+     * @see LongResult#flatMapToResult(LongFunction)
+     */
+    default <R> ResultFunction<T, R, F> flatMapToResult(LongFunction<? extends Result<? extends R, ? extends F>> bound) {
+        requireNonNull(bound);
+        return t -> this.apply(t).flatMapToResult(bound);
+    }
+
+    /**
+     * LongResult monad bind bridge function with a function that returns a {@link VoidResult}.
+     *
+     * @param bound the function to compose current function with
+     * @return a void result function composing this with the bound function.
+     * @throws NullPointerException if provided bound parameter is null
+     * @see LongResult#flatMapToVoid(LongFunction)
+     */
+    default VoidResultFunction<T, F> flatMapToVoid(LongFunction<? extends VoidResult<? extends F>> bound) {
+        requireNonNull(bound);
+        return t -> this.apply(t).flatMapToVoid(bound);
+    }
+
+    /**
+     * compose current function with a recovering function, transforming any failure into a long.
+     *
+     * @param recoveringFunction recovering function to compose with current function with.
+     * @return a function composing this and the recovering function
+     * @throws NullPointerException if provided recoveringFunction parameter is null
+     */
+    default ToLongFunction<T> thenRecover(ToLongFunction<? super F> recoveringFunction) {
+        requireNonNull(recoveringFunction);
+        return t -> this.apply(t).recover(recoveringFunction);
+    }
+
+    /**
+     * compose current function with a recovering supplier, providing a long in case of failure.
+     *
+     * @param recoveringSupplier recovering supplier to compose with current function with.
+     * @return a function composing this and the recovering supplier
+     * @throws NullPointerException if provided recoveringSupplier parameter is null
+     */
+    default ToLongFunction<T> thenRecover(LongSupplier recoveringSupplier) {
+        requireNonNull(recoveringSupplier);
+        return t -> this.apply(t).recover(recoveringSupplier);
+    }
+
+    /**
+     * compose the current function with a recovering function that may also fail.
+     *
+     * @param recoveringFunction function to compose with the current function
+     * @return a function composing this and the recovering function
+     * @throws NullPointerException if provided recoveringFunction parameter is null
+     */
+    default LongResultFunction<T, F> thenTryRecovering(Function<? super F, ? extends LongResult<? extends F>> recoveringFunction) {
+        requireNonNull(recoveringFunction);
+        return t -> this.apply(t).tryRecovering(recoveringFunction);
+    }
+
+    /**
+     * compose the current function with a recovering supplier that may also fail.
+     *
+     * @param recoveringSupplier supplier to compose with the current function
+     * @return a function composing this and the recovering supplier
+     * @throws NullPointerException if provided recoveringSupplier parameter is null
+     */
+    default LongResultFunction<T, F> thenTryRecovering(Supplier<? extends LongResult<? extends F>> recoveringSupplier) {
+        requireNonNull(recoveringSupplier);
+        return t -> this.apply(t).tryRecovering(recoveringSupplier);
+    }
+
+    /**
+     * bridge function from {@link LongResultFunction} to {@link ResultFunction}, boxing the success value if any.
+     *
+     * @return an equivalent {@link ResultFunction}
+     * @see LongResult#boxed()
+     */
+    default ResultFunction<T, Long, F> boxed() {
+        return t -> this.apply(t).boxed();
+    }
+}
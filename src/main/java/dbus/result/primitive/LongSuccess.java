@@ -0,0 +1,122 @@
+package dbus.result.primitive;
+
+import dbus.result.Result;
+import dbus.result.void_.VoidResult;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.util.OptionalLong;
+import java.util.function.*;
+
+import static dbus.result.primitive.LongResult.narrow;
+import static java.util.Objects.requireNonNull;
+
+@EqualsAndHashCode
+@ToString
+final class LongSuccess<F> implements LongResult<F> {
+
+    private final long value;
+
+    LongSuccess(long value) {
+        this.value = value;
+    }
+
+    @Override
+    public <R> R match(LongFunction<? extends R> success, Function<? super F, ? extends R> failure) {
+        requireNonNull(failure);
+        return success.apply(value);
+    }
+
+    private <ANY> LongResult<ANY> cast() {
+        //noinspection unchecked
+        return (LongResult<ANY>) this;
+    }
+
+    @Override
+    public LongResult<F> map(LongUnaryOperator mapper) {
+        return new LongSuccess<>(mapper.applyAsLong(value));
+    }
+
+    @Override
+    public LongResult<F> map(LongSupplier mapper) {
+        return new LongSuccess<>(mapper.getAsLong());
+    }
+
+    @Override
+    public <R> Result<R, F> mapToObj(LongFunction<? extends R> mapper) {
+        return Result.success(mapper.apply(value));
+    }
+
+    @Override
+    public VoidResult<F> map(LongConsumer consumer) {
+        consumer.accept(value);
+        return VoidResult.success();
+    }
+
+    @Override
+    public <G> LongResult<G> mapFailure(Function<? super F, ? extends G> mapper) {
+        requireNonNull(mapper);
+        return this.cast();
+    }
+
+    @Override
+    public <G> LongResult<G> mapFailure(Supplier<? extends G> mapper) {
+        requireNonNull(mapper);
+        return this.cast();
+    }
+
+    @Override
+    public OptionalLong mapFailure(Consumer<? super F> consumer) {
+        requireNonNull(consumer);
+        return OptionalLong.of(value);
+    }
+
+    @Override
+    public LongResult<F> flatMap(LongFunction<? extends LongResult<? extends F>> bound) {
+        return narrow(bound.apply(value));
+    }
+
+    @Override
+    public LongResult<F> flatMap(Supplier<? extends LongResult<? extends F>> bound) {
+        return narrow(bound.get());
+    }
+
+    @Override
+    public <R> Result<R, F> flatMapToResult(LongFunction<? extends Result<? extends R, ? extends F>> bound) {
+        return Result.narrow(bound.apply(value));
+    }
+
+    @Override
+    public VoidResult<F> flatMapToVoid(LongFunction<? extends VoidResult<? extends F>> bound) {
+        return VoidResult.narrow(bound.apply(value));
+    }
+
+    @Override
+    public long recover(ToLongFunction<? super F> recoveringFunction) {
+        requireNonNull(recoveringFunction);
+        return value;
+    }
+
+    @Override
+    public long recover(LongSupplier recoveringSupplier) {
+        requireNonNull(recoveringSupplier);
+        return value;
+    }
+
+    @Override
+    public LongResult<F> tryRecovering(Function<? super F, ? extends LongResult<? extends F>> recoveringFunction) {
+        requireNonNull(recoveringFunction);
+        return this;
+    }
+
+    @Override
+    public LongResult<F> tryRecovering(Supplier<? extends LongResult<? extends F>> recoveringSupplier) {
+        requireNonNull(recoveringSupplier);
+        return this;
+    }
+
+    @Override
+    public Result<Long, F> boxed() {
+        return Result.success(value);
+    }
+}
@@ -1,12 +1,13 @@
 package dbus.result.void_;
 
 import dbus.result.Result;
+import dbus.result.primitive.DoubleResult;
+import dbus.result.primitive.IntResult;
+import dbus.result.primitive.LongResult;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 
-import java.util.function.Consumer;
-import java.util.function.Function;
-import java.util.function.Supplier;
+import java.util.function.*;
 
 import static dbus.result.void_.VoidResult.narrow;
 import static java.util.Objects.requireNonNull;
@@ -17,20 +18,96 @@ final public class Failure<F> implements VoidResult<F> {
 
     private final F value;
 
+    /**
+     * the preallocated failures of each enum type, indexed by ordinal.
+     */
+    private static final ClassValue<Failure<?>[]> ENUM_FAILURES = new ClassValue<>() {
+        @Override
+        protected Failure<?>[] computeValue(Class<?> type) {
+            Object[] constants = type.getEnumConstants();
+            Failure<?>[] failures = new Failure<?>[constants.length];
+            for (int i = 0; i < constants.length; i++) {
+                failures[i] = new Failure<>(constants[i]);
+            }
+            return failures;
+        }
+    };
+
     public Failure(F value) {
         this.value = requireNonNull(value);
     }
 
+    /**
+     * creates a failure holding the provided value.
+     * <p>
+     * Failures holding an enum constant are preallocated : the same instance is returned for each constant.
+     *
+     * @param value the failure value
+     * @param <F>   the failure type
+     * @return a failure holding the provided value
+     */
+    @SuppressWarnings("unchecked")
     public static <F> Failure<F> failure(F value) {
+        if (value instanceof Enum<?> constant) {
+            return (Failure<F>) ENUM_FAILURES.get(constant.getDeclaringClass())[constant.ordinal()];
+        }
         return new Failure<>(value);
     }
 
+    /**
+     * accessor of the failure value, intended to be used with pattern matching on {@link VoidResult}.
+     *
+     * @return the failure value
+     */
+    public F value() {
+        return value;
+    }
+
+    @Override
+    public boolean isSuccess() {
+        return false;
+    }
+
+    @Override
+    public boolean isFailure() {
+        return true;
+    }
+
+    @Override
+    public F failureValue() {
+        return value;
+    }
+
     @Override
     public <R> R match(Supplier<? extends R> success, Function<? super F, ? extends R> failure) {
         requireNonNull(success);
         return failure.apply(value);
     }
 
+    @Override
+    public int matchInt(IntSupplier success, ToIntFunction<? super F> failure) {
+        requireNonNull(success);
+        return failure.applyAsInt(value);
+    }
+
+    @Override
+    public long matchLong(LongSupplier success, ToLongFunction<? super F> failure) {
+        requireNonNull(success);
+        return failure.applyAsLong(value);
+    }
+
+    @Override
+    public double matchDouble(DoubleSupplier success, ToDoubleFunction<? super F> failure) {
+        requireNonNull(success);
+        return failure.applyAsDouble(value);
+    }
+
+    @Override
+    public boolean matchBoolean(BooleanSupplier success, Predicate<? super F> failure) {
+        requireNonNull(success);
+        return failure.test(value);
+    }
+
     @Override
     public VoidResult<F> map(Runnable runnable) {
         requireNonNull(runnable);
@@ -43,6 +120,24 @@ final public class Failure<F> implements VoidResult<F> {
         return Result.failure(value);
     }
 
+    @Override
+    public IntResult<F> mapToInt(IntSupplier supplier) {
+        requireNonNull(supplier);
+        return IntResult.failure(value);
+    }
+
+    @Override
+    public LongResult<F> mapToLong(LongSupplier supplier) {
+        requireNonNull(supplier);
+        return LongResult.failure(value);
+    }
+
+    @Override
+    public DoubleResult<F> mapToDouble(DoubleSupplier supplier) {
+        requireNonNull(supplier);
+        return DoubleResult.failure(value);
+    }
+
     @Override
     public <G> VoidResult<G> mapFailure(Function<? super F, ? extends G> mapper) {
         return failure(requireNonNull(mapper).apply(value));
@@ -1,12 +1,14 @@
 package dbus.result.void_;
 
 import dbus.result.Result;
+import dbus.result.primitive.DoubleResult;
+import dbus.result.primitive.IntResult;
+import dbus.result.primitive.LongResult;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 
-import java.util.function.Consumer;
-import java.util.function.Function;
-import java.util.function.Supplier;
+import java.util.NoSuchElementException;
+import java.util.function.*;
 
 import static dbus.result.void_.VoidResult.narrow;
 import static java.util.Objects.requireNonNull;
@@ -29,12 +31,51 @@ final public class Success<F> implements VoidResult<F> {
         return (Success<G>) this;
     }
 
+    @Override
+    public boolean isSuccess() {
+        return true;
+    }
+
+    @Override
+    public boolean isFailure() {
+        return false;
+    }
+
+    @Override
+    public F failureValue() {
+        throw new NoSuchElementException("no failure value in " + this);
+    }
+
     @Override
     public <R> R match(Supplier<? extends R> success, Function<? super F, ? extends R> failure) {
         requireNonNull(failure);
         return success.get();
     }
 
+    @Override
+    public int matchInt(IntSupplier success, ToIntFunction<? super F> failure) {
+        requireNonNull(failure);
+        return success.getAsInt();
+    }
+
+    @Override
+    public long matchLong(LongSupplier success, ToLongFunction<? super F> failure) {
+        requireNonNull(failure);
+        return success.getAsLong();
+    }
+
+    @Override
+    public double matchDouble(DoubleSupplier success, ToDoubleFunction<? super F> failure) {
+        requireNonNull(failure);
+        return success.getAsDouble();
+    }
+
+    @Override
+    public boolean matchBoolean(BooleanSupplier success, Predicate<? super F> failure) {
+        requireNonNull(failure);
+        return success.getAsBoolean();
+    }
+
     @Override
     public VoidResult<F> map(Runnable runnable) {
         requireNonNull(runnable);
@@ -47,6 +88,21 @@ final public class Success<F> implements VoidResult<F> {
         return Result.success(supplier.get());
     }
 
+    @Override
+    public IntResult<F> mapToInt(IntSupplier supplier) {
+        return IntResult.success(supplier.getAsInt());
+    }
+
+    @Override
+    public LongResult<F> mapToLong(LongSupplier supplier) {
+        return LongResult.success(supplier.getAsLong());
+    }
+
+    @Override
+    public DoubleResult<F> mapToDouble(DoubleSupplier supplier) {
+        return DoubleResult.success(supplier.getAsDouble());
+    }
+
     @Override
     public <G> VoidResult<G> mapFailure(Function<? super F, ? extends G> mapper) {
         requireNonNull(mapper);
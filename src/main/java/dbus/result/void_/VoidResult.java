@@ -1,10 +1,13 @@
 package dbus.result.void_;
 
 import dbus.result.Result;
+import dbus.result.primitive.DoubleResult;
+import dbus.result.primitive.IntResult;
+import dbus.result.primitive.LongResult;
 
-import java.util.function.Consumer;
-import java.util.function.Function;
-import java.util.function.Supplier;
+import java.util.Iterator;
+import java.util.function.*;
+import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNull;
 
@@ -37,6 +40,8 @@ public sealed interface VoidResult<F> permits Success, Failure {
 
     /**
      * Narrow the scope of failure type to a supertype of the provided void result.
+     * <p>
+     * As void results are immutable, this is a checked identity cast : the provided instance is returned as is.
      *
      * @param voidResult the result that must be narrows
      * @param <F> the desired failure type
@@ -44,7 +49,9 @@ public sealed interface VoidResult<F> permits Success, Failure {
      * @throws NullPointerException if provided result is null
      */
     static <F> VoidResult<F> narrow(VoidResult<? extends F> voidResult) {
-        return voidResult.match(VoidResult::success, VoidResult::failure);
+        requireNonNull(voidResult);
+        //noinspection unchecked
+        return (VoidResult<F>) voidResult;
     }
 
     /**
@@ -78,6 +85,30 @@ public sealed interface VoidResult<F> permits Success, Failure {
         return bool ? VoidResult.success() : VoidResult.failure(failure.get());
     }
 
+    /**
+     * short-circuiting reduction of a void result stream into a single void result.
+     * <p>
+     * The stream is consumed until its first failure, which is returned : the following void results are not pulled
+     * from the stream, hence not computed if the stream is lazy.
+     * If the stream contains no failure, returns a success.
+     *
+     * @param voidResults the void result stream to reduce
+     * @param <F>         the failure type
+     * @return either a success or the first failure
+     * @throws NullPointerException if provided stream is null
+     */
+    static <F> VoidResult<F> traverse(Stream<? extends VoidResult<? extends F>> voidResults) {
+        requireNonNull(voidResults);
+        Iterator<? extends VoidResult<? extends F>> iterator = voidResults.iterator();
+        while (iterator.hasNext()) {
+            VoidResult<? extends F> voidResult = iterator.next();
+            if (voidResult.isFailure()) {
+                return narrow(voidResult);
+            }
+        }
+        return success();
+    }
+
     /**
      * Pattern matching emulation on VoidResult subtypes.
      * <p>
@@ -94,6 +125,78 @@ public sealed interface VoidResult<F> permits Success, Failure {
             Function<? super F, ? extends R> failure
     );
 
+    /**
+     * tells whether this void result is a success.
+     * <p>
+     * Together with {@link VoidResult#failureValue()}, this allows to inspect a void result without providing any
+     * function. Pattern matching on the {@link Success} and {@link Failure} subtypes is also possible.
+     *
+     * @return true if this is a success, false otherwise
+     */
+    boolean isSuccess();
+
+    /**
+     * tells whether this void result is a failure.
+     *
+     * @return true if this is a failure, false otherwise
+     * @see VoidResult#isSuccess()
+     */
+    boolean isFailure();
+
+    /**
+     * direct access to the failure value.
+     * <p>
+     * Intended to be guarded by {@link VoidResult#isFailure()}.
+     *
+     * @return the failure value
+     * @throws java.util.NoSuchElementException if this is a success
+     */
+    F failureValue();
+
+    /**
+     * Pattern matching emulation on VoidResult subtypes, folding into an int without boxing.
+     *
+     * @param success the desired behavior in case of success.
+     * @param failure the desired behavior in cas of failure
+     * @return the int provided by one of the two provided functions
+     * @throws NullPointerException if any of its arguments is null
+     * @see VoidResult#match(Supplier, Function)
+     */
+    int matchInt(IntSupplier success, ToIntFunction<? super F> failure);
+
+    /**
+     * Pattern matching emulation on VoidResult subtypes, folding into a long without boxing.
+     *
+     * @param success the desired behavior in case of success.
+     * @param failure the desired behavior in cas of failure
+     * @return the long provided by one of the two provided functions
+     * @throws NullPointerException if any of its arguments is null
+     * @see VoidResult#match(Supplier, Function)
+     */
+    long matchLong(LongSupplier success, ToLongFunction<? super F> failure);
+
+    /**
+     * Pattern matching emulation on VoidResult subtypes, folding into a double without boxing.
+     *
+     * @param success the desired behavior in case of success.
+     * @param failure the desired behavior in cas of failure
+     * @return the double provided by one of the two provided functions
+     * @throws NullPointerException if any of its arguments is null
+     * @see VoidResult#match(Supplier, Function)
+     */
+    double matchDouble(DoubleSupplier success, ToDoubleFunction<? super F> failure);
+
+    /**
+     * Pattern matching emulation on VoidResult subtypes, folding into a boolean without boxing.
+     *
+     * @param success the desired behavior in case of success.
+     * @param failure the desired behavior in cas of failure
+     * @return the boolean provided by one of the two provided functions
+     * @throws NullPointerException if any of its arguments is null
+     * @see VoidResult#match(Supplier, Function)
+     */
+    boolean matchBoolean(BooleanSupplier success, Predicate<? super F> failure);
+
     /**
      * <p>
      * It executes the provided runnable if this is a success.
@@ -117,6 +220,42 @@ public sealed interface VoidResult<F> permits Success, Failure {
      */
     <S> Result<S, F> map(Supplier<? extends S> supplier);
 
+    /**
+     * bridge function from VoidResult to {@link IntResult}.
+     * <p>
+     * It executes the provided supplier if this is a success, without boxing its value.
+     * Returns the current failure otherwise as an IntResult failure.
+     *
+     * @param supplier the supplier to execute in case of success
+     * @return an IntResult containing either a success with the supplied value or the current failure
+     * @throws NullPointerException when provided supplier is null
+     */
+    IntResult<F> mapToInt(IntSupplier supplier);
+
+    /**
+     * bridge function from VoidResult to {@link LongResult}.
+     * <p>
+     * It executes the provided supplier if this is a success, without boxing its value.
+     * Returns the current failure otherwise as a LongResult failure.
+     *
+     * @param supplier the supplier to execute in case of success
+     * @return a LongResult containing either a success with the supplied value or the current failure
+     * @throws NullPointerException when provided supplier is null
+     */
+    LongResult<F> mapToLong(LongSupplier supplier);
+
+    /**
+     * bridge function from VoidResult to {@link DoubleResult}.
+     * <p>
+     * It executes the provided supplier if this is a success, without boxing its value.
+     * Returns the current failure otherwise as a DoubleResult failure.
+     *
+     * @param supplier the supplier to execute in case of success
+     * @return a DoubleResult containing either a success with the supplied value or the current failure
+     * @throws NullPointerException when provided supplier is null
+     */
+    DoubleResult<F> mapToDouble(DoubleSupplier supplier);
+
     /**
      * VoidResult functor map function.
      * <p>
@@ -2,12 +2,12 @@ package dbus.result.void_;
 
 import dbus.result.Result;
 import dbus.result.ResultFunction;
+import dbus.result.primitive.DoubleResultFunction;
+import dbus.result.primitive.IntResultFunction;
+import dbus.result.primitive.LongResultFunction;
 
 import java.util.Objects;
-import java.util.function.Consumer;
-import java.util.function.Function;
-import java.util.function.Predicate;
-import java.util.function.Supplier;
+import java.util.function.*;
 
 import static java.util.Objects.requireNonNull;
 
@@ -16,6 +16,8 @@ public interface VoidResultFunction<T, F> extends Function<T, VoidResult<F>> {
 
     /**
      * conversion function to view a VoidResult returning function as a {@link VoidResultFunction}
+     * <p>
+     * If the provided function already is a {@link VoidResultFunction}, it is returned as is.
      *
      * @param f   the void result returning function
      * @param <T> the result returning function entry type
@@ -25,6 +27,10 @@ public interface VoidResultFunction<T, F> extends Function<T, VoidResult<F>> {
      */
     static <T, F> VoidResultFunction<T, F> asVoidResultFunction(Function<? super T, ? extends VoidResult<? extends F>> f) {
         Objects.requireNonNull(f);
+        if (f instanceof VoidResultFunction) {
+            //noinspection unchecked
+            return (VoidResultFunction<T, F>) f;
+        }
         return t -> VoidResult.narrow(f.apply(t));
     }
 
@@ -32,6 +38,8 @@ public interface VoidResultFunction<T, F> extends Function<T, VoidResult<F>> {
      * Generates a void result depending on the value of the provided boolean.
      * If the provided boolean is true, the result will be a success, else, it will
      * return a failure containing the provided failure.
+     * <p>
+     * The failure is allocated once, when the function is created, and returned by every failed test.
      *
      * @param predicate predicate that serves as a test
      * @param failure the failure to wrap in case provide {@code bool} is false
@@ -41,8 +49,8 @@ public interface VoidResultFunction<T, F> extends Function<T, VoidResult<F>> {
      */
     static <T, F> VoidResultFunction<T, F> successIf(Predicate<T> predicate, F failure) {
         requireNonNull(predicate);
-        requireNonNull(failure);
-        return t -> VoidResult.successIf(predicate.test(t), failure);
+        VoidResult<F> failed = VoidResult.failure(failure);
+        return t -> predicate.test(t) ? VoidResult.success() : failed;
     }
 
     /**
@@ -75,8 +83,7 @@ public interface VoidResultFunction<T, F> extends Function<T, VoidResult<F>> {
      * @see VoidResult#map(Runnable)
      */
     default VoidResultFunction<T, F> map(Runnable runnable) {
-        requireNonNull(runnable);
-        return t -> this.apply(t).map(runnable);
+        return VoidResultPipeline.run(this, runnable);
     }
 
     /**
@@ -90,8 +97,52 @@ public interface VoidResultFunction<T, F> extends Function<T, VoidResult<F>> {
      * @see VoidResult#map(Supplier)
      */
     default <S> ResultFunction<T, S, F> map(Supplier<? extends S> supplier) {
+        return VoidResultPipeline.map(this, supplier);
+    }
+
+    /**
+     * bridge function from {@link VoidResultFunction} to {@link IntResultFunction}.
+     * <p>
+     * It executes the provided supplier after the current {@link VoidResultFunction} in case of success.
+     *
+     * @param supplier the supplier to execute after this
+     * @return a {@link IntResultFunction} composing this and the provided supplier
+     * @throws NullPointerException when provided supplier is null
+     * @see VoidResult#mapToInt(IntSupplier)
+     */
+    default IntResultFunction<T, F> mapToInt(IntSupplier supplier) {
         requireNonNull(supplier);
-        return t -> this.apply(t).map(supplier);
+        return t -> this.apply(t).mapToInt(supplier);
+    }
+
+    /**
+     * bridge function from {@link VoidResultFunction} to {@link LongResultFunction}.
+     * <p>
+     * It executes the provided supplier after the current {@link VoidResultFunction} in case of success.
+     *
+     * @param supplier the supplier to execute after this
+     * @return a {@link LongResultFunction} composing this and the provided supplier
+     * @throws NullPointerException when provided supplier is null
+     * @see VoidResult#mapToLong(LongSupplier)
+     */
+    default LongResultFunction<T, F> mapToLong(LongSupplier supplier) {
+        requireNonNull(supplier);
+        return t -> this.apply(t).mapToLong(supplier);
+    }
+
+    /**
+     * bridge function from {@link VoidResultFunction} to {@link DoubleResultFunction}.
+     * <p>
+     * It executes the provided supplier after the current {@link VoidResultFunction} in case of success.
+     *
+     * @param supplier the supplier to execute after this
+     * @return a {@link DoubleResultFunction} composing this and the provided supplier
+     * @throws NullPointerException when provided supplier is null
+     * @see VoidResult#mapToDouble(DoubleSupplier)
+     */
+    default DoubleResultFunction<T, F> mapToDouble(DoubleSupplier supplier) {
+        requireNonNull(supplier);
+        return t -> this.apply(t).mapToDouble(supplier);
     }
 
     /**
@@ -106,8 +157,7 @@ public interface VoidResultFunction<T, F> extends Function<T, VoidResult<F>> {
      * @see VoidResult#mapFailure(Function)
      */
     default <R> VoidResultFunction<T, R> mapFailure(Function<? super F, ? extends R> mapper) {
-        requireNonNull(mapper);
-        return t -> this.apply(t).mapFailure(mapper);
+        return VoidResultPipeline.mapFailure(this, mapper);
     }
 
     /**
@@ -123,7 +173,7 @@ public interface VoidResultFunction<T, F> extends Function<T, VoidResult<F>> {
      */
     default <R> VoidResultFunction<T, R> mapFailure(Supplier<? extends R> supplier) {
         requireNonNull(supplier);
-        return t -> this.apply(t).mapFailure(supplier);
+        return VoidResultPipeline.mapFailure(this, ignored -> supplier.get());
     }
 
     /**
@@ -154,8 +204,7 @@ public interface VoidResultFunction<T, F> extends Function<T, VoidResult<F>> {
      * @see VoidResult#map(Runnable)
      */
     default VoidResultFunction<T, F> flatMap(Supplier<? extends VoidResult<F>> bound) {
-        requireNonNull(bound);
-        return t -> this.apply(t).flatMap(bound);
+        return VoidResultPipeline.flatMap(this, bound);
     }
 
     /**
@@ -170,8 +219,67 @@ public interface VoidResultFunction<T, F> extends Function<T, VoidResult<F>> {
      * @throws NullPointerException if provided bound parameter is null
      */
     default <S> ResultFunction<T, S, F> flatMapToResult(Supplier<? extends Result<? extends S, ? extends F>> bound) {
-        requireNonNull(bound);
-        return t -> this.apply(t).flatMapToResult(bound);
+        return VoidResultPipeline.flatMapToResult(this, bound);
+    }
+
+    /**
+     * compose current function with a folding of its result into an int, without boxing.
+     *
+     * @param success the desired behavior in case of success.
+     * @param failure the desired behavior in cas of failure
+     * @return a function composing this and the folding functions
+     * @throws NullPointerException if any of its arguments is null
+     * @see VoidResult#matchInt(IntSupplier, ToIntFunction)
+     */
+    default ToIntFunction<T> thenMatchInt(IntSupplier success, ToIntFunction<? super F> failure) {
+        requireNonNull(success);
+        requireNonNull(failure);
+        return t -> this.apply(t).matchInt(success, failure);
+    }
+
+    /**
+     * compose current function with a folding of its result into a long, without boxing.
+     *
+     * @param success the desired behavior in case of success.
+     * @param failure the desired behavior in cas of failure
+     * @return a function composing this and the folding functions
+     * @throws NullPointerException if any of its arguments is null
+     * @see VoidResult#matchLong(LongSupplier, ToLongFunction)
+     */
+    default ToLongFunction<T> thenMatchLong(LongSupplier success, ToLongFunction<? super F> failure) {
+        requireNonNull(success);
+        requireNonNull(failure);
+        return t -> this.apply(t).matchLong(success, failure);
+    }
+
+    /**
+     * compose current function with a folding of its result into a double, without boxing.
+     *
+     * @param success the desired behavior in case of success.
+     * @param failure the desired behavior in cas of failure
+     * @return a function composing this and the folding functions
+     * @throws NullPointerException if any of its arguments is null
+     * @see VoidResult#matchDouble(DoubleSupplier, ToDoubleFunction)
+     */
+    default ToDoubleFunction<T> thenMatchDouble(DoubleSupplier success, ToDoubleFunction<? super F> failure) {
+        requireNonNull(success);
+        requireNonNull(failure);
+        return t -> this.apply(t).matchDouble(success, failure);
+    }
+
+    /**
+     * compose current function with a folding of its result into a boolean, without boxing.
+     *
+     * @param success the desired behavior in case of success.
+     * @param failure the desired behavior in cas of failure
+     * @return a predicate composing this and the folding functions
+     * @throws NullPointerException if any of its arguments is null
+     * @see VoidResult#matchBoolean(BooleanSupplier, Predicate)
+     */
+    default Predicate<T> thenMatchBoolean(BooleanSupplier success, Predicate<? super F> failure) {
+        requireNonNull(success);
+        requireNonNull(failure);
+        return t -> this.apply(t).matchBoolean(success, failure);
     }
 
     /**
@@ -182,8 +290,7 @@ public interface VoidResultFunction<T, F> extends Function<T, VoidResult<F>> {
      * @throws NullPointerException if provided recoveringFunction parameter is null
      */
     default VoidResultFunction<T, F> thenTryRecovering(Function<? super F, ? extends VoidResult<? extends F>> recoveringFunction) {
-        requireNonNull(recoveringFunction);
-        return t -> this.apply(t).tryRecovering(recoveringFunction);
+        return VoidResultPipeline.tryRecovering(this, recoveringFunction);
     }
 
     /**
@@ -195,6 +302,6 @@ public interface VoidResultFunction<T, F> extends Function<T, VoidResult<F>> {
      */
     default VoidResultFunction<T, F> thenTryRecovering(Supplier<? extends VoidResult<? extends F>> recoveringSupplier) {
         requireNonNull(recoveringSupplier);
-        return t -> this.apply(t).tryRecovering(recoveringSupplier);
+        return VoidResultPipeline.tryRecovering(this, ignored -> recoveringSupplier.get());
     }
 }
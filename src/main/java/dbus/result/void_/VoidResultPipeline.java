@@ -0,0 +1,129 @@
+package dbus.result.void_;
+
+import dbus.result.Result;
+import dbus.result.ResultFunction;
+import dbus.result.ResultPipeline;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * fused composition of {@link VoidResultFunction}.
+ * <p>
+ * The composition itself is implemented by package-private methods of {@link ResultPipeline}, next to the stage list
+ * it appends to, so that it is not part of the API. As they are out of reach of this package, they are looked up once
+ * with a private lookup, which is allowed within the module of the library, and called as constant method handles.
+ */
+final class VoidResultPipeline {
+
+    private static final Lookup PIPELINE = pipelineLookup();
+    private static final MethodHandle MAP = find("mapVoid", ResultFunction.class, Supplier.class);
+    private static final MethodHandle RUN = find("runVoid", VoidResultFunction.class, Runnable.class);
+    private static final MethodHandle MAP_FAILURE = find("mapVoidFailure", VoidResultFunction.class, Function.class);
+    private static final MethodHandle FLAT_MAP = find("flatMapVoid", VoidResultFunction.class, Supplier.class);
+    private static final MethodHandle FLAT_MAP_TO_RESULT =
+            find("flatMapVoidToResult", ResultFunction.class, Supplier.class);
+    private static final MethodHandle TRY_RECOVERING =
+            find("tryRecoveringVoid", VoidResultFunction.class, Function.class);
+
+    private VoidResultPipeline() {
+    }
+
+    private static Lookup pipelineLookup() {
+        try {
+            return MethodHandles.privateLookupIn(ResultPipeline.class, MethodHandles.lookup());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MethodHandle find(String name, Class<?> returnType, Class<?> parameterType) {
+        try {
+            return PIPELINE.findStatic(ResultPipeline.class, name,
+                    MethodType.methodType(returnType, VoidResultFunction.class, parameterType));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable throwable) {
+        if (throwable instanceof RuntimeException exception) {
+            return exception;
+        }
+        if (throwable instanceof Error error) {
+            throw error;
+        }
+        return new UndeclaredThrowableException(throwable);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T, F, S> ResultFunction<T, S, F> map(VoidResultFunction<T, F> function, Supplier<? extends S> supplier) {
+        try {
+            return (ResultFunction<T, S, F>) MAP.invokeExact(function, supplier);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T, F> VoidResultFunction<T, F> run(VoidResultFunction<T, F> function, Runnable runnable) {
+        try {
+            return (VoidResultFunction<T, F>) RUN.invokeExact(function, runnable);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T, F, R> VoidResultFunction<T, R> mapFailure(
+            VoidResultFunction<T, F> function,
+            Function<? super F, ? extends R> mapper
+    ) {
+        try {
+            return (VoidResultFunction<T, R>) MAP_FAILURE.invokeExact(function, mapper);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T, F> VoidResultFunction<T, F> flatMap(
+            VoidResultFunction<T, F> function,
+            Supplier<? extends VoidResult<? extends F>> bound
+    ) {
+        try {
+            return (VoidResultFunction<T, F>) FLAT_MAP.invokeExact(function, bound);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T, F, S> ResultFunction<T, S, F> flatMapToResult(
+            VoidResultFunction<T, F> function,
+            Supplier<? extends Result<? extends S, ? extends F>> bound
+    ) {
+        try {
+            return (ResultFunction<T, S, F>) FLAT_MAP_TO_RESULT.invokeExact(function, bound);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T, F> VoidResultFunction<T, F> tryRecovering(
+            VoidResultFunction<T, F> function,
+            Function<? super F, ? extends VoidResult<? extends F>> recoveringFunction
+    ) {
+        try {
+            return (VoidResultFunction<T, F>) TRY_RECOVERING.invokeExact(function, recoveringFunction);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+}
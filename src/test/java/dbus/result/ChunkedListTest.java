@@ -0,0 +1,80 @@
+package dbus.result;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ChunkedListTest {
+
+    private static ChunkedList<Integer> chunkedList(int from, int to) {
+        ChunkedList<Integer> list = new ChunkedList<>();
+        IntStream.range(from, to).forEach(list::add);
+        return list;
+    }
+
+    private static List<Integer> range(int from, int to) {
+        List<Integer> list = new ArrayList<>();
+        IntStream.range(from, to).forEach(list::add);
+        return list;
+    }
+
+    @Test
+    public void should_keep_insertion_order_over_many_chunks() {
+        assertThat(chunkedList(0, 100_000)).containsExactlyElementsOf(range(0, 100_000));
+    }
+
+    @Test
+    public void append_should_move_elements_after_current_ones() {
+        // given
+        ChunkedList<Integer> list = chunkedList(0, 1000);
+        ChunkedList<Integer> other = chunkedList(1000, 1500);
+
+        // when
+        list.append(other);
+
+        // then
+        assertThat(list).containsExactlyElementsOf(range(0, 1500));
+        assertThat(other).isEmpty();
+    }
+
+    @Test
+    public void append_should_allow_further_additions() {
+        // given
+        ChunkedList<Integer> list = chunkedList(0, 10);
+        list.append(chunkedList(10, 20));
+        list.append(new ChunkedList<>());
+
+        // when
+        list.add(20);
+        list.append(chunkedList(21, 30));
+        list.get(0);
+        list.add(30);
+
+        // then
+        assertThat(list).containsExactlyElementsOf(range(0, 31));
+    }
+
+    @Test
+    public void empty_list_should_append_other() {
+        // given
+        ChunkedList<Integer> list = new ChunkedList<>();
+
+        // when
+        list.append(chunkedList(0, 5));
+
+        // then
+        assertThat(list).containsExactly(0, 1, 2, 3, 4);
+        assertThat(list.toArray()).containsExactly(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    public void get_should_check_index() {
+        assertThrows(IndexOutOfBoundsException.class, () -> chunkedList(0, 5).get(5));
+        assertThrows(IndexOutOfBoundsException.class, () -> new ChunkedList<>().get(0));
+    }
+}
@@ -0,0 +1,110 @@
+package dbus.result;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static dbus.result.MockitoLambdaSpying.spiedFunction;
+import static dbus.result.Result.failure;
+import static dbus.result.Result.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class KeyedResultsTest {
+
+    private final ResultFunction<Integer, String, String> evenOnly =
+            i -> i % 2 == 0 ? success("value " + i) : failure("odd " + i);
+
+    @Test
+    @DisplayName("collector should keep each input along with its outcome")
+    public void collector_should_keep_each_input_along_with_its_outcome() {
+        // when
+        KeyedResults<Integer, String, String> results = Stream.of(1, 2, 3, 4).collect(evenOnly.keyedCollector());
+
+        // then
+        assertThat(results.successKeys()).containsExactly(2, 4);
+        assertThat(results.successes()).containsExactly("value 2", "value 4");
+        assertThat(results.failedKeys()).containsExactly(1, 3);
+        assertThat(results.failures()).containsExactly("odd 1", "odd 3");
+        assertThat(results.failuresByKey()).isEqualTo(Map.of(1, "odd 1", 3, "odd 3"));
+        assertThat(results.successCount()).isEqualTo(2);
+        assertThat(results.failureCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("collector should keep encounter order of a parallel stream")
+    public void collector_should_keep_encounter_order_of_a_parallel_stream() {
+        // when
+        KeyedResults<Integer, String, String> results = IntStream.range(0, 10_000).boxed().parallel()
+                .collect(KeyedResults.collector(evenOnly));
+
+        // then
+        assertThat(results.successKeys()).isSorted().hasSize(5_000);
+        assertThat(results.failedKeys()).isSorted().hasSize(5_000);
+    }
+
+    @Test
+    @DisplayName("retryFailures should only apply function to failed inputs")
+    public void retryFailures_should_only_apply_function_to_failed_inputs() {
+        // given
+        KeyedResults<Integer, String, String> results = Stream.of(1, 2, 3, 4, 5).collect(evenOnly.keyedCollector());
+        Function<Integer, Result<String, String>> retry =
+                spiedFunction(i -> i == 3 ? success("retried " + i) : failure("still odd " + i));
+
+        // when
+        results.retryFailures(retry);
+
+        // then
+        verify(retry, times(3)).apply(any());
+        assertThat(results.successKeys()).containsExactly(2, 4, 3);
+        assertThat(results.successes()).containsExactly("value 2", "value 4", "retried 3");
+        assertThat(results.failuresByKey()).containsExactly(Map.entry(1, "still odd 1"), Map.entry(5, "still odd 5"));
+    }
+
+    @Test
+    @DisplayName("retryFailures should leave results unchanged when function throws")
+    public void retryFailures_should_leave_results_unchanged_when_function_throws() {
+        // given
+        KeyedResults<Integer, String, String> results = Stream.of(1, 2, 3, 4, 5).collect(evenOnly.keyedCollector());
+        Function<Integer, Result<String, String>> retry = i -> {
+            if (i == 3) {
+                throw new IllegalStateException("boom");
+            }
+            return success("retried " + i);
+        };
+
+        // when
+        assertThrows(IllegalStateException.class, () -> results.retryFailures(retry));
+
+        // then
+        assertThat(results.successKeys()).containsExactly(2, 4);
+        assertThat(results.successes()).containsExactly("value 2", "value 4");
+        assertThat(results.failuresByKey())
+                .containsExactly(Map.entry(1, "odd 1"), Map.entry(3, "odd 3"), Map.entry(5, "odd 5"));
+    }
+
+    @Test
+    @DisplayName("toResults should forget inputs")
+    public void toResults_should_forget_inputs() {
+        // when
+        Results<String, String> results = Stream.of(1, 2, 3).collect(evenOnly.keyedCollector()).toResults();
+
+        // then
+        assertThat(results.successes()).containsExactly("value 2");
+        assertThat(results.failures()).containsExactly("odd 1", "odd 3");
+    }
+
+    @Test
+    @DisplayName("keyed results should not accept null functions")
+    public void keyed_results_should_not_accept_null_functions() {
+        assertThrows(NullPointerException.class, () -> KeyedResults.collector(null));
+        assertThrows(NullPointerException.class, () -> new KeyedResults<>().retryFailures(null));
+    }
+}
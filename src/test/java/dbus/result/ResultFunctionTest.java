@@ -56,6 +56,31 @@ class ResultFunctionTest {
                 // then
                 assertThat(converted.apply(12)).isEqualTo(f.apply(12));
             }
+
+            @Test
+            public void asResultFunction_should_return_the_very_same_function_when_provided_a_result_function() {
+                // given
+                ResultFunction<Number, String, String> f = n -> success(n.toString());
+
+                // when
+                ResultFunction<Integer, Object, Object> converted = ResultFunction.asResultFunction(f);
+
+                // then
+                assertThat(converted).isSameAs(f);
+            }
+
+            @Test
+            public void asResultFunction_should_return_the_result_instance_of_the_converted_function() {
+                // given
+                Result<String, String> result = success("success");
+                Function<Number, Result<String, String>> f = n -> result;
+
+                // when
+                ResultFunction<Integer, Object, Object> converted = ResultFunction.asResultFunction(f);
+
+                // then
+                assertThat(converted.apply(12)).isSameAs(result);
+            }
         }
 
 
@@ -934,4 +959,273 @@ class ResultFunctionTest {
         }
     }
 
-}
\ No newline at end of file
+    @Nested
+    class Match {
+
+        private final ResultFunction<String, String, Integer> parse =
+                s -> s.isEmpty() ? failure(-1) : success(s);
+
+        @Test
+        public void thenMatch_primitive_functions_should_fold_success() {
+            assertThat(parse.thenMatchInt(String::length, f -> f).applyAsInt("four")).isEqualTo(4);
+            assertThat(parse.thenMatchLong(String::length, f -> f).applyAsLong("four")).isEqualTo(4L);
+            assertThat(parse.thenMatchDouble(String::length, f -> f).applyAsDouble("four")).isEqualTo(4d);
+            assertThat(parse.thenMatchBoolean(s -> true, f -> false).test("four")).isTrue();
+        }
+
+        @Test
+        public void thenMatch_primitive_functions_should_fold_failure() {
+            assertThat(parse.thenMatchInt(String::length, f -> f).applyAsInt("")).isEqualTo(-1);
+            assertThat(parse.thenMatchLong(String::length, f -> f).applyAsLong("")).isEqualTo(-1L);
+            assertThat(parse.thenMatchDouble(String::length, f -> f).applyAsDouble("")).isEqualTo(-1d);
+            assertThat(parse.thenMatchBoolean(s -> true, f -> false).test("")).isFalse();
+        }
+
+        @Test
+        public void thenMatch_primitive_functions_should_not_accept_null_functions() {
+            assertThrows(NullPointerException.class, () -> parse.thenMatchInt(null, f -> f));
+            assertThrows(NullPointerException.class, () -> parse.thenMatchLong(String::length, null));
+            assertThrows(NullPointerException.class, () -> parse.thenMatchDouble(null, f -> f));
+            assertThrows(NullPointerException.class, () -> parse.thenMatchBoolean(s -> true, null));
+        }
+    }
+
+    @Nested
+    class Fusion {
+
+        private final ResultFunction<String, String, Integer> parse =
+                s -> s.isEmpty() ? failure(-1) : success(s);
+
+        private <T, S, F> ResultFunction<T, S, F> beyondNestingLimit(ResultFunction<T, S, F> function) {
+            Function<S, S> identity = s -> s;
+            ResultFunction<T, S, F> padded = function;
+            for (int i = 0; i < FusedFunction.NESTING_LIMIT; i++) {
+                padded = padded.map(identity);
+            }
+            return padded;
+        }
+
+        @Test
+        public void composition_should_not_nest_functions() {
+            // given
+            ResultFunction<String, Integer, Integer> chain = parse.map(String::length);
+
+            // when
+            for (int i = 0; i < 63; i++) {
+                chain = chain.map(n -> n + 1);
+            }
+
+            // then
+            assertThat(chain).isInstanceOf(FusedFunction.class);
+            assertThat(((FusedFunction<?>) chain).depth()).isEqualTo(64);
+            assertThat(((FusedFunction<?>) chain).source).isSameAs(parse);
+        }
+
+        @Test
+        public void fused_chain_should_return_the_same_results_as_nested_functions() {
+            // given
+            ResultFunction<String, String, String> fused = beyondNestingLimit(parse)
+                    .map(String::length)
+                    .flatMap(n -> n > 3 ? Result.<Integer, Integer>failure(n) : success(n))
+                    .thenTryRecovering(f -> f == -1 ? failure(0) : success(f * 10))
+                    .flatMapToVoid(n -> n > 20 ? VoidResult.failure(n) : VoidResult.success())
+                    .mapFailure(f -> f + 1)
+                    .flatMapToResult(() -> success("ok"))
+                    .mapFailure(Object::toString);
+            Function<String, Result<String, String>> nested = s -> parse.apply(s)
+                    .map(String::length)
+                    .flatMap(n -> n > 3 ? Result.<Integer, Integer>failure(n) : success(n))
+                    .tryRecovering(f -> f == -1 ? failure(0) : success(f * 10))
+                    .flatMapToVoid(n -> n > 20 ? VoidResult.failure(n) : VoidResult.success())
+                    .mapFailure(f -> f + 1)
+                    .flatMapToResult(() -> success("ok"))
+                    .mapFailure(Object::toString);
+
+            // when // then
+            for (String input : new String[]{"", "a", "abc", "abcd", "abcdefghijklmnopqrstuvwxyz"}) {
+                assertThat(fused.apply(input)).isEqualTo(nested.apply(input));
+            }
+        }
+
+        @Test
+        public void failure_should_pass_through_success_stages_unchanged() {
+            // given
+            Result<String, Integer> failed = failure(3);
+            Function<String, String> trim = String::trim;
+            Function<String, String> upperCase = String::toUpperCase;
+            ResultFunction<String, String, Integer> chain = beyondNestingLimit(ResultFunction.<String, String, Integer>asResultFunction(s -> failed))
+                    .map(trim)
+                    .flatMap(s -> success(s + s))
+                    .map(upperCase);
+
+            // when
+            Result<String, Integer> result = chain.apply("any");
+
+            // then
+            Assertions.assertThat(result).isSameAs(failed);
+        }
+
+        @Test
+        public void bound_result_should_be_returned_as_is_when_it_is_the_outcome() {
+            // given
+            Result<Integer, Integer> bound = success(42);
+            ResultFunction<String, Integer, Integer> chain = beyondNestingLimit(parse)
+                    .map(String::length)
+                    .flatMap(n -> bound);
+
+            // when
+            Result<Integer, Integer> result = chain.apply("any");
+
+            // then
+            Assertions.assertThat(result).isSameAs(bound);
+        }
+
+        @Test
+        public void composition_should_leave_the_previous_function_unchanged() {
+            // given
+            ResultFunction<String, Integer, Integer> length = beyondNestingLimit(parse).map(String::length);
+
+            // when
+            ResultFunction<String, Integer, Integer> doubled = length.map(n -> n * 2);
+            ResultFunction<String, Integer, Integer> negated = length.map(n -> -n);
+
+            // then
+            assertThat(length.apply("abc")).isEqualTo(success(3));
+            assertThat(doubled.apply("abc")).isEqualTo(success(6));
+            assertThat(negated.apply("abc")).isEqualTo(success(-3));
+        }
+
+        @Test
+        public void void_stages_should_run_side_effects_on_success_only() {
+            // given
+            StringBuilder log = new StringBuilder();
+            VoidResultFunction<String, Integer> chain = beyondNestingLimit(parse)
+                    .map((Consumer<String>) log::append)
+                    .map(() -> {
+                        log.append('!');
+                    });
+
+            // when
+            VoidResult<Integer> success = chain.apply("a");
+            VoidResult<Integer> failure = chain.apply("");
+
+            // then
+            assertThat(success).isEqualTo(VoidResult.success());
+            assertThat(failure).isEqualTo(VoidResult.failure(-1));
+            assertThat(log.toString()).isEqualTo("a!");
+        }
+
+        @Test
+        public void fused_map_should_not_accept_null_mapped_values() {
+            // given
+            ResultFunction<String, Object, Integer> chain = beyondNestingLimit(parse).map(s -> null);
+
+            // when // then
+            assertThrows(NullPointerException.class, () -> chain.apply("a"));
+        }
+    }
+
+    @Nested
+    class Compilation {
+
+        private final ResultFunction<String, String, Integer> parse =
+                s -> s.isEmpty() ? failure(-1) : success(s);
+
+        @Test
+        public void compile_should_not_accept_null_function() {
+            //noinspection ResultOfMethodCallIgnored
+            assertThrows(NullPointerException.class, () -> ResultPipeline.compile((ResultFunction<?, ?, ?>) null));
+        }
+
+        @Test
+        public void compiled_pipeline_should_not_accept_null_bound_results() {
+            // given
+            ResultFunction<String, Integer, Integer> length = parse.map(String::length);
+            ResultFunction<String, Integer, Integer> bound = ResultPipeline.compile(length.flatMap(n -> null));
+            VoidResultFunction<String, Integer> boundToVoid = ResultPipeline.compile(length.flatMapToVoid(n -> null));
+            ResultFunction<String, Integer, Integer> recovered = ResultPipeline.compile(length.thenTryRecovering(f -> null));
+
+            // when // then
+            assertThrows(NullPointerException.class, () -> bound.apply("a"));
+            assertThrows(NullPointerException.class, () -> boundToVoid.apply("a"));
+            assertThrows(NullPointerException.class, () -> recovered.apply(""));
+        }
+
+        @Test
+        public void compile_should_return_a_function_which_is_not_composed_as_is() {
+            // when
+            ResultFunction<String, String, Integer> compiled = ResultPipeline.compile(parse);
+
+            // then
+            Assertions.assertThat(compiled).isSameAs(parse);
+        }
+
+        @Test
+        public void compile_should_define_a_hidden_class_per_pipeline() {
+            // given
+            ResultFunction<String, Integer, Integer> length = parse.map(String::length);
+
+            // when
+            ResultFunction<String, Integer, Integer> first = ResultPipeline.compile(length);
+            ResultFunction<String, Integer, Integer> second = ResultPipeline.compile(length);
+
+            // then
+            assertThat(first.getClass().isHidden()).isTrue();
+            assertThat(first.getClass()).isNotEqualTo(second.getClass());
+        }
+
+        @Test
+        public void compiled_pipeline_should_return_the_same_results_as_the_composed_function() {
+            // given
+            StringBuilder log = new StringBuilder();
+            ResultFunction<String, String, String> composed = parse
+                    .map(String::length)
+                    .flatMap(n -> n > 3 ? Result.<Integer, Integer>failure(n) : success(n))
+                    .thenTryRecovering(f -> f == -1 ? failure(0) : success(f * 10))
+                    .flatMapToVoid(n -> n > 20 ? VoidResult.failure(n) : VoidResult.success())
+                    .map(() -> {
+                        log.append('!');
+                    })
+                    .mapFailure(f -> f + 1)
+                    .flatMapToResult(() -> success("ok"))
+                    .mapFailure(Object::toString);
+
+            // when
+            ResultFunction<String, String, String> compiled = ResultPipeline.compile(composed);
+
+            // then
+            for (String input : new String[]{"", "a", "abc", "abcd", "abcdefghijklmnopqrstuvwxyz"}) {
+                assertThat(compiled.apply(input)).isEqualTo(composed.apply(input));
+            }
+            assertThat(log.toString()).isEqualTo("!!!!");
+        }
+
+        @Test
+        public void compiled_pipeline_should_apply_every_stage_of_a_deep_chain() {
+            // given
+            ResultFunction<String, Integer, Integer> chain = parse.map(String::length);
+            for (int i = 0; i < 63; i++) {
+                chain = chain.flatMap(n -> success(n + 1));
+            }
+
+            // when
+            ResultFunction<String, Integer, Integer> compiled = ResultPipeline.compile(chain);
+
+            // then
+            assertThat(compiled.apply("abc")).isEqualTo(success(66));
+            assertThat(compiled.apply("")).isEqualTo(failure(-1));
+        }
+
+        @Test
+        public void compiled_pipeline_should_propagate_exceptions() {
+            // given
+            Function<String, Integer> failing = s -> {
+                throw new IllegalArgumentException(s);
+            };
+            ResultFunction<String, Integer, Integer> compiled = ResultPipeline.compile(parse.map(failing));
+
+            // when // then
+            assertThrows(IllegalArgumentException.class, () -> compiled.apply("a"));
+        }
+    }
+}
@@ -14,10 +14,12 @@ import org.mockito.Mockito;
 import org.mockito.verification.VerificationMode;
 
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static dbus.result.MockitoLambdaSpying.*;
@@ -69,6 +71,89 @@ class ResultTest {
             );
         }
 
+        @Test
+        public void common_successes_should_be_cached() {
+            // given
+            Result<Boolean, String> bool = success(true);
+            Result<Integer, String> integer = success(127);
+            Result<Long, String> longValue = success(-128L);
+            Result<TimeUnit, String> constant = success(TimeUnit.SECONDS);
+            Result<List<String>, String> empty = success(List.of());
+
+            // when // then
+            assertThat((Object) bool).isSameAs(Result.<Boolean, Integer>success(true));
+            assertThat((Object) integer).isSameAs(Result.<Integer, Integer>success(127));
+            assertThat((Object) longValue).isSameAs(Result.<Long, Integer>success(-128L));
+            assertThat((Object) constant).isSameAs(Result.<TimeUnit, Integer>success(TimeUnit.SECONDS));
+            assertThat((Object) empty).isSameAs(Result.<List<String>, Integer>success(List.of()));
+            assertThat(success(false)).isNotSameAs(bool);
+        }
+
+        @Test
+        public void uncommon_successes_should_not_be_cached() {
+            assertThat(success(128)).isNotSameAs(success(128)).isEqualTo(success(128));
+            assertThat(success(-129L)).isNotSameAs(success(-129L)).isEqualTo(success(-129L));
+            assertThat(success(List.of("a"))).isNotSameAs(success(List.of("a")));
+            assertThat(success("")).isNotSameAs(success(""));
+            assertThat(success(Optional.of("a"))).isNotSameAs(success(Optional.of("a")));
+            assertThat(success(Optional.empty())).isSameAs(success(Optional.empty()));
+        }
+
+        @Test
+        public void registered_constants_should_be_cached() {
+            // given
+            Object constant = new Object();
+            Object other = new Object();
+
+            // when
+            Success.registerConstant(constant);
+            Success.registerConstant(constant);
+
+            // then
+            assertThat(success(constant)).isSameAs(success(constant));
+            assertThat(success(constant).successValue()).isSameAs(constant);
+            assertThat(success(other)).isNotSameAs(success(other));
+            assertThrows(NullPointerException.class, () -> Success.registerConstant(null));
+        }
+
+        @Test
+        public void mapping_to_a_common_value_should_not_allocate_a_success() {
+            // given
+            Result<String, String> success = success("four");
+            Function<String, Boolean> isNotEmpty = s -> !s.isEmpty();
+
+            // when
+            Result<Boolean, String> first = success.map(isNotEmpty);
+            Result<Boolean, String> second = success.map(isNotEmpty);
+
+            // then
+            assertThat(first).isSameAs(second).isEqualTo(success(true));
+        }
+
+        @Test
+        public void enum_failures_should_be_preallocated() {
+            // when
+            Result<String, TimeUnit> first = failure(TimeUnit.SECONDS);
+            Result<Integer, TimeUnit> second = Result.failure(TimeUnit.SECONDS);
+
+            // then
+            assertThat((Object) first).isSameAs(second);
+            assertThat((Object) first).isNotSameAs(failure(TimeUnit.MINUTES));
+            assertThat(first.failureValue()).isEqualTo(TimeUnit.SECONDS);
+        }
+
+        @Test
+        public void mapped_enum_failures_should_be_preallocated() {
+            // given
+            Result<String, String> failure = failure("seconds");
+
+            // when
+            Result<String, TimeUnit> mapped = failure.mapFailure(f -> TimeUnit.SECONDS);
+
+            // then
+            assertThat(mapped).isSameAs(failure(TimeUnit.SECONDS));
+        }
+
         @Nested
         class FromBoolean {
 
@@ -203,6 +288,84 @@ class ResultTest {
             );
         }
 
+        @Test
+        public void accessors_should_expose_success_when_result_is_a_success() {
+            // given
+            Result<String, Integer> success = success("test");
+
+            // then
+            assertThat(success.isSuccess()).isTrue();
+            assertThat(success.isFailure()).isFalse();
+            assertThat(success.successValue()).isEqualTo("test");
+            assertThrows(NoSuchElementException.class, success::failureValue);
+        }
+
+        @Test
+        public void accessors_should_expose_failure_when_result_is_a_failure() {
+            // given
+            Result<String, Integer> failure = failure(14);
+
+            // then
+            assertThat(failure.isSuccess()).isFalse();
+            assertThat(failure.isFailure()).isTrue();
+            assertThat(failure.failureValue()).isEqualTo(14);
+            assertThrows(NoSuchElementException.class, failure::successValue);
+        }
+
+        @ParameterizedTest(name = "pattern matching should give access to the value when result is {0}")
+        @MethodSource("successAndFailure")
+        public void pattern_matching_should_give_access_to_the_value(Result<String, String> result) {
+            // when
+            String value;
+            if (result instanceof dbus.result.Success<String, String> success) {
+                value = success.value();
+            } else if (result instanceof dbus.result.Failure<String, String> failure) {
+                value = failure.value();
+            } else {
+                value = fail("result is neither a success nor a failure");
+            }
+
+            // then
+            assertThat(value).isEqualTo(result.match(s -> s, f -> f));
+        }
+
+        @Test
+        public void primitive_matches_should_execute_success_function_when_result_is_a_success() {
+            // given
+            Result<String, Integer> success = success("test");
+
+            // then
+            assertThat(success.matchInt(String::length, i -> fail("should not be executed"))).isEqualTo(4);
+            assertThat(success.matchLong(String::length, i -> fail("should not be executed"))).isEqualTo(4L);
+            assertThat(success.matchDouble(String::length, i -> fail("should not be executed"))).isEqualTo(4d);
+            assertThat(success.matchBoolean(s -> true, i -> fail("should not be executed"))).isTrue();
+        }
+
+        @Test
+        public void primitive_matches_should_execute_failure_function_when_result_is_a_failure() {
+            // given
+            Result<String, Integer> failure = failure(14);
+
+            // then
+            assertThat(failure.matchInt(s -> fail("should not be executed"), i -> i)).isEqualTo(14);
+            assertThat(failure.matchLong(s -> fail("should not be executed"), i -> i)).isEqualTo(14L);
+            assertThat(failure.matchDouble(s -> fail("should not be executed"), i -> i)).isEqualTo(14d);
+            assertThat(failure.matchBoolean(s -> fail("should not be executed"), i -> false)).isFalse();
+        }
+
+        @ParameterizedTest(name = "primitive matches should not accept null functions when result is {0}")
+        @MethodSource("successAndFailure")
+        public void primitive_matches_should_not_accept_null_functions(Result<String, String> result) {
+            assertThrows(NullPointerException.class, () -> result.matchInt(null, String::length));
+            assertThrows(NullPointerException.class, () -> result.matchInt(String::length, null));
+            assertThrows(NullPointerException.class, () -> result.matchLong(null, String::length));
+            assertThrows(NullPointerException.class, () -> result.matchLong(String::length, null));
+            assertThrows(NullPointerException.class, () -> result.matchDouble(null, String::length));
+            assertThrows(NullPointerException.class, () -> result.matchDouble(String::length, null));
+            assertThrows(NullPointerException.class, () -> result.matchBoolean(null, String::isEmpty));
+            assertThrows(NullPointerException.class, () -> result.matchBoolean(String::isEmpty, null));
+        }
+
         Stream<Arguments> successAndFailure() {
             return ResultTest.successAndFailure();
         }
@@ -232,6 +395,40 @@ class ResultTest {
 
         }
 
+        @ParameterizedTest(name = "narrow should return the very same result instance when result input is not null")
+        @MethodSource("subTypeResults")
+        public void narrow_should_return_the_same_instance_when_input_is_not_null(Result<?, ? extends Number> result) {
+            // when
+            Result<Object, Number> narrowed = Result.narrow(result);
+
+            // then
+            assertThat(narrowed).isSameAs(result);
+        }
+
+        @Test
+        public void flatMap_should_return_the_bound_result_instance_when_result_is_a_success() {
+            // given
+            Result<Integer, Integer> bound = success(12);
+
+            // when
+            Result<Number, Number> flatMapped = Result.<String, Number>success("success").flatMap(s -> bound);
+
+            // then
+            assertThat(flatMapped).isSameAs(bound);
+        }
+
+        @Test
+        public void tryRecovering_should_return_the_recovering_result_instance_when_result_is_a_failure() {
+            // given
+            Result<String, Integer> recovering = success("recovered");
+
+            // when
+            Result<Object, Number> recovered = Result.<Object, Number>failure(12).tryRecovering(f -> recovering);
+
+            // then
+            assertThat(recovered).isSameAs(recovering);
+        }
+
         Stream<Arguments> subTypeResults() {
             return ResultTest.subTypeResults();
         }
@@ -1450,6 +1647,583 @@ class ResultTest {
                 }
             }
         }
+
+        @Nested
+        @DisplayName("short-circuiting")
+        class ShortCircuit {
+
+            @Test
+            @DisplayName("traverse should return all successes when no failure")
+            public void traverse_should_return_all_successes_when_no_failure() {
+                // given
+                Stream<Result<String, Integer>> resultStream = Stream.of(success("success 1"), success("success 2"));
+
+                // when
+                Result<List<String>, Integer> traversed = traverse(resultStream);
+
+                // then
+                assertThat(traversed).isEqualTo(success(List.of("success 1", "success 2")));
+            }
+
+            @Test
+            @DisplayName("traverse should return the first failure and stop pulling from the stream")
+            public void traverse_should_return_the_first_failure_and_stop_pulling_from_the_stream() {
+                // given
+                Function<Integer, Result<Integer, String>> parse =
+                        spiedFunction(i -> i == 3 ? failure("failure " + i) : success(i));
+
+                // when
+                Result<List<Integer>, String> traversed = traverse(IntStream.range(0, 10_000).boxed().map(parse));
+
+                // then
+                assertThat(traversed).isEqualTo(failure("failure 3"));
+                verify(parse, times(4)).apply(any());
+            }
+
+            @Test
+            @DisplayName("traverse should return an empty success when stream is empty")
+            public void traverse_should_return_an_empty_success_when_stream_is_empty() {
+                assertThat(traverse(Stream.<Result<String, Integer>>empty())).isEqualTo(success(List.of()));
+            }
+
+            @Test
+            @DisplayName("firstSuccess should return all failures when no success")
+            public void firstSuccess_should_return_all_failures_when_no_success() {
+                // given
+                Stream<Result<String, Integer>> resultStream = Stream.of(failure(1), failure(2));
+
+                // when
+                Result<String, List<Integer>> first = firstSuccess(resultStream);
+
+                // then
+                assertThat(first).isEqualTo(failure(List.of(1, 2)));
+            }
+
+            @Test
+            @DisplayName("firstSuccess should return the first success and stop pulling from the stream")
+            public void firstSuccess_should_return_the_first_success_and_stop_pulling_from_the_stream() {
+                // given
+                Function<Integer, Result<String, Integer>> attempt =
+                        spiedFunction(i -> i == 2 ? success("success " + i) : failure(i));
+
+                // when
+                Result<String, List<Integer>> first = firstSuccess(IntStream.range(0, 10_000).boxed().map(attempt));
+
+                // then
+                assertThat(first).isEqualTo(success("success 2"));
+                verify(attempt, times(3)).apply(any());
+            }
+
+            @Test
+            @DisplayName("short-circuiting reductions should not accept null stream")
+            public void short_circuiting_reductions_should_not_accept_null_stream() {
+                assertThrows(NullPointerException.class, () -> traverse(null));
+                assertThrows(NullPointerException.class, () -> firstSuccess(null));
+            }
+        }
+
+        @Nested
+        @DisplayName("counting")
+        class Counting {
+
+            private Stream<Result<Integer, Integer>> resultStream() {
+                return IntStream.range(0, 1000)
+                        .mapToObj(i -> i % 10 == 0 ? Result.<Integer, Integer>failure(i) : success(i));
+            }
+
+            @Test
+            @DisplayName("countsOnly should count successes and failures of a parallel stream")
+            public void countsOnly_should_count_successes_and_failures_of_a_parallel_stream() {
+                // when
+                ResultCounts counts = resultStream().parallel().collect(countsOnly());
+
+                // then
+                assertThat(counts.successCount()).isEqualTo(900);
+                assertThat(counts.failureCount()).isEqualTo(100);
+                assertThat(counts.count()).isEqualTo(1000);
+                assertThat(counts.successRatio()).isEqualTo(0.9);
+            }
+
+            @Test
+            @DisplayName("successRatioAtLeast should succeed when ratio is reached")
+            public void successRatioAtLeast_should_succeed_when_ratio_is_reached() {
+                // when
+                Result<ResultCounts, ResultCounts> result = resultStream()
+                        .collect(countingCollector(ResultCounts.successIf(successRatioAtLeast(0.9))));
+
+                // then
+                assertThat(result.isSuccess()).isTrue();
+                assertThat(result.successValue().failureCount()).isEqualTo(100);
+            }
+
+            @Test
+            @DisplayName("successRatioAtLeast should fail when ratio is not reached")
+            public void successRatioAtLeast_should_fail_when_ratio_is_not_reached() {
+                // when
+                Result<ResultCounts, ResultCounts> result = resultStream().parallel()
+                        .collect(countingCollector(ResultCounts.successIf(successRatioAtLeast(0.95))));
+
+                // then
+                assertThat(result.isFailure()).isTrue();
+            }
+
+            @Test
+            @DisplayName("atMostFailures should be tested against the failure count")
+            public void atMostFailures_should_be_tested_against_the_failure_count() {
+                assertThat(resultStream().collect(countingCollector(ResultCounts.successIf(atMostFailures(100)))).isSuccess())
+                        .isTrue();
+                assertThat(resultStream().collect(countingCollector(ResultCounts.failureIf(atMostFailures(99)))).isSuccess())
+                        .isTrue();
+            }
+
+            @Test
+            @DisplayName("counting collector should provide a custom reduction strategy with the counts")
+            public void counting_collector_should_provide_a_custom_reduction_strategy_with_the_counts() {
+                // when
+                Result<Long, Long> result = resultStream().parallel()
+                        .collect(countingCollector(c -> c.failureCount() == 0 ?
+                                success(c.successCount()) :
+                                failure(c.failureCount())));
+
+                // then
+                assertThat(result).isEqualTo(failure(100L));
+            }
+
+            @Test
+            @DisplayName("empty stream should have a success ratio of 1")
+            public void empty_stream_should_have_a_success_ratio_of_1() {
+                assertThat(Stream.<Result<String, String>>empty().collect(countsOnly()).successRatio()).isEqualTo(1);
+            }
+
+            @Test
+            @DisplayName("counting predicates should not accept invalid bounds")
+            public void counting_predicates_should_not_accept_invalid_bounds() {
+                assertThrows(IllegalArgumentException.class, () -> successRatioAtLeast(1.1));
+                assertThrows(IllegalArgumentException.class, () -> successRatioAtLeast(Double.NaN));
+                assertThrows(IllegalArgumentException.class, () -> atMostFailures(-1));
+            }
+        }
+
+        @Nested
+        @DisplayName("top failures")
+        class TopFailures {
+
+            /**
+             * -1 fails 2500 times, -2 fails 1250 times, and 1250 other failures are all distinct.
+             */
+            private Stream<Result<Integer, Integer>> resultStream() {
+                return IntStream.range(0, 10_000)
+                        .mapToObj(i -> i % 2 == 0 ? Result.<Integer, Integer>success(i) :
+                                i % 4 == 1 ? failure(-1) :
+                                        i % 8 == 3 ? failure(-2) :
+                                                failure(i));
+            }
+
+            @Test
+            @DisplayName("topFailures should count failures exactly within capacity")
+            public void topFailures_should_count_failures_exactly_within_capacity() {
+                // when
+                FailureSummary<String> summary = Stream.<Result<Integer, String>>of(
+                        failure("a"), success(1), failure("b"), failure("a"), failure("c"), failure("a"), failure("b")
+                ).collect(topFailures(3));
+
+                // then
+                assertThat(summary.failureCount()).isEqualTo(6);
+                assertThat(summary.topFailures()).containsExactly(
+                        new FailureSummary.FailureCount<>("a", 3, 0),
+                        new FailureSummary.FailureCount<>("b", 2, 0),
+                        new FailureSummary.FailureCount<>("c", 1, 0)
+                );
+            }
+
+            @Test
+            @DisplayName("topFailures should find heavy hitters in fixed memory")
+            public void topFailures_should_find_heavy_hitters_in_fixed_memory() {
+                // when
+                FailureSummary<Integer> summary = resultStream().collect(topFailures(10));
+
+                // then
+                assertHeavyHitters(summary);
+            }
+
+            @Test
+            @DisplayName("topFailures should merge summaries of a parallel stream")
+            public void topFailures_should_merge_summaries_of_a_parallel_stream() {
+                // when
+                FailureSummary<Integer> summary = resultStream().parallel().collect(topFailures(10));
+
+                // then
+                assertHeavyHitters(summary);
+            }
+
+            private void assertHeavyHitters(FailureSummary<Integer> summary) {
+                List<FailureSummary.FailureCount<Integer>> top = summary.topFailures(2);
+                assertThat(summary.failureCount()).isEqualTo(5_000);
+                assertThat(summary.topFailures()).hasSize(10);
+                assertThat(top).extracting(FailureSummary.FailureCount::value).containsExactly(-1, -2);
+                assertThat(top.get(0).count()).isGreaterThanOrEqualTo(2_500);
+                assertThat(top.get(0).guaranteedCount()).isBetween(1L, 2_500L);
+                assertThat(top.get(1).count()).isGreaterThanOrEqualTo(1_250);
+                assertThat(top.get(1).guaranteedCount()).isBetween(1L, 1_250L);
+            }
+
+            @Test
+            @DisplayName("topFailures should not accept non positive capacity")
+            public void topFailures_should_not_accept_non_positive_capacity() {
+                assertThrows(IllegalArgumentException.class, () -> topFailures(0));
+                assertThrows(IllegalArgumentException.class, () -> Stream.<Result<String, String>>empty()
+                        .collect(topFailures(1)).topFailures(-1));
+            }
+        }
+
+        @Nested
+        @DisplayName("distinct failures")
+        class DistinctFailuresEstimation {
+
+            /**
+             * 100 000 failures among 20 000 distinct values.
+             */
+            private Stream<Result<Integer, String>> resultStream() {
+                return IntStream.range(0, 200_000)
+                        .mapToObj(i -> i % 2 == 0 ? success(i) : failure("customer " + i / 2 % 20_000));
+            }
+
+            @Test
+            @DisplayName("distinctFailures should be exact for a few failures")
+            public void distinctFailures_should_be_exact_for_a_few_failures() {
+                // when
+                DistinctFailures distinctFailures = Stream.<Result<Integer, String>>of(
+                        failure("a"), success(1), failure("b"), failure("a"), failure("c")
+                ).collect(distinctFailures());
+
+                // then
+                assertThat(distinctFailures.failureCount()).isEqualTo(4);
+                assertThat(distinctFailures.estimate()).isEqualTo(3);
+            }
+
+            @Test
+            @DisplayName("distinctFailures should estimate the number of distinct failures")
+            public void distinctFailures_should_estimate_the_number_of_distinct_failures() {
+                // when
+                DistinctFailures distinctFailures = resultStream().collect(distinctFailures());
+
+                // then
+                assertThat(distinctFailures.failureCount()).isEqualTo(100_000);
+                assertThat(distinctFailures.estimate()).isBetween(19_000L, 21_000L);
+            }
+
+            @Test
+            @DisplayName("distinctFailures should merge estimations of a parallel stream")
+            public void distinctFailures_should_merge_estimations_of_a_parallel_stream() {
+                // when
+                DistinctFailures sequential = resultStream().collect(distinctFailures(14));
+                DistinctFailures parallel = resultStream().parallel().collect(distinctFailures(14));
+
+                // then
+                assertThat(parallel.failureCount()).isEqualTo(100_000);
+                assertThat(parallel.estimate()).isEqualTo(sequential.estimate());
+            }
+
+            @Test
+            @DisplayName("distinctFailures should not accept precision out of bounds")
+            public void distinctFailures_should_not_accept_precision_out_of_bounds() {
+                assertThrows(IllegalArgumentException.class, () -> distinctFailures(3));
+                assertThrows(IllegalArgumentException.class, () -> distinctFailures(17));
+            }
+        }
+
+        @Nested
+        @DisplayName("partitioning")
+        class Partitioning {
+
+            private Stream<Result<Integer, String>> resultStream() {
+                return IntStream.range(0, 1000)
+                        .mapToObj(i -> i % 10 == 0 ? Result.<Integer, String>failure("failure " + i % 20) : success(i));
+            }
+
+            @Test
+            @DisplayName("partitioning should stream successes and failures into their downstream collectors")
+            public void partitioning_should_stream_successes_and_failures_into_their_downstream_collectors() {
+                // when
+                Map<String, Object> summary = resultStream().parallel().collect(partitioning(
+                        Collectors.summingInt(i -> i),
+                        Collectors.groupingBy(f -> f, Collectors.counting()),
+                        (sum, failures) -> Map.of("sum", sum, "failures", failures)
+                ));
+
+                // then
+                assertThat(summary).isEqualTo(Map.of(
+                        "sum", 450_000,
+                        "failures", Map.of("failure 0", 50L, "failure 10", 50L)
+                ));
+            }
+
+            @Test
+            @DisplayName("partitioning should return the failure downstream result when any failure")
+            public void partitioning_should_return_the_failure_downstream_result_when_any_failure() {
+                // when
+                Result<Long, Set<String>> result = resultStream()
+                        .collect(partitioning(Collectors.counting(), Collectors.toSet()));
+
+                // then
+                assertThat(result).isEqualTo(failure(Set.of("failure 0", "failure 10")));
+            }
+
+            @Test
+            @DisplayName("partitioning should return the success downstream result when no failure")
+            public void partitioning_should_return_the_success_downstream_result_when_no_failure() {
+                // when
+                Result<Long, Set<String>> result = resultStream()
+                        .filter(Result::isSuccess)
+                        .parallel()
+                        .collect(partitioning(Collectors.counting(), Collectors.toSet()));
+
+                // then
+                assertThat(result).isEqualTo(success(900L));
+            }
+
+            @Test
+            @DisplayName("partitioning should not accept null parameters")
+            public void partitioning_should_not_accept_null_parameters() {
+                assertThrows(NullPointerException.class, () -> partitioning(null, Collectors.toList()));
+                assertThrows(NullPointerException.class, () -> partitioning(Collectors.toList(), null));
+                assertThrows(NullPointerException.class, () -> partitioning(Collectors.toList(), Collectors.toList(), null));
+            }
+        }
+
+        @Nested
+        @DisplayName("results views")
+        class Views {
+
+            private final Stream<Result<String, Integer>> resultStream = Stream.of(
+                    success("success 1"),
+                    failure(1),
+                    success("success 2")
+            );
+
+            @Test
+            @DisplayName("successes and failures should be unmodifiable views")
+            public void successes_and_failures_should_be_unmodifiable_views() {
+                // when
+                Results<String, Integer> results = resultStream.collect(collector(r -> success(r))).successValue();
+
+                // then
+                assertThat(results.successes()).containsExactly("success 1", "success 2");
+                assertThat(results.failures()).containsExactly(1);
+                assertThrows(UnsupportedOperationException.class, () -> results.successes().add("success 3"));
+                assertThrows(UnsupportedOperationException.class, () -> results.failures().clear());
+            }
+
+            @Test
+            @DisplayName("counts should be the number of successes and failures")
+            public void counts_should_be_the_number_of_successes_and_failures() {
+                // when
+                Results<String, Integer> results = resultStream.collect(collector(r -> success(r))).successValue();
+
+                // then
+                assertThat(results.successCount()).isEqualTo(2);
+                assertThat(results.failureCount()).isEqualTo(1);
+            }
+
+            @Test
+            @DisplayName("successIf should provide an unmodifiable collection")
+            public void successIf_should_provide_an_unmodifiable_collection() {
+                // when
+                Collection<String> successes = resultStream.collect(collector(Results.successIf(anySuccess()))).successValue();
+
+                // then
+                assertThat(successes).containsExactly("success 1", "success 2");
+                assertThrows(UnsupportedOperationException.class, () -> successes.add("success 3"));
+            }
+        }
+
+        @Nested
+        @DisplayName("bounded failure retention")
+        class BoundedFailures {
+
+            private Stream<Result<Integer, Integer>> resultStream() {
+                return IntStream.range(0, 1_000)
+                        .mapToObj(i -> i % 2 == 0 ? Result.<Integer, Integer>failure(i) : success(i));
+            }
+
+            @Test
+            @DisplayName("retainingFirstFailures should only retain the first failures")
+            public void retainingFirstFailures_should_only_retain_the_first_failures() {
+                // when
+                Results<Integer, Integer> results = resultStream()
+                        .collect(collector(Results.<Integer, Integer>retainingFirstFailures(3), r -> success(r)))
+                        .successValue();
+
+                // then
+                assertThat(results.failures()).containsExactly(0, 2, 4);
+                assertThat(results.failureCount()).isEqualTo(500);
+                assertThat(results.successCount()).isEqualTo(500);
+            }
+
+            @Test
+            @DisplayName("retainingFirstFailures should retain the first failures in parallel")
+            public void retainingFirstFailures_should_retain_the_first_failures_in_parallel() {
+                // when
+                Results<Integer, Integer> results = resultStream().parallel()
+                        .collect(collector(Results.<Integer, Integer>retainingFirstFailures(3), r -> success(r)))
+                        .successValue();
+
+                // then
+                assertThat(results.failures()).containsExactly(0, 2, 4);
+                assertThat(results.failureCount()).isEqualTo(500);
+            }
+
+            @Test
+            @DisplayName("addAll should leave bounded results empty")
+            public void addAll_should_leave_bounded_results_empty() {
+                for (Supplier<Results<Integer, Integer>> supplier : List.of(
+                        Results.<Integer, Integer>retainingFirstFailures(3),
+                        Results.<Integer, Integer>retainingSampledFailures(3))) {
+                    // given
+                    Results<Integer, Integer> empty = supplier.get();
+                    Results<Integer, Integer> left = supplier.get();
+                    Results<Integer, Integer> right = supplier.get();
+                    right.add(failure(1));
+                    right.add(success(2));
+
+                    // when
+                    empty.addAll(right);
+                    left.add(failure(3));
+                    left.addAll(empty);
+
+                    // then
+                    assertThat(left.failures()).containsExactlyInAnyOrder(3, 1);
+                    assertThat(left.failureCount()).isEqualTo(2);
+                    assertThat(empty.failures()).isEmpty();
+                    assertThat(empty.failureCount()).isZero();
+                    assertThat(right.failures()).isEmpty();
+                    assertThat(right.failureCount()).isZero();
+                }
+            }
+
+            @Test
+            @DisplayName("retainingSampledFailures should retain a sample of the failures")
+            public void retainingSampledFailures_should_retain_a_sample_of_the_failures() {
+                // when
+                Results<Integer, Integer> results = resultStream().parallel()
+                        .collect(collector(Results.<Integer, Integer>retainingSampledFailures(10), r -> success(r)))
+                        .successValue();
+
+                // then
+                assertThat(results.failures())
+                        .hasSize(10)
+                        .doesNotHaveDuplicates()
+                        .allMatch(failure -> failure % 2 == 0 && failure < 1_000);
+                assertThat(results.failureCount()).isEqualTo(500);
+            }
+
+            @Test
+            @DisplayName("retainingSampledFailures should retain every failure under the limit")
+            public void retainingSampledFailures_should_retain_every_failure_under_the_limit() {
+                // when
+                Results<Integer, Integer> results = resultStream().limit(10)
+                        .collect(concurrentCollector(Results.<Integer, Integer>retainingSampledFailures(10), r -> success(r)))
+                        .successValue();
+
+                // then
+                assertThat(results.failures()).containsExactlyInAnyOrder(0, 2, 4, 6, 8);
+                assertThat(results.failureCount()).isEqualTo(5);
+            }
+
+            @Test
+            @DisplayName("reduction strategies should rely on the exact failure count")
+            public void reduction_strategies_should_rely_on_the_exact_failure_count() {
+                // when
+                Result<Collection<Integer>, Collection<Integer>> result = resultStream()
+                        .collect(collector(Results.<Integer, Integer>retainingFirstFailures(0), Results.successIf(noFailure())));
+
+                // then
+                assertThat(result.isFailure()).isTrue();
+                assertThat(result.failureValue()).isEmpty();
+            }
+
+            @Test
+            @DisplayName("retaining factories should not accept negative limits")
+            public void retaining_factories_should_not_accept_negative_limits() {
+                assertThrows(IllegalArgumentException.class, () -> Results.retainingFirstFailures(-1));
+                assertThrows(IllegalArgumentException.class, () -> Results.retainingSampledFailures(-1));
+            }
+        }
+
+        @Nested
+        @DisplayName("unordered and concurrent")
+        class Unordered {
+
+            private Stream<Result<Integer, Integer>> resultStream() {
+                return IntStream.range(0, 10_000)
+                        .mapToObj(i -> i % 3 == 0 ? Result.<Integer, Integer>failure(i) : success(i));
+            }
+
+            private Set<Integer> expected(boolean successes) {
+                return IntStream.range(0, 10_000)
+                        .filter(i -> (i % 3 != 0) == successes)
+                        .boxed()
+                        .collect(Collectors.toSet());
+            }
+
+            @Test
+            @DisplayName("unordered collector should collect every result of a parallel stream")
+            public void unordered_collector_should_collect_every_result_of_a_parallel_stream() {
+                // when
+                Result<Collection<Integer>, Collection<Integer>> results = resultStream().parallel()
+                        .collect(unorderedCollector(failureIf(anyFailure())));
+
+                // then
+                assertThat(results.failureValue()).hasSize(3334).containsExactlyInAnyOrderElementsOf(expected(false));
+            }
+
+            @Test
+            @DisplayName("concurrent collector should collect every result of a parallel stream")
+            public void concurrent_collector_should_collect_every_result_of_a_parallel_stream() {
+                // when
+                Result<Collection<Integer>, Collection<Integer>> results = resultStream().parallel()
+                        .collect(concurrentCollector(Results.successIf(anySuccess())));
+
+                // then
+                assertThat(results.successValue()).hasSize(6666).containsExactlyInAnyOrderElementsOf(expected(true));
+            }
+
+            @Test
+            @DisplayName("concurrent collector should provide successes and failures to the reduction strategy")
+            public void concurrent_collector_should_provide_successes_and_failures_to_the_reduction_strategy() {
+                // when
+                Result<Integer, Integer> counts = resultStream().parallel()
+                        .collect(concurrentCollector(r -> r.failures().isEmpty() ?
+                                success(r.successes().size()) :
+                                failure(r.failures().size())));
+
+                // then
+                assertThat(counts).isEqualTo(failure(3334));
+            }
+
+            @Test
+            @DisplayName("concurrent collector should collect a sequential stream")
+            public void concurrent_collector_should_collect_a_sequential_stream() {
+                // when
+                Result<Collection<Integer>, Collection<Integer>> results = resultStream()
+                        .collect(concurrentCollector(failureIf(anyFailure())));
+
+                // then
+                assertThat(results.failureValue()).containsExactlyInAnyOrderElementsOf(expected(false));
+            }
+
+            @Test
+            @DisplayName("concurrent collector should collect an empty stream")
+            public void concurrent_collector_should_collect_an_empty_stream() {
+                // when
+                Result<Collection<String>, Collection<Integer>> results = Stream.<Result<String, Integer>>empty()
+                        .parallel()
+                        .collect(concurrentCollector(Results.successIf(noFailure())));
+
+                // then
+                assertThat(results).isEqualTo(success(List.of()));
+            }
+        }
     }
 
     private VerificationMode once() {
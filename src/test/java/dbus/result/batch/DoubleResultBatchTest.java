@@ -0,0 +1,130 @@
+package dbus.result.batch;
+
+import dbus.result.Result;
+import dbus.result.primitive.DoubleResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DoubleResultBatchTest {
+
+    private final List<DoubleResult<String>> results = List.of(
+            DoubleResult.success(1.0),
+            DoubleResult.failure("a"),
+            DoubleResult.success(2.0),
+            DoubleResult.failure("b"),
+            DoubleResult.success(3.0)
+    );
+
+    private final DoubleResultBatch<String> batch = DoubleResultBatch.of(results);
+
+    /**
+     * 200 results spread over several mask words, multiples of 5 being failures.
+     */
+    private final DoubleResultBatch<String> large = DoubleResultBatch.of(IntStream.range(0, 200)
+            .mapToObj(i -> i % 5 == 0 ? DoubleResult.<String>failure("f" + i) : DoubleResult.<String>success(i))
+            .toList());
+
+    @Nested
+    @DisplayName("conversion")
+    class Conversion {
+
+        @Test
+        @DisplayName("batch should keep results order")
+        public void batch_should_keep_results_order() {
+            assertThat(batch.size()).isEqualTo(5);
+            assertThat(batch.successCount()).isEqualTo(3);
+            assertThat(batch.failureCount()).isEqualTo(2);
+            assertThat(batch.isSuccess(2)).isTrue();
+            assertThat(batch.isSuccess(3)).isFalse();
+            assertThat(batch.toList()).isEqualTo(results);
+            assertThat(batch.successValues()).containsExactly(1.0, 2.0, 3.0);
+        }
+
+        @Test
+        @DisplayName("successes should only contain successes")
+        public void successes_should_only_contain_successes() {
+            // when
+            DoubleResultBatch<String> successes = DoubleResultBatch.successes(IntStream.range(0, 100).asDoubleStream().toArray());
+
+            // then
+            assertThat(successes.successCount()).isEqualTo(100);
+            assertThat(successes.get(99)).isEqualTo(DoubleResult.success(99.0));
+            assertThrows(IndexOutOfBoundsException.class, () -> successes.get(100));
+        }
+
+        @Test
+        @DisplayName("boxed should convert to a result batch")
+        public void boxed_should_convert_to_a_result_batch() {
+            assertThat(batch.boxed().toList()).containsExactly(
+                    Result.success(1.0), Result.failure("a"), Result.success(2.0), Result.failure("b"), Result.success(3.0)
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("bulk operations")
+    class Bulk {
+
+        @Test
+        @DisplayName("map should only map successes")
+        public void map_should_only_map_successes() {
+            assertThat(batch.map(d -> 10 / d).toList()).containsExactly(
+                    DoubleResult.success(10.0), DoubleResult.failure("a"), DoubleResult.success(5.0), DoubleResult.failure("b"), DoubleResult.success(10.0 / 3)
+            );
+        }
+
+        @Test
+        @DisplayName("mapFailure should only map failures")
+        public void mapFailure_should_only_map_failures() {
+            assertThat(batch.mapFailure(String::length).toList()).containsExactly(
+                    DoubleResult.success(1.0), DoubleResult.failure(1), DoubleResult.success(2.0), DoubleResult.failure(1), DoubleResult.success(3.0)
+            );
+        }
+
+        @Test
+        @DisplayName("successIf should turn invalid successes into failures")
+        public void successIf_should_turn_invalid_successes_into_failures() {
+            // when
+            DoubleResultBatch<String> validated = large.successIf(d -> d % 3 != 0, d -> "invalid " + (int) d);
+
+            // then
+            assertThat(validated.toList()).isEqualTo(IntStream.range(0, 200)
+                    .mapToObj(i -> i % 5 == 0 ? DoubleResult.<String>failure("f" + i) :
+                            i % 3 == 0 ? DoubleResult.<String>failure("invalid " + i) :
+                                    DoubleResult.<String>success(i))
+                    .toList());
+            assertThat(validated.sum()).isEqualTo(IntStream.range(0, 200).filter(i -> i % 5 != 0 && i % 3 != 0).asDoubleStream().sum());
+        }
+
+        @Test
+        @DisplayName("successIf should return same batch when every success is valid")
+        public void successIf_should_return_same_batch_when_every_success_is_valid() {
+            assertThat(batch.successIf(d -> d > 0, "negative")).isSameAs(batch);
+        }
+
+        @Test
+        @DisplayName("reductions should only consider successes")
+        public void reductions_should_only_consider_successes() {
+            DoubleResultBatch<String> negative = large.map(d -> -d);
+            assertThat(negative.sum()).isEqualTo(-IntStream.range(0, 200).filter(i -> i % 5 != 0).asDoubleStream().sum());
+            assertThat(negative.max()).isEqualTo(OptionalDouble.of(-1.0));
+            assertThat(negative.min()).isEqualTo(OptionalDouble.of(-199.0));
+            assertThat(negative.reduce((a, b) -> b)).isEqualTo(OptionalDouble.of(-199.0));
+            assertThat(DoubleResultBatch.of(List.of(DoubleResult.failure("a"))).max()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("recover should turn every failure into a success value")
+        public void recover_should_turn_every_failure_into_a_success_value() {
+            assertThat(batch.recover(s -> -1)).containsExactly(1.0, -1.0, 2.0, -1.0, 3.0);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package dbus.result.batch;
+
+import dbus.result.Result;
+import dbus.result.primitive.IntResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class IntResultBatchTest {
+
+    private final List<IntResult<String>> results = List.of(
+            IntResult.success(1),
+            IntResult.failure("a"),
+            IntResult.success(2),
+            IntResult.failure("b"),
+            IntResult.success(3)
+    );
+
+    private final IntResultBatch<String> batch = IntResultBatch.of(results);
+
+    /**
+     * 200 results spread over several mask words, multiples of 5 being failures.
+     */
+    private final IntResultBatch<String> large = IntResultBatch.of(IntStream.range(0, 200)
+            .mapToObj(i -> i % 5 == 0 ? IntResult.<String>failure("f" + i) : IntResult.<String>success(i))
+            .toList());
+
+    @Nested
+    @DisplayName("conversion")
+    class Conversion {
+
+        @Test
+        @DisplayName("batch should keep results order")
+        public void batch_should_keep_results_order() {
+            assertThat(batch.size()).isEqualTo(5);
+            assertThat(batch.successCount()).isEqualTo(3);
+            assertThat(batch.failureCount()).isEqualTo(2);
+            assertThat(batch.isSuccess(2)).isTrue();
+            assertThat(batch.isSuccess(3)).isFalse();
+            assertThat(batch.toList()).isEqualTo(results);
+            assertThat(batch.successValues()).containsExactly(1, 2, 3);
+        }
+
+        @Test
+        @DisplayName("successes should only contain successes")
+        public void successes_should_only_contain_successes() {
+            // when
+            IntResultBatch<String> successes = IntResultBatch.successes(IntStream.range(0, 100).toArray());
+
+            // then
+            assertThat(successes.successCount()).isEqualTo(100);
+            assertThat(successes.get(99)).isEqualTo(IntResult.success(99));
+            assertThrows(IndexOutOfBoundsException.class, () -> successes.get(100));
+        }
+
+        @Test
+        @DisplayName("boxed should convert to a result batch")
+        public void boxed_should_convert_to_a_result_batch() {
+            assertThat(batch.boxed().toList()).containsExactly(
+                    Result.success(1), Result.failure("a"), Result.success(2), Result.failure("b"), Result.success(3)
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("bulk operations")
+    class Bulk {
+
+        @Test
+        @DisplayName("map should only map successes")
+        public void map_should_only_map_successes() {
+            assertThat(batch.map(i -> 10 / i).toList()).containsExactly(
+                    IntResult.success(10), IntResult.failure("a"), IntResult.success(5), IntResult.failure("b"), IntResult.success(3)
+            );
+        }
+
+        @Test
+        @DisplayName("mapFailure should only map failures")
+        public void mapFailure_should_only_map_failures() {
+            assertThat(batch.mapFailure(String::length).toList()).containsExactly(
+                    IntResult.success(1), IntResult.failure(1), IntResult.success(2), IntResult.failure(1), IntResult.success(3)
+            );
+        }
+
+        @Test
+        @DisplayName("successIf should turn invalid successes into failures")
+        public void successIf_should_turn_invalid_successes_into_failures() {
+            // when
+            IntResultBatch<String> validated = large.successIf(i -> i % 3 != 0, i -> "invalid " + i);
+
+            // then
+            assertThat(validated.toList()).isEqualTo(IntStream.range(0, 200)
+                    .mapToObj(i -> i % 5 == 0 ? IntResult.<String>failure("f" + i) :
+                            i % 3 == 0 ? IntResult.<String>failure("invalid " + i) :
+                                    IntResult.<String>success(i))
+                    .toList());
+            assertThat(validated.sum()).isEqualTo(IntStream.range(0, 200).filter(i -> i % 5 != 0 && i % 3 != 0).sum());
+        }
+
+        @Test
+        @DisplayName("successIf should return same batch when every success is valid")
+        public void successIf_should_return_same_batch_when_every_success_is_valid() {
+            assertThat(batch.successIf(i -> i > 0, "negative")).isSameAs(batch);
+        }
+
+        @Test
+        @DisplayName("reductions should only consider successes")
+        public void reductions_should_only_consider_successes() {
+            IntResultBatch<String> negative = large.map(i -> -i);
+            assertThat(negative.sum()).isEqualTo(-IntStream.range(0, 200).filter(i -> i % 5 != 0).sum());
+            assertThat(negative.max()).isEqualTo(OptionalInt.of(-1));
+            assertThat(negative.min()).isEqualTo(OptionalInt.of(-199));
+            assertThat(negative.reduce((a, b) -> b)).isEqualTo(OptionalInt.of(-199));
+            assertThat(IntResultBatch.of(List.of(IntResult.failure("a"))).max()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("recover should turn every failure into a success value")
+        public void recover_should_turn_every_failure_into_a_success_value() {
+            assertThat(batch.recover(s -> -1)).containsExactly(1, -1, 2, -1, 3);
+        }
+    }
+}
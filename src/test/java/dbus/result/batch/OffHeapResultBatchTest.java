@@ -0,0 +1,189 @@
+package dbus.result.batch;
+
+import dbus.result.Result;
+import dbus.result.primitive.LongResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OffHeapResultBatchTest {
+
+    enum Error {NOT_FOUND, INVALID}
+
+    private final FailureCodes<Error> codes = FailureCodes.ofEnum(Error.class);
+
+    /**
+     * 150 results spread over several mask words, multiples of 4 being failures.
+     */
+    private final List<LongResult<Error>> results = IntStream.range(0, 150)
+            .mapToObj(i -> i % 4 == 0 ?
+                    LongResult.<Error>failure(i % 8 == 0 ? Error.NOT_FOUND : Error.INVALID) :
+                    LongResult.<Error>success(i * 1_000_000_000L))
+            .toList();
+
+    private final OffHeapResultBatch<Error> batch = OffHeapResultBatch.of(results, codes);
+
+    @Nested
+    @DisplayName("conversion")
+    class Conversion {
+
+        @Test
+        @DisplayName("batch should keep results order")
+        public void batch_should_keep_results_order() {
+            assertThat(batch.size()).isEqualTo(150);
+            assertThat(batch.failureCount()).isEqualTo(38);
+            assertThat(batch.successCount()).isEqualTo(112);
+            assertThat(batch.isSuccess(1)).isTrue();
+            assertThat(batch.get(8)).isEqualTo(LongResult.failure(Error.NOT_FOUND));
+            assertThat(batch.toList()).isEqualTo(results);
+            assertThat(batch.byteSize()).isEqualTo(3 * 8 + 150 * 8);
+        }
+
+        @Test
+        @DisplayName("toResultBatch should copy results on heap")
+        public void toResultBatch_should_copy_results_on_heap() {
+            assertThat(batch.toResultBatch().toList())
+                    .isEqualTo(results.stream().map(LongResult::boxed).toList());
+        }
+
+        @Test
+        @DisplayName("failures should be stored as codes")
+        public void failures_should_be_stored_as_codes() {
+            // when
+            try (OffHeapResultBatch<Result<?, ?>> failures = OffHeapResultBatch.of(
+                    List.of(LongResult.failure(Result.failure("a"))),
+                    new FailureCodes<>() {
+                        @Override
+                        public int encode(Result<?, ?> failure) {
+                            return 7;
+                        }
+
+                        @Override
+                        public Result<?, ?> decode(int code) {
+                            return Result.failure("decoded " + code);
+                        }
+                    })) {
+
+                // then
+                assertThat(failures.get(0)).isEqualTo(LongResult.failure(Result.failure("decoded 7")));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("bulk operations")
+    class Bulk {
+
+        @Test
+        @DisplayName("forEach should iterate over results in order")
+        public void forEach_should_iterate_over_results_in_order() {
+            // given
+            List<Object> values = new ArrayList<>();
+
+            // when
+            batch.forEach(values::add, values::add);
+
+            // then
+            assertThat(values).isEqualTo(results.stream()
+                    .map(result -> result.match(value -> (Object) value, error -> error))
+                    .toList());
+        }
+
+        @Test
+        @DisplayName("map should only map successes")
+        public void map_should_only_map_successes() {
+            // when
+            try (OffHeapResultBatch<Error> mapped = batch.map(value -> -value)) {
+
+                // then
+                assertThat(mapped.toList()).isEqualTo(results.stream().map(result -> result.map(value -> -value)).toList());
+                assertThat(mapped.sum()).isEqualTo(-batch.sum());
+            }
+        }
+
+        @Test
+        @DisplayName("sum should only add successes")
+        public void sum_should_only_add_successes() {
+            assertThat(batch.sum()).isEqualTo(IntStream.range(0, 150)
+                    .filter(i -> i % 4 != 0)
+                    .mapToLong(i -> i * 1_000_000_000L)
+                    .sum());
+        }
+    }
+
+    @Nested
+    @DisplayName("lifetime")
+    class Lifetime {
+
+        @Test
+        @DisplayName("closed batch should not be accessed")
+        public void closed_batch_should_not_be_accessed() {
+            // when
+            batch.close();
+            batch.close();
+
+            // then
+            assertThat(batch.isClosed()).isTrue();
+            assertThat(batch.size()).isEqualTo(150);
+            assertThrows(IllegalStateException.class, () -> batch.get(0));
+            assertThrows(IllegalStateException.class, batch::sum);
+            assertThrows(IllegalStateException.class, batch::stream);
+            assertThrows(IllegalStateException.class, () -> batch.map(value -> value));
+        }
+
+        @Test
+        @DisplayName("close should free the off-heap memory")
+        public void close_should_free_the_off_heap_memory() {
+            // given
+            long used = directMemoryUsed();
+
+            // when
+            batch.close();
+
+            // then
+            assertThat(DirectMemory.isExplicit()).isTrue();
+            assertThat(directMemoryUsed()).isLessThanOrEqualTo(used - batch.byteSize());
+        }
+
+        private long directMemoryUsed() {
+            return ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class).stream()
+                    .filter(pool -> pool.getName().equals("direct"))
+                    .mapToLong(BufferPoolMXBean::getMemoryUsed)
+                    .sum();
+        }
+    }
+
+    @Nested
+    @DisplayName("capacity")
+    class Capacity {
+
+        @Test
+        @DisplayName("max size should be the largest size fitting in 2 GB")
+        public void max_size_should_be_the_largest_size_fitting_in_2_GB() {
+            assertThat(OffHeapResultBatch.byteSize(OffHeapResultBatch.MAX_SIZE)).isLessThanOrEqualTo(Integer.MAX_VALUE);
+            assertThat(OffHeapResultBatch.byteSize(OffHeapResultBatch.MAX_SIZE + 1)).isGreaterThan(Integer.MAX_VALUE);
+            assertThat(OffHeapResultBatch.byteSize(Integer.MAX_VALUE)).isPositive();
+        }
+
+        @Test
+        @DisplayName("batch should not hold more than max size results")
+        public void batch_should_not_hold_more_than_max_size_results() {
+            // given
+            List<LongResult<Error>> tooMany =
+                    Collections.nCopies(OffHeapResultBatch.MAX_SIZE + 1, LongResult.success(1L));
+
+            // when // then
+            assertThrows(IllegalArgumentException.class, () -> OffHeapResultBatch.of(tooMany, codes));
+        }
+    }
+}
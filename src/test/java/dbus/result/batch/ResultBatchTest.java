@@ -0,0 +1,138 @@
+package dbus.result.batch;
+
+import dbus.result.Result;
+import dbus.result.Results;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static dbus.result.Result.failure;
+import static dbus.result.Result.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ResultBatchTest {
+
+    private final List<Result<String, Integer>> results = List.of(
+            success("a"),
+            failure(1),
+            success("b"),
+            failure(2),
+            success("c")
+    );
+
+    private final ResultBatch<String, Integer> batch = ResultBatch.of(results);
+
+    @Nested
+    @DisplayName("conversion")
+    class Conversion {
+
+        @Test
+        @DisplayName("batch should keep results order")
+        public void batch_should_keep_results_order() {
+            assertThat(batch.size()).isEqualTo(5);
+            assertThat(batch.successCount()).isEqualTo(3);
+            assertThat(batch.failureCount()).isEqualTo(2);
+            assertThat(batch.isSuccess(0)).isTrue();
+            assertThat(batch.isSuccess(1)).isFalse();
+            assertThat(batch.get(3)).isEqualTo(failure(2));
+            assertThat(batch.toList()).isEqualTo(results);
+        }
+
+        @Test
+        @DisplayName("collector should keep encounter order of a parallel stream")
+        public void collector_should_keep_encounter_order_of_a_parallel_stream() {
+            // given
+            List<Result<Integer, Integer>> many = IntStream.range(0, 10_000)
+                    .mapToObj(i -> i % 7 == 0 ? Result.<Integer, Integer>failure(i) : Result.<Integer, Integer>success(i))
+                    .toList();
+
+            // when
+            ResultBatch<Integer, Integer> collected = many.parallelStream().collect(ResultBatch.collector());
+
+            // then
+            assertThat(collected.toList()).isEqualTo(many);
+            assertThat(collected).isEqualTo(ResultBatch.of(many));
+        }
+
+        @Test
+        @DisplayName("batch should convert to and from results")
+        public void batch_should_convert_to_and_from_results() {
+            // when
+            Results<String, Integer> collected = batch.toResults();
+
+            // then
+            assertThat(collected.successes()).containsExactly("a", "b", "c");
+            assertThat(collected.failures()).containsExactly(1, 2);
+            assertThat(ResultBatch.of(collected).toList())
+                    .containsExactly(success("a"), success("b"), success("c"), failure(1), failure(2));
+        }
+
+        @Test
+        @DisplayName("empty batch should contain no result")
+        public void empty_batch_should_contain_no_result() {
+            assertThat(ResultBatch.empty().size()).isZero();
+            assertThat(Stream.<Result<String, Integer>>empty().collect(ResultBatch.collector()))
+                    .isEqualTo(ResultBatch.empty());
+        }
+
+        @Test
+        @DisplayName("get should check index")
+        public void get_should_check_index() {
+            assertThrows(IndexOutOfBoundsException.class, () -> batch.get(5));
+            assertThrows(IndexOutOfBoundsException.class, () -> batch.isSuccess(-1));
+        }
+    }
+
+    @Nested
+    @DisplayName("bulk operations")
+    class Bulk {
+
+        @Test
+        @DisplayName("map should only map successes")
+        public void map_should_only_map_successes() {
+            assertThat(batch.map(String::toUpperCase).toList())
+                    .containsExactly(success("A"), failure(1), success("B"), failure(2), success("C"));
+        }
+
+        @Test
+        @DisplayName("mapFailure should only map failures")
+        public void mapFailure_should_only_map_failures() {
+            assertThat(batch.mapFailure(i -> i * 10).toList())
+                    .containsExactly(success("a"), failure(10), success("b"), failure(20), success("c"));
+        }
+
+        @Test
+        @DisplayName("flatMap should bind successes")
+        public void flatMap_should_bind_successes() {
+            // when
+            ResultBatch<String, Integer> bound = batch.flatMap(s -> s.equals("b") ? failure(3) : success(s + s));
+
+            // then
+            assertThat(bound.toList())
+                    .containsExactly(success("aa"), failure(1), failure(3), failure(2), success("cc"));
+            assertThat(bound.get(2)).isEqualTo(failure(3));
+            assertThat(bound.failureCount()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("recover should turn every failure into a success value")
+        public void recover_should_turn_every_failure_into_a_success_value() {
+            assertThat(batch.recover(String::valueOf)).containsExactly("a", "1", "b", "2", "c");
+        }
+
+        @Test
+        @DisplayName("bulk operations should not accept null functions")
+        public void bulk_operations_should_not_accept_null_functions() {
+            assertThrows(NullPointerException.class, () -> batch.map(null));
+            assertThrows(NullPointerException.class, () -> batch.mapFailure(null));
+            assertThrows(NullPointerException.class, () -> batch.flatMap(null));
+            assertThrows(NullPointerException.class, () -> batch.recover(null));
+            assertThrows(NullPointerException.class, () -> batch.map(s -> null));
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package dbus.result.io;
+
+import dbus.result.Result;
+import dbus.result.Results;
+import dbus.result.batch.ResultBatch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static dbus.result.Result.failure;
+import static dbus.result.Result.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ResultCheckpointTest {
+
+    @TempDir
+    Path directory;
+
+    private ResultCheckpoint<String, Integer> open() throws IOException {
+        return ResultCheckpoint.open(directory.resolve("job.checkpoint"), PayloadCodec.utf8(), PayloadCodec.ints());
+    }
+
+    @Nested
+    @DisplayName("recovery")
+    class Recovery {
+
+        @Test
+        @DisplayName("new checkpoint should not recover any result")
+        public void new_checkpoint_should_not_recover_any_result() throws IOException {
+            try (ResultCheckpoint<String, Integer> checkpoint = open()) {
+                assertThat(checkpoint.recovered()).isEmpty();
+                assertThat(checkpoint.count()).isZero();
+            }
+        }
+
+        @Test
+        @DisplayName("reopened checkpoint should recover appended results")
+        public void reopened_checkpoint_should_recover_appended_results() throws IOException {
+            // given
+            try (ResultCheckpoint<String, Integer> checkpoint = open()) {
+                checkpoint.append(success("a")).append(failure(1)).append(success("é"));
+            }
+
+            // when
+            try (ResultCheckpoint<String, Integer> checkpoint = open()) {
+                checkpoint.append(failure(2));
+
+                // then
+                assertThat(checkpoint.recovered()).containsExactly(success("a"), failure(1), success("é"));
+                assertThat(checkpoint.count()).isEqualTo(4);
+            }
+            try (ResultCheckpoint<String, Integer> checkpoint = open()) {
+                assertThat(checkpoint.recovered()).containsExactly(success("a"), failure(1), success("é"), failure(2));
+            }
+        }
+
+        @Test
+        @DisplayName("interrupted record should be ignored")
+        public void interrupted_record_should_be_ignored() throws IOException {
+            // given
+            try (ResultCheckpoint<String, Integer> checkpoint = open()) {
+                checkpoint.append(success("a")).append(success("a long success value"));
+            }
+            try (RandomAccessFile file = new RandomAccessFile(directory.resolve("job.checkpoint").toFile(), "rw")) {
+                // clears the tag of the second record, as if the process crashed while writing it
+                file.seek(4 + 5 + 4 + 1);
+                file.write(0);
+            }
+
+            // when
+            try (ResultCheckpoint<String, Integer> checkpoint = open()) {
+                checkpoint.append(failure(1)).append(failure(2));
+            }
+
+            // then
+            try (ResultCheckpoint<String, Integer> checkpoint = open()) {
+                assertThat(checkpoint.recovered()).containsExactly(success("a"), failure(1), failure(2));
+            }
+        }
+
+        @Test
+        @DisplayName("checkpoint should grow beyond its mapped size")
+        public void checkpoint_should_grow_beyond_its_mapped_size() throws IOException {
+            // given
+            List<Result<String, Integer>> results = IntStream.range(0, 20_000)
+                    .mapToObj(i -> i % 3 == 0 ? Result.<String, Integer>failure(i) : Result.<String, Integer>success("success " + i))
+                    .toList();
+
+            // when
+            try (ResultCheckpoint<String, Integer> checkpoint = open()) {
+                results.forEach(checkpoint::append);
+                checkpoint.force();
+            }
+
+            // then
+            try (ResultCheckpoint<String, Integer> checkpoint = open()) {
+                assertThat(checkpoint.recovered()).isEqualTo(results);
+            }
+        }
+
+        @Test
+        @DisplayName("open should reject files that are not checkpoints")
+        public void open_should_reject_files_that_are_not_checkpoints() throws IOException {
+            // given
+            Files.writeString(directory.resolve("job.checkpoint"), "not a checkpoint");
+
+            // then
+            assertThrows(IOException.class, ResultCheckpointTest.this::open);
+        }
+    }
+
+    @Nested
+    @DisplayName("append")
+    class Append {
+
+        @Test
+        @DisplayName("appendAll should append results and batches")
+        public void appendAll_should_append_results_and_batches() throws IOException {
+            // given
+            Results<String, Integer> results = ResultBatch.<String, Integer>of(List.of(success("a"), failure(1), success("b")))
+                    .toResults();
+            ResultBatch<String, Integer> batch = ResultBatch.of(List.of(failure(2), success("c")));
+
+            // when
+            try (ResultCheckpoint<String, Integer> checkpoint = open()) {
+                checkpoint.appendAll(results).appendAll(batch);
+            }
+
+            // then
+            try (ResultCheckpoint<String, Integer> checkpoint = open()) {
+                assertThat(checkpoint.recovered())
+                        .containsExactly(success("a"), success("b"), failure(1), failure(2), success("c"));
+            }
+        }
+
+        @Test
+        @DisplayName("append should not grow the file beyond 2 GB")
+        public void append_should_not_grow_the_file_beyond_2_GB() throws IOException {
+            // given
+            PayloadCodec<String> oversized = new PayloadCodec<>() {
+                @Override
+                public int encodedSize(String value) {
+                    return Integer.MAX_VALUE;
+                }
+
+                @Override
+                public void encode(String value, ByteBuffer target) {
+                }
+
+                @Override
+                public String decode(ByteBuffer source) {
+                    return "";
+                }
+            };
+
+            // when
+            try (ResultCheckpoint<String, Integer> checkpoint =
+                         ResultCheckpoint.open(directory.resolve("job.checkpoint"), oversized, PayloadCodec.ints())) {
+
+                // then
+                assertThrows(UncheckedIOException.class, () -> checkpoint.append(success("a")));
+                assertThat(checkpoint.count()).isZero();
+            }
+        }
+
+        @Test
+        @DisplayName("closed checkpoint should not be appended")
+        public void closed_checkpoint_should_not_be_appended() throws IOException {
+            // given
+            ResultCheckpoint<String, Integer> checkpoint = open();
+
+            // when
+            checkpoint.close();
+            checkpoint.close();
+
+            // then
+            assertThrows(IllegalStateException.class, () -> checkpoint.append(success("a")));
+            assertThrows(IllegalStateException.class, checkpoint::force);
+        }
+    }
+}
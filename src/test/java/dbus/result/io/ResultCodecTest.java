@@ -0,0 +1,102 @@
+package dbus.result.io;
+
+import dbus.result.Result;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static dbus.result.Result.failure;
+import static dbus.result.Result.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ResultCodecTest {
+
+    private final ResultCodec<Long, String> codec = ResultCodec.of(PayloadCodec.longs(), PayloadCodec.utf8());
+
+    private Result<Long, String> roundTrip(Result<Long, String> result) {
+        ByteBuffer buffer = ByteBuffer.allocate(codec.encodedSize(result));
+        codec.encode(result, buffer);
+        assertThat(buffer.hasRemaining()).isFalse();
+        return codec.decode(buffer.flip());
+    }
+
+    @Nested
+    @DisplayName("single result")
+    class Single {
+
+        @Test
+        @DisplayName("success should be encoded after a tag byte")
+        public void success_should_be_encoded_after_a_tag_byte() {
+            assertThat(codec.encodedSize(success(42L))).isEqualTo(1 + 8);
+            assertThat(roundTrip(success(42L))).isEqualTo(success(42L));
+        }
+
+        @Test
+        @DisplayName("failure should be encoded after a tag byte")
+        public void failure_should_be_encoded_after_a_tag_byte() {
+            assertThat(codec.encodedSize(failure("naïve"))).isEqualTo(1 + 4 + 6);
+            assertThat(roundTrip(failure("naïve"))).isEqualTo(failure("naïve"));
+        }
+
+        @Test
+        @DisplayName("nested results should be encoded with nested codecs")
+        public void nested_results_should_be_encoded_with_nested_codecs() {
+            // given
+            ResultCodec<Result<Long, String>, Integer> nested = ResultCodec.of(codec, PayloadCodec.ints());
+            ByteBuffer buffer = ByteBuffer.allocate(64);
+
+            // when
+            nested.encode(success(failure("inner")), buffer);
+
+            // then
+            assertThat(nested.decode(buffer.flip())).isEqualTo(success(failure("inner")));
+        }
+
+        @Test
+        @DisplayName("decode should reject unknown tags")
+        public void decode_should_reject_unknown_tags() {
+            assertThrows(IllegalArgumentException.class, () -> codec.decode(ByteBuffer.wrap(new byte[]{3})));
+        }
+    }
+
+    @Nested
+    @DisplayName("batch")
+    class Batch {
+
+        @Test
+        @DisplayName("encodeAll should encode every result after their count")
+        public void encodeAll_should_encode_every_result_after_their_count() {
+            // given
+            List<Result<Long, String>> results = List.of(success(1L), failure("a"), success(2L));
+
+            // when
+            ByteBuffer buffer = codec.encodeAll(results);
+
+            // then
+            assertThat(buffer.remaining()).isEqualTo(4 + 9 + 6 + 9).isEqualTo(codec.encodedSize(results));
+            assertThat(codec.decodeAll(buffer)).isEqualTo(results);
+            assertThat(buffer.hasRemaining()).isFalse();
+        }
+
+        @Test
+        @DisplayName("bytes codec should decode without copying")
+        public void bytes_codec_should_decode_without_copying() {
+            // given
+            ResultCodec<ByteBuffer, Integer> bytes = ResultCodec.of(PayloadCodec.bytes(), PayloadCodec.ints());
+            ByteBuffer buffer = bytes.encodeAll(List.of(success(ByteBuffer.wrap(new byte[]{1, 2, 3}))));
+
+            // when
+            ByteBuffer decoded = bytes.decodeAll(buffer).get(0).successValue();
+
+            // then
+            assertThat(decoded).isEqualTo(ByteBuffer.wrap(new byte[]{1, 2, 3}));
+            assertThat(decoded.isReadOnly()).isTrue();
+            buffer.put(9, (byte) 7);
+            assertThat(decoded.get(0)).isEqualTo((byte) 7);
+        }
+    }
+}
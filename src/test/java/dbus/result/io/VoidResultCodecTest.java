@@ -0,0 +1,44 @@
+package dbus.result.io;
+
+import dbus.result.void_.VoidResult;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class VoidResultCodecTest {
+
+    enum Error {NOT_FOUND, INVALID}
+
+    private final VoidResultCodec<Error> codec = VoidResultCodec.of(PayloadCodec.enums(Error.class));
+
+    @Test
+    public void success_should_only_be_encoded_as_a_tag_byte() {
+        assertThat(codec.encodedSize(VoidResult.success())).isEqualTo(1);
+        assertThat(codec.encodedSize(VoidResult.failure(Error.INVALID))).isEqualTo(5);
+    }
+
+    @Test
+    public void encodeAll_should_encode_every_void_result_after_their_count() {
+        // given
+        List<VoidResult<Error>> voidResults = List.of(
+                VoidResult.success(), VoidResult.failure(Error.INVALID), VoidResult.failure(Error.NOT_FOUND)
+        );
+        ByteBuffer buffer = ByteBuffer.allocate(codec.encodedSize(voidResults));
+
+        // when
+        codec.encodeAll(voidResults, buffer);
+
+        // then
+        assertThat(buffer.hasRemaining()).isFalse();
+        assertThat(codec.decodeAll(buffer.flip())).isEqualTo(voidResults);
+    }
+
+    @Test
+    public void decode_should_reject_unknown_tags() {
+        assertThrows(IllegalArgumentException.class, () -> codec.decode(ByteBuffer.wrap(new byte[]{0})));
+    }
+}
@@ -0,0 +1,155 @@
+package dbus.result.primitive;
+
+import dbus.result.Result;
+import dbus.result.ResultFunction;
+import dbus.result.void_.VoidResult;
+import dbus.result.void_.VoidResultFunction;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Function;
+
+import static dbus.result.primitive.IntResult.failure;
+import static dbus.result.primitive.IntResult.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class IntResultFunctionTest {
+
+    private final IntResultFunction<String, String> parse =
+            s -> s.isEmpty() ? failure("empty") : success(s.length());
+
+    @Nested
+    class Conversion {
+
+        @Test
+        public void asIntResultFunction_should_not_accept_null_input() {
+            //noinspection ResultOfMethodCallIgnored
+            assertThrows(NullPointerException.class, () ->
+                    IntResultFunction.<String, Object>asIntResultFunction(null));
+        }
+
+        @Test
+        public void asIntResultFunction_should_convert_a_returning_int_result_function() {
+            // given
+            Function<String, IntResult<String>> f = s -> success(s.length());
+
+            // when
+            IntResultFunction<String, Object> converted = IntResultFunction.asIntResultFunction(f);
+
+            // then
+            assertThat(converted.apply("four")).isEqualTo(f.apply("four"));
+        }
+
+        @Test
+        public void asIntResultFunction_should_return_the_very_same_function_when_provided_an_int_result_function() {
+            assertThat(IntResultFunction.<String, Object>asIntResultFunction(parse)).isSameAs(parse);
+        }
+
+        @Test
+        public void result_function_mapToInt_should_compose_to_an_int_result_function() {
+            // given
+            ResultFunction<String, String, String> f = s -> s.isEmpty() ? Result.failure("empty") : Result.success(s);
+
+            // when
+            IntResultFunction<String, String> composed = f.mapToInt(String::length);
+
+            // then
+            assertThat(composed.apply("four")).isEqualTo(success(4));
+            assertThat(composed.apply("")).isEqualTo(failure("empty"));
+        }
+
+        @Test
+        public void void_result_function_mapToInt_should_compose_to_an_int_result_function() {
+            // given
+            VoidResultFunction<String, String> f = VoidResultFunction.successIf(s -> !s.isEmpty(), "empty");
+
+            // when
+            IntResultFunction<String, String> composed = f.mapToInt(() -> 12);
+
+            // then
+            assertThat(composed.apply("four")).isEqualTo(success(12));
+            assertThat(composed.apply("")).isEqualTo(failure("empty"));
+        }
+
+        @Test
+        public void boxed_should_compose_to_an_equivalent_result_function() {
+            assertThat(parse.boxed().apply("four")).isEqualTo(Result.success((int) 4));
+            assertThat(parse.boxed().apply("")).isEqualTo(Result.failure("empty"));
+        }
+    }
+
+    @Nested
+    class Map {
+
+        @Test
+        public void map_should_compose_success_side() {
+            assertThat(parse.map(i -> i * 2).apply("four")).isEqualTo(success(8));
+            assertThat(parse.map(() -> 1).apply("four")).isEqualTo(success(1));
+            assertThat(parse.map(i -> i * 2).apply("")).isEqualTo(failure("empty"));
+        }
+
+        @Test
+        public void mapToObj_should_compose_to_a_result_function() {
+            assertThat(parse.mapToObj(String::valueOf).apply("four")).isEqualTo(Result.success(String.valueOf((int) 4)));
+            assertThat(parse.mapToObj(String::valueOf).apply("")).isEqualTo(Result.failure("empty"));
+        }
+
+        @Test
+        public void map_consumer_should_compose_to_a_void_result_function() {
+            assertThat(parse.map((int i) -> {
+            }).apply("four")).isEqualTo(VoidResult.success());
+            assertThat(parse.map((int i) -> {
+            }).apply("")).isEqualTo(VoidResult.failure("empty"));
+        }
+
+        @Test
+        public void mapFailure_should_compose_failure_side() {
+            assertThat(parse.mapFailure(String::length).apply("")).isEqualTo(failure(5));
+            assertThat(parse.mapFailure(() -> 0).apply("")).isEqualTo(failure(0));
+            assertThat(parse.mapFailure(String::length).apply("four")).isEqualTo(success(4));
+        }
+    }
+
+    @Nested
+    class Bind {
+
+        @Test
+        public void flatMap_should_compose_bound_function() {
+            assertThat(parse.flatMap(i -> failure("bound")).apply("four")).isEqualTo(failure("bound"));
+            assertThat(parse.flatMap(() -> success(1)).apply("four")).isEqualTo(success(1));
+            assertThat(parse.flatMap(i -> fail("should not be executed")).apply("")).isEqualTo(failure("empty"));
+        }
+
+        @Test
+        public void flatMapToResult_should_compose_to_a_result_function() {
+            assertThat(parse.flatMapToResult(i -> Result.success("bound")).apply("four")).isEqualTo(Result.success("bound"));
+            assertThat(parse.flatMapToResult(i -> Result.success("bound")).apply("")).isEqualTo(Result.failure("empty"));
+        }
+
+        @Test
+        public void flatMapToVoid_should_compose_to_a_void_result_function() {
+            assertThat(parse.flatMapToVoid(i -> VoidResult.success()).apply("four")).isEqualTo(VoidResult.success());
+            assertThat(parse.flatMapToVoid(i -> VoidResult.success()).apply("")).isEqualTo(VoidResult.failure("empty"));
+        }
+    }
+
+    @Nested
+    class Recover {
+
+        @Test
+        public void thenRecover_should_compose_recovering_function() {
+            assertThat(parse.thenRecover(f -> -1).applyAsInt("four")).isEqualTo(4);
+            assertThat(parse.thenRecover(f -> -1).applyAsInt("")).isEqualTo(-1);
+            assertThat(parse.thenRecover(() -> -1).applyAsInt("")).isEqualTo(-1);
+        }
+
+        @Test
+        public void thenTryRecovering_should_compose_recovering_function() {
+            assertThat(parse.thenTryRecovering(f -> success(0)).apply("")).isEqualTo(success(0));
+            assertThat(parse.thenTryRecovering(() -> failure("still")).apply("")).isEqualTo(failure("still"));
+            assertThat(parse.thenTryRecovering(f -> success(0)).apply("four")).isEqualTo(success(4));
+        }
+    }
+}
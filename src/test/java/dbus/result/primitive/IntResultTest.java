@@ -0,0 +1,370 @@
+package dbus.result.primitive;
+
+import dbus.result.Result;
+import dbus.result.void_.VoidResult;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.OptionalInt;
+import java.util.function.*;
+import java.util.stream.Stream;
+
+import static dbus.result.MockitoLambdaSpying.spiedConsumer;
+import static dbus.result.MockitoLambdaSpying.spyLambda;
+import static dbus.result.primitive.IntResult.failure;
+import static dbus.result.primitive.IntResult.success;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_CLASS;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class IntResultTest {
+
+    @Nested
+    class Equals {
+
+        @Test
+        public void successes_should_comply_with_equals_requirements() {
+            EqualsVerifier.forClass(IntSuccess.class).verify();
+        }
+
+        @Test
+        public void failures_should_comply_with_equals_requirements() {
+            EqualsVerifier.forClass(IntFailure.class).verify();
+        }
+    }
+
+    @Nested
+    class Construction {
+
+        @SuppressWarnings("ResultOfMethodCallIgnored")
+        @Test
+        public void failure_should_not_have_null_value() {
+            assertThrows(NullPointerException.class, () -> failure(null));
+        }
+    }
+
+    @Nested
+    @TestInstance(PER_CLASS)
+    class UnionType {
+
+        @Test
+        public void match_should_execute_success_function_when_result_is_a_success() {
+            // given
+            IntResult<String> success = success(12);
+
+            // when
+            String matched = success.match(i -> "success", f -> fail("should not be executed"));
+
+            // then
+            assertThat(matched).isEqualTo("success");
+        }
+
+        @Test
+        public void match_should_execute_failure_function_when_result_is_a_failure() {
+            // given
+            IntResult<String> failure = failure("failure");
+
+            // when
+            String matched = failure.match(i -> fail("should not be executed"), f -> f);
+
+            // then
+            assertThat(matched).isEqualTo("failure");
+        }
+
+        @ParameterizedTest(name = "match should not accept null functions when result is {0}")
+        @MethodSource("successAndFailure")
+        public void match_should_not_accept_null_functions(IntResult<String> result) {
+            assertThrows(NullPointerException.class, () -> result.match(null, f -> "failure"));
+            assertThrows(NullPointerException.class, () -> result.match(i -> "success", null));
+        }
+
+        @ParameterizedTest(name = "narrow should return the very same result instance when result is {0}")
+        @MethodSource("successAndFailure")
+        public void narrow_should_return_the_same_instance(IntResult<String> result) {
+            // when
+            IntResult<CharSequence> narrowed = IntResult.narrow(result);
+
+            // then
+            assertThat(narrowed).isSameAs(result);
+        }
+
+        Stream<Arguments> successAndFailure() {
+            return IntResultTest.successAndFailure();
+        }
+    }
+
+    @Nested
+    @DisplayName("map functions")
+    @TestInstance(PER_CLASS)
+    class Functor {
+
+        @ParameterizedTest(name = "map functions should not accept null parameters when result is {0}")
+        @MethodSource("successAndFailure")
+        public void map_functions_should_not_accept_null_parameters(IntResult<String> result) {
+            assertThrows(NullPointerException.class, () -> result.map((IntUnaryOperator) null));
+            assertThrows(NullPointerException.class, () -> result.map((IntSupplier) null));
+            assertThrows(NullPointerException.class, () -> result.map((IntConsumer) null));
+            assertThrows(NullPointerException.class, () -> result.mapToObj(null));
+            assertThrows(NullPointerException.class, () -> result.mapFailure((Function<String, String>) null));
+            assertThrows(NullPointerException.class, () -> result.mapFailure((Supplier<String>) null));
+            assertThrows(NullPointerException.class, () -> result.mapFailure((Consumer<String>) null));
+        }
+
+        Stream<Arguments> successAndFailure() {
+            return IntResultTest.successAndFailure();
+        }
+
+        @Test
+        public void map_should_apply_mapper_when_result_is_a_success() {
+            assertThat(IntResult.<String>success(12).map(i -> i + 1)).isEqualTo(success(13));
+        }
+
+        @Test
+        public void map_should_return_current_failure_when_result_is_a_failure() {
+            // given
+            IntResult<String> failure = failure("failure");
+
+            // when
+            IntResult<String> mapped = failure.map(i -> i + 1);
+
+            // then
+            assertThat(mapped).isSameAs(failure);
+        }
+
+        @Test
+        public void map_supplier_should_supply_new_success_when_result_is_a_success() {
+            assertThat(IntResult.<String>success(12).map(() -> 42)).isEqualTo(success(42));
+        }
+
+        @Test
+        public void mapToObj_should_bridge_to_result() {
+            assertThat(IntResult.<String>success(12).mapToObj(String::valueOf))
+                    .isEqualTo(Result.success(String.valueOf((int) 12)));
+            assertThat(IntResult.<String>failure("failure").mapToObj(String::valueOf))
+                    .isEqualTo(Result.failure("failure"));
+        }
+
+        @Test
+        public void map_consumer_should_consume_success_and_bridge_to_void_result() {
+            // given
+            IntConsumer consumer = spyLambda(i -> {
+            }, IntConsumer.class);
+
+            // when
+            VoidResult<String> mapped = IntResult.<String>success(12).map(consumer);
+
+            // then
+            verify(consumer).accept(12);
+            assertThat(mapped).isEqualTo(VoidResult.success());
+        }
+
+        @Test
+        public void map_consumer_should_not_consume_failure() {
+            // given
+            IntConsumer consumer = spyLambda(i -> {
+            }, IntConsumer.class);
+
+            // when
+            VoidResult<String> mapped = IntResult.<String>failure("failure").map(consumer);
+
+            // then
+            verify(consumer, never()).accept(12);
+            assertThat(mapped).isEqualTo(VoidResult.failure("failure"));
+        }
+
+        @Test
+        public void mapFailure_should_map_failure_when_result_is_a_failure() {
+            assertThat(IntResult.<String>failure("failure").mapFailure(String::length)).isEqualTo(failure(7));
+            assertThat(IntResult.<String>failure("failure").mapFailure(() -> 3)).isEqualTo(failure(3));
+        }
+
+        @Test
+        public void mapFailure_should_return_current_success_when_result_is_a_success() {
+            // given
+            IntResult<String> success = success(12);
+
+            // when
+            IntResult<Number> mapped = success.mapFailure(String::length);
+
+            // then
+            assertThat(mapped).isSameAs(success);
+        }
+
+        @Test
+        public void mapFailure_consumer_should_return_success_as_optional() {
+            // given
+            Consumer<String> consumer = spiedConsumer();
+
+            // when
+            OptionalInt optional = IntResult.<String>success(12).mapFailure(consumer);
+
+            // then
+            verify(consumer, never()).accept(any());
+            assertThat(optional).isEqualTo(OptionalInt.of(12));
+        }
+
+        @Test
+        public void mapFailure_consumer_should_consume_failure() {
+            // given
+            Consumer<String> consumer = spiedConsumer();
+
+            // when
+            OptionalInt optional = IntResult.<String>failure("failure").mapFailure(consumer);
+
+            // then
+            verify(consumer).accept("failure");
+            assertThat(optional).isEqualTo(OptionalInt.empty());
+        }
+    }
+
+    @Nested
+    @DisplayName("bind functions")
+    @TestInstance(PER_CLASS)
+    class Monad {
+
+        @Test
+        public void flatMap_should_return_bound_result_when_result_is_a_success() {
+            // given
+            IntResult<String> bound = failure("bound failure");
+
+            // then
+            assertThat(IntResult.<String>success(12).flatMap(i -> bound)).isSameAs(bound);
+            assertThat(IntResult.<String>success(12).flatMap(() -> bound)).isSameAs(bound);
+        }
+
+        @Test
+        public void flatMap_should_return_current_failure_when_result_is_a_failure() {
+            // given
+            IntResult<String> failure = failure("failure");
+
+            // then
+            assertThat(failure.flatMap(i -> fail("should not be executed"))).isSameAs(failure);
+            assertThat(failure.flatMap(() -> fail("should not be executed"))).isSameAs(failure);
+        }
+
+        @Test
+        public void flatMapToResult_should_bridge_to_result() {
+            assertThat(IntResult.<String>success(12).flatMapToResult(i -> Result.success("success")))
+                    .isEqualTo(Result.success("success"));
+            assertThat(IntResult.<String>failure("failure").flatMapToResult(i -> fail("should not be executed")))
+                    .isEqualTo(Result.failure("failure"));
+        }
+
+        @Test
+        public void flatMapToVoid_should_bridge_to_void_result() {
+            assertThat(IntResult.<String>success(12).flatMapToVoid(i -> VoidResult.failure("bound failure")))
+                    .isEqualTo(VoidResult.failure("bound failure"));
+            assertThat(IntResult.<String>failure("failure").flatMapToVoid(i -> fail("should not be executed")))
+                    .isEqualTo(VoidResult.failure("failure"));
+        }
+
+        @ParameterizedTest(name = "bind functions should not accept null parameters when result is {0}")
+        @MethodSource("successAndFailure")
+        public void bind_functions_should_not_accept_null_parameters(IntResult<String> result) {
+            assertThrows(NullPointerException.class, () -> result.flatMap((IntFunction<IntResult<String>>) null));
+            assertThrows(NullPointerException.class, () -> result.flatMap((Supplier<IntResult<String>>) null));
+            assertThrows(NullPointerException.class, () -> result.flatMapToResult(null));
+            assertThrows(NullPointerException.class, () -> result.flatMapToVoid(null));
+        }
+
+        Stream<Arguments> successAndFailure() {
+            return IntResultTest.successAndFailure();
+        }
+    }
+
+    @Nested
+    @DisplayName("recover functions")
+    @TestInstance(PER_CLASS)
+    class Recover {
+
+        @Test
+        public void recover_should_return_current_success_when_result_is_a_success() {
+            assertThat(IntResult.<String>success(12).recover(String::length)).isEqualTo(12);
+            assertThat(IntResult.<String>success(12).recover(() -> 0)).isEqualTo(12);
+        }
+
+        @Test
+        public void recover_should_recover_current_failure_when_result_is_a_failure() {
+            assertThat(IntResult.failure("failure").recover(f -> 7)).isEqualTo(7);
+            assertThat(IntResult.failure("failure").recover(() -> 0)).isEqualTo(0);
+        }
+
+        @Test
+        public void tryRecovering_should_return_current_success_when_result_is_a_success() {
+            // given
+            IntResult<String> success = success(12);
+
+            // then
+            assertThat(success.tryRecovering(f -> fail("should not be executed"))).isSameAs(success);
+            assertThat(success.tryRecovering(() -> fail("should not be executed"))).isSameAs(success);
+        }
+
+        @Test
+        public void tryRecovering_should_return_recovering_result_when_result_is_a_failure() {
+            // given
+            IntResult<String> recovering = success(42);
+
+            // then
+            assertThat(IntResult.<String>failure("failure").tryRecovering(f -> recovering)).isSameAs(recovering);
+            assertThat(IntResult.<String>failure("failure").tryRecovering(() -> recovering)).isSameAs(recovering);
+        }
+
+        @ParameterizedTest(name = "recover functions should not accept null parameters when result is {0}")
+        @MethodSource("successAndFailure")
+        public void recover_functions_should_not_accept_null_parameters(IntResult<String> result) {
+            assertThrows(NullPointerException.class, () -> result.recover((ToIntFunction<String>) null));
+            assertThrows(NullPointerException.class, () -> result.recover((IntSupplier) null));
+            assertThrows(NullPointerException.class, () -> result.tryRecovering((Function<String, IntResult<String>>) null));
+            assertThrows(NullPointerException.class, () -> result.tryRecovering((Supplier<IntResult<String>>) null));
+        }
+
+        Stream<Arguments> successAndFailure() {
+            return IntResultTest.successAndFailure();
+        }
+    }
+
+    @Nested
+    @DisplayName("bridges")
+    class Bridges {
+
+        @Test
+        public void boxed_should_return_an_equivalent_result() {
+            assertThat(IntResult.<String>success(12).boxed()).isEqualTo(Result.success((int) 12));
+            assertThat(IntResult.<String>failure("failure").boxed()).isEqualTo(Result.failure("failure"));
+        }
+
+        @Test
+        public void result_mapToInt_should_return_an_int_result() {
+            // given
+            Result<String, String> success = Result.success("success");
+            Result<String, String> failure = Result.failure("failure");
+
+            // then
+            assertThat(success.mapToInt(String::length)).isEqualTo(success(7));
+            assertThat(failure.mapToInt(String::length)).isEqualTo(failure("failure"));
+        }
+
+        @Test
+        public void void_result_mapToInt_should_return_an_int_result() {
+            assertThat(VoidResult.<String>success().mapToInt(() -> 12)).isEqualTo(success(12));
+            assertThat(VoidResult.failure("failure").mapToInt(() -> 12)).isEqualTo(failure("failure"));
+        }
+    }
+
+    static Stream<Arguments> successAndFailure() {
+        return Stream.of(
+                Arguments.of(IntResult.<String>success(12)),
+                Arguments.of(IntResult.<String>failure("failure"))
+        );
+    }
+}
@@ -1,6 +1,7 @@
 package dbus.result.void_;
 
 import dbus.result.Result;
+import dbus.result.ResultPipeline;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.AssertionsForClassTypes;
 import org.junit.jupiter.api.DisplayName;
@@ -48,6 +49,18 @@ class VoidResultFunctionTest {
             // then
             assertThat(converted.apply(72)).isEqualTo(f.apply(72));
         }
+
+        @Test
+        public void asVoidResultFunction_should_return_the_very_same_function_when_provided_a_void_result_function() {
+            // given
+            VoidResultFunction<Number, String> f = n -> VoidResult.failure(n.toString());
+
+            // when
+            VoidResultFunction<Integer, Object> converted = VoidResultFunction.asVoidResultFunction(f);
+
+            // then
+            assertThat(converted).isSameAs(f);
+        }
     }
 
 
@@ -586,4 +599,79 @@ class VoidResultFunctionTest {
         }
     }
 
-}
\ No newline at end of file
+    @Nested
+    class SuccessIf {
+
+        @Test
+        public void successIf_should_return_the_same_failure_on_each_failed_test() {
+            // given
+            VoidResultFunction<String, String> notEmpty = VoidResultFunction.successIf(s -> !s.isEmpty(), "empty");
+
+            // when
+            VoidResult<String> first = notEmpty.apply("");
+            VoidResult<String> second = notEmpty.apply("");
+
+            // then
+            assertThat(first).isEqualTo(failure("empty")).isSameAs(second);
+            assertThat(notEmpty.apply("four")).isEqualTo(success());
+        }
+
+        @Test
+        public void successIf_should_not_accept_null_failure() {
+            assertThrows(NullPointerException.class, () -> VoidResultFunction.successIf(s -> true, (String) null));
+        }
+    }
+
+    @Nested
+    class Match {
+
+        private final VoidResultFunction<String, Integer> notEmpty = VoidResultFunction.successIf(s -> !s.isEmpty(), -1);
+
+        @Test
+        public void thenMatch_primitive_functions_should_fold_success() {
+            assertThat(notEmpty.thenMatchInt(() -> 1, f -> f).applyAsInt("four")).isEqualTo(1);
+            assertThat(notEmpty.thenMatchLong(() -> 1L, f -> f).applyAsLong("four")).isEqualTo(1L);
+            assertThat(notEmpty.thenMatchDouble(() -> 1d, f -> f).applyAsDouble("four")).isEqualTo(1d);
+            assertThat(notEmpty.thenMatchBoolean(() -> true, f -> false).test("four")).isTrue();
+        }
+
+        @Test
+        public void thenMatch_primitive_functions_should_fold_failure() {
+            assertThat(notEmpty.thenMatchInt(() -> 1, f -> f).applyAsInt("")).isEqualTo(-1);
+            assertThat(notEmpty.thenMatchLong(() -> 1L, f -> f).applyAsLong("")).isEqualTo(-1L);
+            assertThat(notEmpty.thenMatchDouble(() -> 1d, f -> f).applyAsDouble("")).isEqualTo(-1d);
+            assertThat(notEmpty.thenMatchBoolean(() -> true, f -> false).test("")).isFalse();
+        }
+
+        @Test
+        public void thenMatch_primitive_functions_should_not_accept_null_functions() {
+            assertThrows(NullPointerException.class, () -> notEmpty.thenMatchInt(null, f -> f));
+            assertThrows(NullPointerException.class, () -> notEmpty.thenMatchLong(() -> 1L, null));
+            assertThrows(NullPointerException.class, () -> notEmpty.thenMatchDouble(null, f -> f));
+            assertThrows(NullPointerException.class, () -> notEmpty.thenMatchBoolean(() -> true, null));
+        }
+    }
+
+    @Nested
+    class Compilation {
+
+        @Test
+        public void compiled_pipeline_should_return_the_same_results_as_the_composed_function() {
+            // given
+            VoidResultFunction<String, String> composed = VoidResultFunction.<String, Integer>successIf(s -> !s.isEmpty(), -1)
+                    .map(() -> {
+                    })
+                    .flatMap(() -> success())
+                    .thenTryRecovering(f -> f == -1 ? failure(0) : success())
+                    .mapFailure(Object::toString);
+
+            // when
+            VoidResultFunction<String, String> compiled = ResultPipeline.compile(composed);
+
+            // then
+            assertThat(compiled.getClass().isHidden()).isTrue();
+            assertThat(compiled.apply("a")).isEqualTo(composed.apply("a"));
+            assertThat(compiled.apply("")).isEqualTo(failure("0"));
+        }
+    }
+}
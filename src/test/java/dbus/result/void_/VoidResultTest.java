@@ -10,6 +10,8 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -56,6 +58,17 @@ class VoidResultTest {
             );
         }
 
+        @Test
+        public void enum_failures_should_be_preallocated() {
+            // when
+            VoidResult<TimeUnit> failure = failure(TimeUnit.SECONDS);
+
+            // then
+            assertThat(failure).isSameAs(VoidResult.successIf(false, TimeUnit.SECONDS));
+            assertThat(failure).isNotSameAs(failure(TimeUnit.MINUTES));
+            assertThat(failure.failureValue()).isEqualTo(TimeUnit.SECONDS);
+        }
+
     }
 
     @Nested
@@ -114,6 +127,78 @@ class VoidResultTest {
             );
         }
 
+        @Test
+        public void accessors_should_expose_state_when_void_result_is_a_success() {
+            // given
+            VoidResult<Integer> success = success();
+
+            // then
+            assertThat(success.isSuccess()).isTrue();
+            assertThat(success.isFailure()).isFalse();
+            assertThrows(NoSuchElementException.class, success::failureValue);
+        }
+
+        @Test
+        public void accessors_should_expose_failure_when_void_result_is_a_failure() {
+            // given
+            VoidResult<Integer> failure = failure(14);
+
+            // then
+            assertThat(failure.isSuccess()).isFalse();
+            assertThat(failure.isFailure()).isTrue();
+            assertThat(failure.failureValue()).isEqualTo(14);
+        }
+
+        @Test
+        public void pattern_matching_should_give_access_to_the_failure_value() {
+            // given
+            VoidResult<Integer> result = failure(14);
+
+            // then
+            if (result instanceof Failure<Integer> failure) {
+                assertThat(failure.value()).isEqualTo(14);
+            } else {
+                fail("result should be a failure");
+            }
+        }
+
+        @Test
+        public void primitive_matches_should_execute_success_supplier_when_void_result_is_a_success() {
+            // given
+            VoidResult<Integer> success = success();
+
+            // then
+            assertThat(success.matchInt(() -> 1, i -> fail("should not be executed"))).isEqualTo(1);
+            assertThat(success.matchLong(() -> 1L, i -> fail("should not be executed"))).isEqualTo(1L);
+            assertThat(success.matchDouble(() -> 1d, i -> fail("should not be executed"))).isEqualTo(1d);
+            assertThat(success.matchBoolean(() -> true, i -> fail("should not be executed"))).isTrue();
+        }
+
+        @Test
+        public void primitive_matches_should_execute_failure_function_when_void_result_is_a_failure() {
+            // given
+            VoidResult<Integer> failure = failure(14);
+
+            // then
+            assertThat(failure.matchInt(() -> fail("should not be executed"), i -> i)).isEqualTo(14);
+            assertThat(failure.matchLong(() -> fail("should not be executed"), i -> i)).isEqualTo(14L);
+            assertThat(failure.matchDouble(() -> fail("should not be executed"), i -> i)).isEqualTo(14d);
+            assertThat(failure.matchBoolean(() -> fail("should not be executed"), i -> false)).isFalse();
+        }
+
+        @ParameterizedTest(name = "primitive matches should not accept null functions when void result is {0}")
+        @MethodSource("successAndFailure")
+        public void primitive_matches_should_not_accept_null_functions(VoidResult<String> result) {
+            assertThrows(NullPointerException.class, () -> result.matchInt(null, String::length));
+            assertThrows(NullPointerException.class, () -> result.matchInt(() -> 1, null));
+            assertThrows(NullPointerException.class, () -> result.matchLong(null, String::length));
+            assertThrows(NullPointerException.class, () -> result.matchLong(() -> 1L, null));
+            assertThrows(NullPointerException.class, () -> result.matchDouble(null, String::length));
+            assertThrows(NullPointerException.class, () -> result.matchDouble(() -> 1d, null));
+            assertThrows(NullPointerException.class, () -> result.matchBoolean(null, String::isEmpty));
+            assertThrows(NullPointerException.class, () -> result.matchBoolean(() -> true, null));
+        }
+
         Stream<Arguments> successAndFailure() {
             return VoidResultTest.successAndFailure();
         }
@@ -143,11 +228,51 @@ class VoidResultTest {
 
         }
 
+        @ParameterizedTest(name = "narrow should return the very same void result instance when void result input is not null")
+        @MethodSource("subTypeResults")
+        public void narrow_should_return_the_same_instance_when_input_is_not_null(VoidResult<?> voidResult) {
+            // when
+            VoidResult<Object> narrowed = VoidResult.narrow(voidResult);
+
+            // then
+            assertThat(narrowed).isSameAs(voidResult);
+        }
+
         Stream<Arguments> subTypeResults() {
             return VoidResultTest.subTypeResults();
         }
     }
 
+    @Nested
+    @DisplayName("short-circuiting")
+    class Traverse {
+
+        @Test
+        public void traverse_should_return_a_success_when_no_failure() {
+            assertThat(VoidResult.traverse(Stream.of(success(), success()))).isEqualTo(success());
+            assertThat(VoidResult.traverse(Stream.empty())).isEqualTo(success());
+        }
+
+        @Test
+        public void traverse_should_return_the_first_failure_and_stop_pulling_from_the_stream() {
+            // given
+            Function<Integer, VoidResult<String>> validate =
+                    spiedFunction(i -> i == 3 ? failure("failure " + i) : success());
+
+            // when
+            VoidResult<String> traversed = VoidResult.traverse(Stream.iterate(0, i -> i + 1).map(validate));
+
+            // then
+            assertThat(traversed).isEqualTo(failure("failure 3"));
+            verify(validate, times(4)).apply(any());
+        }
+
+        @Test
+        public void traverse_should_not_accept_null_stream() {
+            assertThrows(NullPointerException.class, () -> VoidResult.traverse(null));
+        }
+    }
+
     static Stream<Arguments> subTypeResults() {
         return Stream.of(
                 Arguments.of(VoidResult.<Number>success()),